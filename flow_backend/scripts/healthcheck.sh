@@ -0,0 +1,10 @@
+#!/bin/bash
+# 컨테이너 헬스체크 (curl 미설치 이미지용)
+# - bash /dev/tcp 로 /actuator/health 를 요청하고 "UP" 상태인지 확인
+set -eu
+
+PORT=${SERVER_PORT:-8080}
+
+exec 3<>"/dev/tcp/127.0.0.1/$PORT"
+printf 'GET /actuator/health HTTP/1.0\r\nHost: localhost\r\n\r\n' >&3
+grep -q '"status":"UP"' <&3
@@ -0,0 +1,27 @@
+#!/bin/sh
+# 이미지 크기 / 레이어 / 기동 후 RSS 측정
+# 사용법: docker compose build flow_backend && docker compose up -d mariadb && ./scripts/image-footprint.sh
+# - MEMORY 로 컨테이너 메모리 한도를 지정 (힙은 MaxRAMPercentage 기준으로 자동 산정)
+set -eu
+
+IMAGE=${IMAGE:-flow-flow_backend}
+NETWORK=${NETWORK:-flow_flow_network}
+MEMORY=${MEMORY:-768m}
+PORT=18080
+
+size=$(docker image inspect --format '{{.Size}}' "$IMAGE")
+printf 'image %s: %d MB\n' "$IMAGE" $((size / 1024 / 1024))
+docker history --format '{{.Size}}\t{{.CreatedBy}}' "$IMAGE" | head -n 12
+
+cid=$(docker run -d --rm --network "$NETWORK" -p "$PORT:8080" --memory "$MEMORY" \
+    -e SPRING_PROFILES_ACTIVE=prod "$IMAGE")
+trap 'docker stop "$cid" > /dev/null' EXIT
+
+until [ "$(docker inspect --format '{{.State.Health.Status}}' "$cid")" = "healthy" ]; do
+    sleep 1
+done
+
+printf 'memory limit %s\n' "$MEMORY"
+docker exec "$cid" sh -c 'grep -E "VmRSS|VmHWM" /proc/1/status'
+docker exec "$cid" sh -c 'java $JAVA_OPTS -XX:+PrintFlagsFinal -version 2>/dev/null | grep -E " MaxHeapSize| UseG1GC| UseZGC"'
+docker stats --no-stream --format 'docker stats: {{.MemUsage}}' "$cid"
@@ -0,0 +1,38 @@
+#!/bin/sh
+# 기동 모드별 기동 시간 / 첫 요청까지의 시간 측정
+# 사용법: docker compose up -d mariadb && ./scripts/startup-benchmark.sh [반복 횟수]
+# - 각 모드로 flow_backend 이미지를 실행하고
+#   "Started Application in X seconds" 로그와 /actuator/health 첫 200 응답까지의 시간을 출력
+set -eu
+
+IMAGE=${IMAGE:-flow-flow_backend}
+NETWORK=${NETWORK:-flow_flow_network}
+RUNS=${1:-3}
+PORT=18080
+
+run_mode() {
+    mode=$1
+    opts=$2
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        start=$(date +%s%N)
+        cid=$(docker run -d --rm --network "$NETWORK" -p "$PORT:8080" \
+            -e SPRING_PROFILES_ACTIVE=prod -e STARTUP_OPTS="$opts" "$IMAGE")
+
+        until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null 2>&1; do
+            sleep 0.05
+        done
+        first_request_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+
+        started=$(docker logs "$cid" 2>&1 | sed -n 's/.*Started Application in \([0-9.]*\) seconds.*/\1/p' | head -n 1)
+        docker stop "$cid" > /dev/null
+
+        printf '%-8s run %d: started in %ss, first request after %dms\n' "$mode" "$i" "$started" "$first_request_ms"
+        i=$((i + 1))
+    done
+}
+
+run_mode "jar" ""
+run_mode "aot" "-Dspring.aot.enabled=true"
+run_mode "cds" "-XX:SharedArchiveFile=app.jsa -Xshare:auto"
+run_mode "aot+cds" "-XX:SharedArchiveFile=app.jsa -Xshare:auto -Dspring.aot.enabled=true"
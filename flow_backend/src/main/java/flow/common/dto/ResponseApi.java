@@ -5,52 +5,46 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 공통 응답 envelope
+ * - setter 가 없어 생성 후 바뀌지 않으므로 내용이 고정된 응답은 상수로 만들어 재사용 가능 (요청마다 새로 만들지 않음)
+ * - static 팩토리는 빌더 객체 없이 생성자로 바로 생성
+ */
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class ResponseApi<T> {
 
+    private static final String DEFAULT_SUCCESS_MESSAGE = "성공";
+    private static final ResponseApi<?> EMPTY_SUCCESS = new ResponseApi<>(true, DEFAULT_SUCCESS_MESSAGE, null, null);
+
     private boolean success;
     private String message;
     private T data;
     private String errorCode;
 
     public static <T> ResponseApi<T> success(T data) {
-        return ResponseApi.<T>builder()
-                .success(true)
-                .message("성공")
-                .data(data)
-                .build();
+        if (data == null) {
+            return success();
+        }
+        return new ResponseApi<>(true, DEFAULT_SUCCESS_MESSAGE, data, null);
     }
 
     public static <T> ResponseApi<T> success(T data, String message) {
-        return ResponseApi.<T>builder()
-                .success(true)
-                .message(message)
-                .data(data)
-                .build();
+        return new ResponseApi<>(true, message, data, null);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> ResponseApi<T> success() {
-        return ResponseApi.<T>builder()
-                .success(true)
-                .message("성공")
-                .build();
+        return (ResponseApi<T>) EMPTY_SUCCESS;
     }
 
     public static <T> ResponseApi<T> error(String message) {
-        return ResponseApi.<T>builder()
-                .success(false)
-                .message(message)
-                .build();
+        return new ResponseApi<>(false, message, null, null);
     }
 
     public static <T> ResponseApi<T> error(String message, String errorCode) {
-        return ResponseApi.<T>builder()
-                .success(false)
-                .message(message)
-                .errorCode(errorCode)
-                .build();
+        return new ResponseApi<>(false, message, null, errorCode);
     }
-}
\ No newline at end of file
+}
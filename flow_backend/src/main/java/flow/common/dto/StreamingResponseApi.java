@@ -0,0 +1,63 @@
+package flow.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * ResponseApi 와 같은 형태의 성공 응답을 목록 전체를 메모리에 올리지 않고 바로 출력
+ * - data 배열 항목은 받는 즉시 직렬화되므로 메모리 사용량이 항목 수와 무관
+ * - 항목 수는 끝까지 읽어야 알 수 있으므로 message 를 data 뒤에 기록 (JSON 필드 순서만 다름)
+ * - 출력 도중 실패하면 이미 응답이 커밋된 상태이므로 오류 응답으로 바꿀 수 없고 연결이 끊김
+ */
+public final class StreamingResponseApi {
+
+    private StreamingResponseApi() {
+    }
+
+    public static <T> void write(ObjectMapper objectMapper,
+                                 HttpServletResponse response,
+                                 ItemSource<T> source,
+                                 LongFunction<String> message) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeArrayFieldStart("data");
+
+            long count;
+            try {
+                count = source.forEach(item -> {
+                    try {
+                        generator.writeObject(item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            generator.writeEndArray();
+            generator.writeStringField("message", message.apply(count));
+            generator.writeNullField("errorCode");
+            generator.writeEndObject();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ItemSource<T> {
+        /**
+         * 항목을 순서대로 consumer 에 전달하고 전달한 개수를 반환
+         */
+        long forEach(Consumer<? super T> consumer);
+    }
+}
@@ -3,6 +3,13 @@ package flow.common.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+/**
+ * 비즈니스 예외
+ * - "없는 파일", "차단된 확장자" 처럼 정상 흐름에서 자주 발생하는 결과를 나타내므로 스택 트레이스를 만들지 않음
+ *   (예외 생성 비용 대부분이 스택 수집이며, 컨트롤러에서 잡아 응답으로 바꾸므로 쓰이지 않음)
+ * - 500 은 원인 추적이 필요하므로 스택 트레이스 유지
+ * - 스택/suppressed 가 없어 상태가 바뀌지 않으므로 메시지가 고정된 예외는 상수로 만들어 재사용 가능
+ */
 @Getter
 public class BusinessException extends RuntimeException {
 
@@ -10,7 +17,7 @@ public class BusinessException extends RuntimeException {
     private final String errorCode;
 
     public BusinessException(String message, HttpStatus status, String errorCode) {
-        super(message);
+        super(message, null, false, status == HttpStatus.INTERNAL_SERVER_ERROR);
         this.status = status;
         this.errorCode = errorCode;
     }
@@ -40,7 +47,11 @@ public class BusinessException extends RuntimeException {
         return new BusinessException(message, HttpStatus.CONFLICT, "CONFLICT");
     }
 
+    public static BusinessException insufficientStorage(String message) {
+        return new BusinessException(message, HttpStatus.INSUFFICIENT_STORAGE, "INSUFFICIENT_STORAGE");
+    }
+
     public static BusinessException internalServerError(String message) {
         return new BusinessException(message, HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR");
     }
-}
\ No newline at end of file
+}
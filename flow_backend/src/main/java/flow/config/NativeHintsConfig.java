@@ -0,0 +1,38 @@
+package flow.config;
+
+import flow.common.dto.ResponseApi;
+import flow.common.entity.BaseEntity;
+import flow.domain.extension.entity.CustomExtension;
+import flow.domain.extension.entity.FixedExtension;
+import flow.domain.extension.policy.ExtensionPolicyDiff;
+import flow.domain.file.dto.FileStatsDelta;
+import flow.domain.file.integrity.ChecksumRef;
+import flow.domain.file.storage.RetentionCandidate;
+import flow.domain.file.storage.StoredFileRef;
+import flow.domain.file.storage.TierCandidate;
+import flow.domain.file.storage.TierUsage;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraalVM native image 용 리플렉션 힌트
+ * - 컨트롤러 반환 타입은 Spring AOT 가 자동으로 힌트를 생성하지만,
+ *   ExtensionPolicyCache/Broadcaster 처럼 ObjectMapper 로 직접 직렬화하는 타입과
+ *   JPQL 생성자 projection 타입은 여기서 등록
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        ResponseApi.class,
+        BaseEntity.class,
+        FixedExtension.class,
+        CustomExtension.class,
+        ExtensionPolicyDiff.class,
+        StoredFileRef.class,
+        RetentionCandidate.class,
+        FileStatsDelta.class,
+        ChecksumRef.class,
+        TierCandidate.class,
+        TierUsage.class
+})
+public class NativeHintsConfig {
+}
@@ -0,0 +1,39 @@
+package flow.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 백그라운드 작업(@Scheduled) 활성화
+ * - 저장소 정합성 검사 등 주기 작업은 각 컴포넌트에서 app.* 설정으로 주기를 지정
+ * - 짧은 주기 작업(purge, 다운로드 카운터 반영, 캐시 정리 등)은 기본 스케줄러(spring.task.scheduling.pool.size)
+ * - 수 시간 걸릴 수 있는 전체 스캔 작업(무결성 검사, 정합성 검사, 티어 이동)은 MAINTENANCE_SCHEDULER 에서 실행하여
+ *   짧은 주기 작업을 막지 않음
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String MAINTENANCE_SCHEDULER = "maintenanceScheduler";
+
+    /**
+     * 별도 TaskScheduler 빈을 등록하면 기본 스케줄러 자동 구성이 빠지므로 같은 설정(spring.task.scheduling.*)으로 직접 등록
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = MAINTENANCE_SCHEDULER)
+    public ThreadPoolTaskScheduler maintenanceScheduler(
+            @Value("${app.scheduling.maintenance.pool-size:3}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("maintenance-");
+        return scheduler;
+    }
+}
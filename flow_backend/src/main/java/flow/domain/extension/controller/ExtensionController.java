@@ -3,15 +3,23 @@ package flow.domain.extension.controller;
 import flow.common.dto.ResponseApi;
 import flow.common.exception.BusinessException;
 import flow.domain.extension.entity.CustomExtension;
+import flow.domain.extension.policy.ExtensionPolicyBroadcaster;
+import flow.domain.extension.policy.ExtensionPolicyCache;
+import flow.domain.extension.policy.ExtensionPolicySnapshot;
 import flow.domain.extension.service.ExtensionService;
 import flow.domain.extension.entity.FixedExtension;
 import flow.domain.extension.dto.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,20 +28,101 @@ import java.util.List;
 @Slf4j
 public class ExtensionController {
 
+    // 내용이 고정된 응답은 요청마다 만들지 않고 재사용
+    private static final ResponseApi<String> FIXED_INITIALIZED = ResponseApi.success("고정 확장자가 초기화되었습니다.");
+    private static final ResponseApi<String> FIXED_RESET = ResponseApi.success("고정 확장자가 기본 상태로 초기화되었습니다.");
+
     private final ExtensionService extensionService;
+    private final ExtensionPolicyCache policyCache;
+    private final ExtensionPolicyBroadcaster policyBroadcaster;
 
     @GetMapping("/fixed")
-    public ResponseEntity<ResponseApi<List<FixedExtension>>> getFixedExtensions() {
-        List<FixedExtension> fixedExtensions = extensionService.getAllFixedExtensions();
-        String message = String.format("고정 확장자 %d/%d", fixedExtensions.size(), 10);
-        return ResponseEntity.ok(ResponseApi.success(fixedExtensions, message));
+    public ResponseEntity<byte[]> getFixedExtensions(WebRequest request) {
+        if (request.checkNotModified(policyCache.currentEtag("fixed"))) {
+            return null;
+        }
+
+        ExtensionPolicySnapshot snapshot = policyCache.get("fixed", () -> {
+            List<FixedExtension> fixedExtensions = extensionService.getAllFixedExtensions();
+            String message = String.format("고정 확장자 %d/%d", fixedExtensions.size(), extensionService.getMaxFixedExtensions());
+            return ResponseApi.success(fixedExtensions, message);
+        });
+        return cachedPolicyResponse(snapshot);
     }
 
     @GetMapping("/custom")
-    public ResponseEntity<ResponseApi<List<CustomExtension>>> getCustomExtensions() {
-        List<CustomExtension> customExtensions = extensionService.getAllCustomExtensions();
-        String message = String.format("커스텀 확장자 %d/%d", customExtensions.size(), 200);
-        return ResponseEntity.ok(ResponseApi.success(customExtensions, message));
+    public ResponseEntity<byte[]> getCustomExtensions(WebRequest request) {
+        if (request.checkNotModified(policyCache.currentEtag("custom"))) {
+            return null;
+        }
+
+        ExtensionPolicySnapshot snapshot = policyCache.get("custom", () -> {
+            List<CustomExtension> customExtensions = extensionService.getAllCustomExtensions();
+            String message = String.format("커스텀 확장자 %d/%d", customExtensions.size(), extensionService.getMaxCustomExtensions());
+            return ResponseApi.success(customExtensions, message);
+        });
+        return cachedPolicyResponse(snapshot);
+    }
+
+    @GetMapping("/limits")
+    public ResponseEntity<ResponseApi<ExtensionLimitResponse>> getExtensionLimits() {
+        ExtensionLimitResponse response = ExtensionLimitResponse.builder()
+                .maxFixedExtensions(extensionService.getMaxFixedExtensions())
+                .maxCustomExtensions(extensionService.getMaxCustomExtensions())
+                .customExtensionCount(extensionService.getCustomExtensionCount())
+                .build();
+        return ResponseEntity.ok(ResponseApi.success(response));
+    }
+
+    @GetMapping("/custom/page")
+    public ResponseEntity<ResponseApi<CustomExtensionPageResponse>> getCustomExtensionPage(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CustomExtensionPageResponse page = extensionService.getCustomExtensionPage(q, cursor, size);
+            String message = String.format("커스텀 확장자 %d개", page.getItems().size());
+            return ResponseEntity.ok(ResponseApi.success(page, message));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    @GetMapping("/blocked")
+    public ResponseEntity<byte[]> getBlockedExtensions(WebRequest request) {
+        if (request.checkNotModified(policyCache.currentEtag("blocked"))) {
+            return null;
+        }
+
+        ExtensionPolicySnapshot snapshot = policyCache.get("blocked", () -> {
+            List<String> blockedExtensions = extensionService.getAllBlockedExtensions();
+            String message = String.format("차단된 확장자 %d개", blockedExtensions.size());
+            return ResponseApi.success(blockedExtensions, message);
+        });
+        return cachedPolicyResponse(snapshot);
+    }
+
+    /**
+     * 브라우저 사전 검사용 차단 확장자 번들
+     * - 정렬된 소문자 확장자를 한 줄에 하나씩 담은 text/plain
+     * - 정책 버전이 바뀔 때만 다시 생성되며, 클라이언트는 ETag 로 재검증
+     * - 업로드 시 서버 측 isExtensionBlocked 검사는 그대로 유지 (최종 판단은 서버)
+     */
+    @GetMapping(value = "/blocklist", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<byte[]> getBlocklistBundle(WebRequest request) {
+        if (request.checkNotModified(policyCache.currentEtag("blocklist"))) {
+            return null;
+        }
+
+        ExtensionPolicySnapshot snapshot = policyCache.getBytes("blocklist", () ->
+                String.join("\n", extensionService.getAllBlockedExtensions()).getBytes(StandardCharsets.UTF_8));
+        return cachedPolicyResponse(snapshot, new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPolicyChanges() {
+        return policyBroadcaster.subscribe();
     }
 
     @PostMapping("/fixed")
@@ -102,6 +191,19 @@ public class ExtensionController {
         }
     }
 
+    @PostMapping("/custom/import")
+    public ResponseEntity<ResponseApi<Integer>> importCustomExtensions(
+            @Valid @RequestBody CustomExtensionImportRequest request) {
+        try {
+            int importedCount = extensionService.importCustomExtensions(request.getExtensions());
+            String message = String.format("커스텀 확장자 %d개가 등록되었습니다.", importedCount);
+            return ResponseEntity.ok(ResponseApi.success(importedCount, message));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
     @DeleteMapping("/custom/{id}")
     public ResponseEntity<ResponseApi<Void>> deleteCustomExtension(@PathVariable Long id) {
         try {
@@ -159,7 +261,7 @@ public class ExtensionController {
     @PostMapping("/initialize")
     public ResponseEntity<ResponseApi<String>> initializeFixedExtensions() {
         extensionService.initializeFixedExtensions();
-        return ResponseEntity.ok(ResponseApi.success("고정 확장자가 초기화되었습니다."));
+        return ResponseEntity.ok(FIXED_INITIALIZED);
     }
 
     @DeleteMapping("/custom/all")
@@ -178,10 +280,23 @@ public class ExtensionController {
     public ResponseEntity<ResponseApi<String>> resetFixedExtensions() {
         try {
             extensionService.resetFixedExtensions();
-            return ResponseEntity.ok(ResponseApi.success("고정 확장자가 기본 상태로 초기화되었습니다."));
+            return ResponseEntity.ok(FIXED_RESET);
         } catch (BusinessException e) {
             return ResponseEntity.status(e.getStatus())
                     .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
         }
     }
+
+    // 정책 버전별로 미리 직렬화된 본문을 ETag 와 함께 반환 (클라이언트는 매번 재검증)
+    private ResponseEntity<byte[]> cachedPolicyResponse(ExtensionPolicySnapshot snapshot) {
+        return cachedPolicyResponse(snapshot, MediaType.APPLICATION_JSON);
+    }
+
+    private ResponseEntity<byte[]> cachedPolicyResponse(ExtensionPolicySnapshot snapshot, MediaType contentType) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(contentType)
+                .body(snapshot.getBody());
+    }
 }
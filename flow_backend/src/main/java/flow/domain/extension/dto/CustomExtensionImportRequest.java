@@ -0,0 +1,19 @@
+package flow.domain.extension.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomExtensionImportRequest {
+
+    @NotEmpty(message = "등록할 확장자 목록을 입력해주세요.")
+    private List<String> extensions;
+}
@@ -0,0 +1,18 @@
+package flow.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomExtensionPageResponse {
+    private List<CustomExtensionResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
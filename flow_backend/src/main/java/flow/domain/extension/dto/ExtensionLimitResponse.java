@@ -0,0 +1,17 @@
+package flow.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtensionLimitResponse {
+    private int maxFixedExtensions;
+    private int maxCustomExtensions;
+    // 현재 등록된 커스텀 확장자 수 (목록은 페이지 단위로 받으므로 개수는 여기서 제공)
+    private long customExtensionCount;
+}
@@ -8,7 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "custom_extensions")
+@Table(name = "custom_extensions",
+        indexes = @Index(name = "idx_custom_extensions_created_at", columnList = "created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CustomExtension extends BaseEntity {
@@ -0,0 +1,216 @@
+package flow.domain.extension.policy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 확장자 정책 변경 SSE 브로드캐스터
+ * - 구독 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 연결은 스레드를 점유하지 않음
+ * - 변경분/heartbeat 는 구독자별 제한 큐에 넣기만 하고, 큐에 쌓인 것이 있을 때만 가상 스레드가 꺼내 전송
+ *   (읽지 않는 클라이언트에 쓰기가 막혀도 그 구독자의 전송만 멈추고 다른 구독자에게는 영향 없음)
+ * - 큐가 가득 차거나 한 번의 전송이 SEND_TIMEOUT 을 넘기면 구독을 끊음 (재연결 시 버전 비교로 전체 재조회)
+ * - 구독 등록과 변경분 배포는 같은 락 안에서 처리하여 connected 이후의 변경분이 새 구독자에게 빠지지 않도록 함
+ * - 주기적으로 heartbeat 주석을 보내 프록시 유휴 타임아웃을 막고 끊어진 연결을 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExtensionPolicyBroadcaster {
+
+    private static final long STREAM_TIMEOUT = 30 * 60 * 1000L; // 30분 후 재연결 (EventSource 자동 재연결)
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 25;
+    private static final long SEND_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    static final int QUEUE_CAPACITY = 32; // 구독자별 대기 메시지 수 (heartbeat 포함)
+
+    private final ExtensionPolicyVersion policyVersion;
+    private final ObjectMapper objectMapper;
+
+    private final Object fanOutLock = new Object();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "extension-policy-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("extension-policy-sse-send-", 0).factory());
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat,
+                HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(STREAM_TIMEOUT));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (fanOutLock) {
+            // 등록 후 현재 버전을 읽어 connected 를 큐의 첫 메시지로 넣음
+            // (이후 커밋된 변경분은 모두 이 구독자의 큐에도 들어감)
+            subscribers.add(subscriber);
+            subscriber.enqueue(Message.event("connected", toJson(Map.of("version", policyVersion.current()))));
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(ExtensionPolicyChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        // 구독자 수와 관계없이 변경분은 한 번만 직렬화 (버전은 이 변경으로 증가한 값)
+        String payload = toJson(ExtensionPolicyDiff.from(event, event.getVersion()));
+        if (payload == null) {
+            return;
+        }
+
+        Message message = Message.event("policy", payload);
+        synchronized (fanOutLock) {
+            subscribers.forEach(subscriber -> subscriber.enqueue(message));
+        }
+    }
+
+    private void sendHeartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now)) {
+                subscriber.drop("전송 지연");
+            } else {
+                subscriber.enqueue(Message.HEARTBEAT);
+            }
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("확장자 정책 변경분 직렬화 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * 구독자 하나의 전송 큐 (동시에 하나의 전송 작업만 실행)
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Message> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile long sendStartedAt; // 전송 중이면 시작 시각 (nanoTime), 아니면 0
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Message message) {
+            if (!queue.offer(message)) {
+                drop("대기 메시지 초과");
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (subscribers.contains(this) && (message = queue.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(message.toEvent());
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                log.debug("SSE 구독 해제 (전송 실패): {}", e.getMessage());
+            } finally {
+                sendStartedAt = 0;
+                draining.set(false);
+            }
+            // drain 종료와 enqueue 가 겹친 경우 남은 메시지 처리
+            if (!queue.isEmpty() && subscribers.contains(this)) {
+                scheduleDrain();
+            }
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt > SEND_TIMEOUT_NANOS;
+        }
+
+        void drop(String reason) {
+            if (!subscribers.remove(this)) {
+                return;
+            }
+            queue.clear();
+            log.debug("SSE 구독 해제 ({})", reason);
+            // 막힌 전송이 emitter 락을 잡고 있을 수 있으므로 호출 스레드에서 complete 하지 않음
+            senders.execute(emitter::complete);
+        }
+    }
+
+    private record Message(String name, String data) {
+
+        static final Message HEARTBEAT = new Message(null, "heartbeat");
+
+        static Message event(String name, String data) {
+            return new Message(name, data);
+        }
+
+        // SseEventBuilder 는 전송 시 내부 버퍼를 바꾸므로 구독자마다 새로 생성
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+}
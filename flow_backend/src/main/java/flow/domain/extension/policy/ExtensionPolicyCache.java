@@ -0,0 +1,63 @@
+package flow.domain.extension.policy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flow.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 확장자 정책 조회 응답 캐시
+ * - 정책 버전별로 응답 JSON 을 한 번만 직렬화하여 보관
+ * - 버전이 바뀌기 전까지는 DB 조회와 직렬화 없이 같은 바이트 배열을 그대로 반환
+ * - JSON 이 아닌 산출물(차단 목록 번들 등)은 getBytes 로 직접 생성한 바이트를 보관
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExtensionPolicyCache {
+
+    private final ExtensionPolicyVersion policyVersion;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<String, ExtensionPolicySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public String currentEtag(String key) {
+        return policyVersion.etag(key, policyVersion.current());
+    }
+
+    public ExtensionPolicySnapshot get(String key, Supplier<?> bodySupplier) {
+        return getBytes(key, () -> serialize(bodySupplier.get()));
+    }
+
+    public ExtensionPolicySnapshot getBytes(String key, Supplier<byte[]> bytesSupplier) {
+        long version = policyVersion.current();
+        ExtensionPolicySnapshot cached = snapshots.get(key);
+        if (cached != null && cached.getVersion() == version) {
+            return cached;
+        }
+
+        ExtensionPolicySnapshot fresh = new ExtensionPolicySnapshot(
+                version, policyVersion.etag(key, version), bytesSupplier.get());
+
+        // 동시에 재생성된 경우 더 최신 버전의 스냅샷만 남김
+        snapshots.merge(key, fresh, (previous, current) ->
+                previous.getVersion() > current.getVersion() ? previous : current);
+        log.debug("확장자 정책 스냅샷 생성: {} (version {})", key, version);
+        return fresh;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            log.error("확장자 정책 직렬화 실패: {}", e.getMessage(), e);
+            throw BusinessException.internalServerError("확장자 정책 직렬화에 실패했습니다.");
+        }
+    }
+}
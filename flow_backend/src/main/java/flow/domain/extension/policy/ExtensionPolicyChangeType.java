@@ -0,0 +1,12 @@
+package flow.domain.extension.policy;
+
+/**
+ * 확장자 정책 변경 종류
+ * - RESET: 전체 삭제/초기화처럼 개별 항목 단위로 표현할 수 없는 변경 (클라이언트는 해당 범위를 다시 조회)
+ */
+public enum ExtensionPolicyChangeType {
+    ADDED,
+    UPDATED,
+    DELETED,
+    RESET
+}
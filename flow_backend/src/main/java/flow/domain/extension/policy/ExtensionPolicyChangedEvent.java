@@ -0,0 +1,46 @@
+package flow.domain.extension.policy;
+
+import flow.domain.extension.entity.CustomExtension;
+import flow.domain.extension.entity.FixedExtension;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 확장자 정책(고정/커스텀)이 변경되었음을 알리는 이벤트
+ * - ExtensionServiceImpl 의 변경 메서드에서 발행
+ * - 트랜잭션 커밋 이후 ExtensionPolicyVersion 이 버전을 증가시키고
+ *   ExtensionPolicyBroadcaster 가 구독 중인 클라이언트에게 변경분을 전송
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExtensionPolicyChangedEvent {
+
+    private final String scope;
+    private final ExtensionPolicyChangeType type;
+    private final Long id;
+    private final String extension;
+    private final boolean blocked;
+    private final String description;
+
+    // 이 변경으로 증가한 정책 버전 (커밋 후 ExtensionPolicyVersion 이 기록, 리스너 실행 시점의 current() 와 다를 수 있음)
+    private long version;
+
+    public static ExtensionPolicyChangedEvent of(FixedExtension fixedExtension, ExtensionPolicyChangeType type) {
+        return new ExtensionPolicyChangedEvent("fixed", type, fixedExtension.getId(),
+                fixedExtension.getExtension(), fixedExtension.isBlocked(), fixedExtension.getDescription());
+    }
+
+    public static ExtensionPolicyChangedEvent of(CustomExtension customExtension, ExtensionPolicyChangeType type) {
+        return new ExtensionPolicyChangedEvent("custom", type, customExtension.getId(),
+                customExtension.getExtension(), customExtension.isBlocked(), null);
+    }
+
+    public static ExtensionPolicyChangedEvent reset(String scope) {
+        return new ExtensionPolicyChangedEvent(scope, ExtensionPolicyChangeType.RESET, null, null, false, null);
+    }
+
+    void assignVersion(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,33 @@
+package flow.domain.extension.policy;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SSE 로 전송되는 확장자 정책 변경분
+ * - version 은 이 변경으로 증가한 정책 버전 (클라이언트는 마지막 버전 + 1 이 아니면 전체 재조회)
+ */
+@Getter
+@Builder
+public class ExtensionPolicyDiff {
+
+    private long version;
+    private String scope;
+    private ExtensionPolicyChangeType type;
+    private Long id;
+    private String extension;
+    private boolean blocked;
+    private String description;
+
+    public static ExtensionPolicyDiff from(ExtensionPolicyChangedEvent event, long version) {
+        return ExtensionPolicyDiff.builder()
+                .version(version)
+                .scope(event.getScope())
+                .type(event.getType())
+                .id(event.getId())
+                .extension(event.getExtension())
+                .blocked(event.isBlocked())
+                .description(event.getDescription())
+                .build();
+    }
+}
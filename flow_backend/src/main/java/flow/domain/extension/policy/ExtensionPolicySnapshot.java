@@ -0,0 +1,16 @@
+package flow.domain.extension.policy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 특정 정책 버전에서 미리 직렬화해 둔 응답 본문
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExtensionPolicySnapshot {
+
+    private final long version;
+    private final String etag;
+    private final byte[] body;
+}
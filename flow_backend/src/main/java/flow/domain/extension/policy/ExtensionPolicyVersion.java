@@ -0,0 +1,40 @@
+package flow.domain.extension.policy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 확장자 정책 버전 관리
+ * - 정책이 변경되어 트랜잭션이 커밋될 때마다 버전을 1 증가
+ * - ETag 에는 기동 시 생성한 epoch 를 함께 넣어 재시작 후 같은 버전 번호가 재사용되어도 충돌하지 않도록 함
+ * - 단일 인스턴스 기준이며, 다른 인스턴스에서 발생한 변경은 감지하지 못함
+ */
+@Component
+@Slf4j
+public class ExtensionPolicyVersion {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public String etag(String key, long version) {
+        return "\"" + key + "-" + epoch + "-" + version + "\"";
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(ExtensionPolicyChangedEvent event) {
+        long next = version.incrementAndGet();
+        event.assignVersion(next);
+        log.debug("확장자 정책 버전 증가: {} ({})", next, event.getScope());
+    }
+}
@@ -1,9 +1,13 @@
 package flow.domain.extension.repository;
+import flow.domain.extension.dto.CustomExtensionResponse;
 import flow.domain.extension.entity.CustomExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +26,16 @@ public interface CustomExtensionRepository extends JpaRepository<CustomExtension
     @Query("SELECT c.extension FROM CustomExtension c WHERE c.isBlocked = true")
     List<String> findBlockedExtensions();
 
+    @Query("SELECT c.extension FROM CustomExtension c WHERE c.extension IN :extensions")
+    List<String> findExistingExtensions(@Param("extensions") Collection<String> extensions);
+
+    // extension 유니크 인덱스를 그대로 타는 접두사 검색 + 키셋 페이지 (cursor 이후부터 조회)
+    @Query("SELECT new flow.domain.extension.dto.CustomExtensionResponse(c.id, c.extension) " +
+           "FROM CustomExtension c " +
+           "WHERE c.extension LIKE CONCAT(:prefix, '%') AND c.extension > :cursor " +
+           "ORDER BY c.extension ASC")
+    List<CustomExtensionResponse> findPageByPrefix(@Param("prefix") String prefix,
+                                                   @Param("cursor") String cursor,
+                                                   Pageable pageable);
+
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package flow.domain.extension.repository;
 import flow.domain.extension.entity.FixedExtension;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +24,7 @@ public interface FixedExtensionRepository extends JpaRepository<FixedExtension,
     @Query("SELECT f.extension FROM FixedExtension f WHERE f.isBlocked = true")
     List<String> findBlockedExtensions();
 
+    @Query("SELECT f.extension FROM FixedExtension f WHERE f.extension IN :extensions")
+    List<String> findExistingExtensions(@Param("extensions") Collection<String> extensions);
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package flow.domain.extension.service;
 
+import flow.domain.extension.dto.CustomExtensionPageResponse;
 import flow.domain.extension.entity.CustomExtension;
 import flow.domain.extension.entity.FixedExtension;
 
@@ -11,6 +12,8 @@ public interface ExtensionService {
 
     List<CustomExtension> getAllCustomExtensions();
 
+    CustomExtensionPageResponse getCustomExtensionPage(String query, String cursor, int size);
+
     FixedExtension updateFixedExtensionStatus(String extension, boolean isBlocked);
 
     FixedExtension addFixedExtension(String extension, String description);
@@ -19,6 +22,8 @@ public interface ExtensionService {
 
     CustomExtension addCustomExtension(String extension);
 
+    int importCustomExtensions(List<String> extensions);
+
     void deleteCustomExtension(Long id);
 
     void deleteCustomExtensionByExtension(String extension);
@@ -37,4 +42,10 @@ public interface ExtensionService {
 
     void resetFixedExtensions();
 
+    int getMaxFixedExtensions();
+
+    int getMaxCustomExtensions();
+
+    long getCustomExtensionCount();
+
 }
@@ -1,17 +1,29 @@
 package flow.domain.extension.service;
 
 import flow.common.exception.BusinessException;
+import flow.domain.extension.dto.CustomExtensionPageResponse;
+import flow.domain.extension.dto.CustomExtensionResponse;
 import flow.domain.extension.entity.CustomExtension;
 import flow.domain.extension.repository.CustomExtensionRepository;
 import flow.domain.extension.entity.FixedExtension;
+import flow.domain.extension.policy.ExtensionPolicyChangeType;
+import flow.domain.extension.policy.ExtensionPolicyChangedEvent;
 import flow.domain.extension.repository.FixedExtensionRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @Service
@@ -22,14 +34,22 @@ public class ExtensionServiceImpl implements ExtensionService {
 
     private final FixedExtensionRepository fixedExtensionRepository;
     private final CustomExtensionRepository customExtensionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     private static final List<String> DEFAULT_FIXED_EXTENSIONS = Arrays.asList(
             "bat", "cmd", "com", "cpl", "exe", "scr", "js"
     );
 
-    private static final int MAX_CUSTOM_EXTENSIONS = 200;
-    private static final int MAX_FIXED_EXTENSIONS = 10;
+    @Value("${app.extension.max-custom-extensions:200}")
+    private int maxCustomExtensions;
+
+    @Value("${app.extension.max-fixed-extensions:10}")
+    private int maxFixedExtensions;
+
     private static final int MAX_EXTENSION_LENGTH = 20;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int IMPORT_CHUNK_SIZE = 1000; // IN 절 파라미터 수 제한, INSERT 후 flush/clear 단위
 
     @Override
     @Transactional(readOnly = true)
@@ -43,13 +63,44 @@ public class ExtensionServiceImpl implements ExtensionService {
         return customExtensionRepository.findAllOrderByCreatedAt();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CustomExtensionPageResponse getCustomExtensionPage(String query, String cursor, int size) {
+        String prefix = query == null ? "" : query.toLowerCase().trim();
+        String after = cursor == null ? "" : cursor.toLowerCase().trim();
+
+        // 검색어와 커서는 확장자 형식(영문/숫자)만 허용하므로 LIKE 와일드카드 이스케이프가 필요 없음
+        if ((!prefix.isEmpty() && !validateExtension(prefix)) || (!after.isEmpty() && !validateExtension(after))) {
+            throw BusinessException.badRequest("검색어와 커서는 영문자와 숫자만 입력 가능합니다.");
+        }
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw BusinessException.badRequest("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<CustomExtensionResponse> rows = customExtensionRepository.findPageByPrefix(
+                prefix, after, PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<CustomExtensionResponse> items = hasNext ? rows.subList(0, size) : rows;
+
+        return CustomExtensionPageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getExtension() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     public FixedExtension updateFixedExtensionStatus(String extension, boolean isBlocked) {
         FixedExtension fixedExtension = fixedExtensionRepository.findByExtension(extension.toLowerCase())
                 .orElseThrow(() -> BusinessException.notFound("고정 확장자를 찾을 수 없습니다: " + extension));
 
         fixedExtension.updateBlockStatus(isBlocked);
-        return fixedExtensionRepository.save(fixedExtension);
+        FixedExtension saved = fixedExtensionRepository.save(fixedExtension);
+        publishPolicyChanged(ExtensionPolicyChangedEvent.of(saved, ExtensionPolicyChangeType.UPDATED));
+        return saved;
     }
 
     @Override
@@ -60,8 +111,8 @@ public class ExtensionServiceImpl implements ExtensionService {
             throw BusinessException.badRequest("유효하지 않은 확장자입니다: " + extension);
         }
 
-        if (fixedExtensionRepository.findAll().size() >= MAX_FIXED_EXTENSIONS) {
-            throw BusinessException.badRequest("고정 확장자는 최대 " + MAX_FIXED_EXTENSIONS + "개까지 추가할 수 있습니다.");
+        if (fixedExtensionRepository.count() >= maxFixedExtensions) {
+            throw BusinessException.badRequest("고정 확장자는 최대 " + maxFixedExtensions + "개까지 추가할 수 있습니다.");
         }
 
         if (fixedExtensionRepository.existsByExtension(normalizedExtension)) {
@@ -78,7 +129,9 @@ public class ExtensionServiceImpl implements ExtensionService {
                 .description(description != null ? description : getExtensionDescription(normalizedExtension))
                 .build();
 
-        return fixedExtensionRepository.save(fixedExtension);
+        FixedExtension saved = fixedExtensionRepository.save(fixedExtension);
+        publishPolicyChanged(ExtensionPolicyChangedEvent.of(saved, ExtensionPolicyChangeType.ADDED));
+        return saved;
     }
 
     @Override
@@ -87,6 +140,7 @@ public class ExtensionServiceImpl implements ExtensionService {
                 .orElseThrow(() -> BusinessException.notFound("고정 확장자를 찾을 수 없습니다."));
 
         fixedExtensionRepository.delete(fixedExtension);
+        publishPolicyChanged(ExtensionPolicyChangedEvent.of(fixedExtension, ExtensionPolicyChangeType.DELETED));
     }
 
     @Override
@@ -97,8 +151,8 @@ public class ExtensionServiceImpl implements ExtensionService {
             throw BusinessException.badRequest("유효하지 않은 확장자입니다: " + extension);
         }
 
-        if (customExtensionRepository.findAll().size() >= MAX_CUSTOM_EXTENSIONS) {
-            throw BusinessException.badRequest("커스텀 확장자는 최대 " + MAX_CUSTOM_EXTENSIONS + "개까지 추가할 수 있습니다.");
+        if (customExtensionRepository.count() >= maxCustomExtensions) {
+            throw BusinessException.badRequest("커스텀 확장자는 최대 " + maxCustomExtensions + "개까지 추가할 수 있습니다.");
         }
 
         if (fixedExtensionRepository.existsByExtension(normalizedExtension)) {
@@ -113,7 +167,57 @@ public class ExtensionServiceImpl implements ExtensionService {
                 .extension(normalizedExtension)
                 .build();
 
-        return customExtensionRepository.save(customExtension);
+        CustomExtension saved = customExtensionRepository.save(customExtension);
+        publishPolicyChanged(ExtensionPolicyChangedEvent.of(saved, ExtensionPolicyChangeType.ADDED));
+        return saved;
+    }
+
+    @Override
+    public int importCustomExtensions(List<String> extensions) {
+        // 입력 중복 제거 및 형식 검증 (입력 순서 유지)
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String extension : extensions) {
+            String normalizedExtension = extension == null ? "" : extension.toLowerCase().trim();
+            if (!validateExtension(normalizedExtension)) {
+                throw BusinessException.badRequest("유효하지 않은 확장자입니다: " + extension);
+            }
+            candidates.add(normalizedExtension);
+        }
+
+        // 이미 등록된 확장자는 건너뜀 (고정/커스텀 모두 청크 단위 IN 조회)
+        Set<String> existing = new HashSet<>();
+        List<String> candidateList = new ArrayList<>(candidates);
+        for (int from = 0; from < candidateList.size(); from += IMPORT_CHUNK_SIZE) {
+            List<String> chunk = candidateList.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, candidateList.size()));
+            existing.addAll(fixedExtensionRepository.findExistingExtensions(chunk));
+            existing.addAll(customExtensionRepository.findExistingExtensions(chunk));
+        }
+        candidates.removeAll(existing);
+
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        if (customExtensionRepository.count() + candidates.size() > maxCustomExtensions) {
+            throw BusinessException.badRequest("커스텀 확장자는 최대 " + maxCustomExtensions + "개까지 추가할 수 있습니다.");
+        }
+
+        // IDENTITY 키라 INSERT 가 JDBC 배치로 묶이지 않으므로, 청크마다 flush/clear 하여 영속성 컨텍스트에 10만 개가 쌓이지 않게 함
+        List<String> newExtensions = new ArrayList<>(candidates);
+        for (int from = 0; from < newExtensions.size(); from += IMPORT_CHUNK_SIZE) {
+            List<CustomExtension> chunk = newExtensions.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, newExtensions.size()))
+                    .stream()
+                    .map(extension -> CustomExtension.builder().extension(extension).build())
+                    .toList();
+            customExtensionRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        // 대량 변경은 개별 변경분 대신 RESET 한 건으로 알림
+        publishPolicyChanged(ExtensionPolicyChangedEvent.reset("custom"));
+        log.info("커스텀 확장자 일괄 등록: {}개 (중복 {}개 제외)", newExtensions.size(), existing.size());
+        return newExtensions.size();
     }
 
     @Override
@@ -122,6 +226,7 @@ public class ExtensionServiceImpl implements ExtensionService {
                 .orElseThrow(() -> BusinessException.notFound("커스텀 확장자를 찾을 수 없습니다."));
 
         customExtensionRepository.delete(customExtension);
+        publishPolicyChanged(ExtensionPolicyChangedEvent.of(customExtension, ExtensionPolicyChangeType.DELETED));
     }
 
     @Override
@@ -131,6 +236,7 @@ public class ExtensionServiceImpl implements ExtensionService {
                 .orElseThrow(() -> BusinessException.notFound("커스텀 확장자를 찾을 수 없습니다: " + extension));
 
         customExtensionRepository.delete(customExtension);
+        publishPolicyChanged(ExtensionPolicyChangedEvent.of(customExtension, ExtensionPolicyChangeType.DELETED));
     }
 
     @Override
@@ -189,6 +295,7 @@ public class ExtensionServiceImpl implements ExtensionService {
 
     @Override
     public void initializeFixedExtensions() {
+        boolean changed = false;
         for (String extension : DEFAULT_FIXED_EXTENSIONS) {
             if (!fixedExtensionRepository.existsByExtension(extension)) {
                 FixedExtension fixedExtension = FixedExtension.builder()
@@ -199,8 +306,13 @@ public class ExtensionServiceImpl implements ExtensionService {
 
                 fixedExtensionRepository.save(fixedExtension);
                 log.info("고정 확장자 초기화: {}", extension);
+                changed = true;
             }
         }
+
+        if (changed) {
+            publishPolicyChanged(ExtensionPolicyChangedEvent.reset("fixed"));
+        }
     }
 
     @Override
@@ -221,9 +333,10 @@ public class ExtensionServiceImpl implements ExtensionService {
     @Override
     @Transactional
     public int deleteAllCustomExtensions() {
-        List<CustomExtension> allCustomExtensions = customExtensionRepository.findAll();
-        int count = allCustomExtensions.size();
-        customExtensionRepository.deleteAll();
+        int count = (int) customExtensionRepository.count();
+        // 엔티티를 하나씩 로딩/삭제하지 않고 단일 DELETE 문으로 처리
+        customExtensionRepository.deleteAllInBatch();
+        publishPolicyChanged(ExtensionPolicyChangedEvent.reset("custom"));
         log.info("모든 커스텀 확장자 삭제됨: {}개", count);
         return count;
     }
@@ -249,9 +362,30 @@ public class ExtensionServiceImpl implements ExtensionService {
                 fixedExtensionRepository.save(fixedExtension);
             }
         }
+        publishPolicyChanged(ExtensionPolicyChangedEvent.reset("fixed"));
         log.info("기본 고정 확장자 {}개 초기화 완료", defaultExtensions.length);
     }
 
+    @Override
+    public int getMaxFixedExtensions() {
+        return maxFixedExtensions;
+    }
+
+    @Override
+    public int getMaxCustomExtensions() {
+        return maxCustomExtensions;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getCustomExtensionCount() {
+        return customExtensionRepository.count();
+    }
+
+    private void publishPolicyChanged(ExtensionPolicyChangedEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+
     private String getExtensionDescription(String extension) {
         return switch (extension) {
             case "bat" -> "배치 파일";
@@ -0,0 +1,108 @@
+package flow.domain.file.admission;
+
+import flow.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 볼륨 여유 공간 기반 admission
+ * - FileStore 조회는 check-interval 마다 한 스레드만 수행하고 나머지는 캐시된 값을 사용
+ * - 처리 중인 업로드 크기를 예약(reserve)하여 동시 업로드가 같은 여유 공간을 중복으로 쓰지 않도록 함
+ * - 여유 공간 - 예약 - min-free-size(워터마크) 가 headroom, 업로드 크기가 headroom 을 넘으면 거부 (507)
+ */
+@Component
+@Slf4j
+public class DiskSpaceGuard {
+
+    private final Path uploadDir;
+    private final long minFreeBytes;
+    private final long checkIntervalNanos;
+
+    private final AtomicLong usableBytes = new AtomicLong();
+    private final AtomicLong checkedAt = new AtomicLong();
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public DiskSpaceGuard(@Value("${app.upload.path:/flow/data}") String uploadPath,
+                          @Value("${app.upload.disk.min-free-size:1GB}") DataSize minFreeSize,
+                          @Value("${app.upload.disk.check-interval:5s}") Duration checkInterval,
+                          MeterRegistry meterRegistry) {
+        this.uploadDir = Paths.get(uploadPath).toAbsolutePath();
+        this.minFreeBytes = minFreeSize.toBytes();
+        this.checkIntervalNanos = checkInterval.toNanos();
+        this.meterRegistry = meterRegistry;
+
+        refresh(System.nanoTime());
+        meterRegistry.gauge("flow.storage.disk.usable.bytes", this, guard -> guard.usableBytes());
+        meterRegistry.gauge("flow.storage.disk.headroom.bytes", this, guard -> guard.headroom());
+    }
+
+    /**
+     * 예약 없이 여유 여부만 확인 (본문 수신 전 Content-Length 기준 사전 검사용)
+     */
+    public boolean hasRoomFor(long bytes) {
+        return headroom() >= bytes;
+    }
+
+    /**
+     * 업로드 크기만큼 공간 예약, 부족하면 BusinessException(507)
+     * - 저장이 끝나면(성공/실패 모두) 반드시 release 호출
+     */
+    public void reserve(long bytes) {
+        long reserved = reservedBytes.addAndGet(bytes);
+        if (usableBytes() - reserved < minFreeBytes) {
+            reservedBytes.addAndGet(-bytes);
+            meterRegistry.counter("flow.storage.disk.rejected").increment();
+            log.warn("저장 공간 부족으로 업로드 거부: 요청 {} bytes, headroom {} bytes", bytes, headroom());
+            throw BusinessException.insufficientStorage("저장 공간이 부족하여 업로드할 수 없습니다.");
+        }
+    }
+
+    public void release(long bytes) {
+        reservedBytes.addAndGet(-bytes);
+    }
+
+    public long headroom() {
+        return usableBytes() - reservedBytes.get() - minFreeBytes;
+    }
+
+    private long usableBytes() {
+        long now = System.nanoTime();
+        long last = checkedAt.get();
+        if (now - last >= checkIntervalNanos && checkedAt.compareAndSet(last, now)) {
+            refresh(now);
+        }
+        return usableBytes.get();
+    }
+
+    private void refresh(long now) {
+        checkedAt.set(now);
+        try {
+            usableBytes.set(Files.getFileStore(existingAncestor(uploadDir)).getUsableSpace());
+        } catch (IOException e) {
+            // 확인할 수 없으면 마지막 값을 유지 (최초 실패 시에는 제한하지 않음)
+            if (usableBytes.get() == 0) {
+                usableBytes.set(Long.MAX_VALUE / 2);
+            }
+            log.warn("업로드 볼륨 여유 공간 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Path existingAncestor(Path path) {
+        Path current = path;
+        while (current != null && !Files.exists(current)) {
+            current = current.getParent();
+        }
+        return current != null ? current : path;
+    }
+}
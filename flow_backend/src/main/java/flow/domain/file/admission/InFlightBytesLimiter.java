@@ -0,0 +1,37 @@
+package flow.domain.file.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 처리 중인 업로드 바이트 상한 (CAS 기반, 대기 없이 즉시 성공/실패)
+ */
+class InFlightBytesLimiter {
+
+    private final long maxBytes;
+    private final AtomicLong inFlight = new AtomicLong();
+
+    InFlightBytesLimiter(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    boolean tryAcquire(long bytes) {
+        while (true) {
+            long current = inFlight.get();
+            // 한도보다 큰 단일 요청도 다른 업로드가 없으면 허용 (멀티파트 크기 제한은 별도로 적용됨)
+            if (current > 0 && current + bytes > maxBytes) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long bytes) {
+        inFlight.addAndGet(-bytes);
+    }
+
+    long inFlight() {
+        return inFlight.get();
+    }
+}
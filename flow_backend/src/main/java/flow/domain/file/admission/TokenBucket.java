@@ -0,0 +1,44 @@
+package flow.domain.file.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷 (GCRA: 다음 요청이 허용되는 이론적 도착 시각 하나만 CAS 로 갱신)
+ * - rate: 초당 허용 요청 수, burst: 한 번에 허용되는 최대 요청 수
+ */
+class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(double ratePerSecond, int burst) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(burst - 1, 0);
+    }
+
+    /**
+     * @return 0 이면 허용, 양수면 거부되었고 해당 나노초 후 재시도 가능
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long tat = current == Long.MIN_VALUE ? nowNanos : Math.max(current, nowNanos);
+            long waitNanos = tat - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, tat + emissionIntervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태(새 버킷과 동일)인지 - 유휴 버킷 정리용
+     */
+    boolean isIdle(long nowNanos) {
+        long current = theoreticalArrival.get();
+        return current == Long.MIN_VALUE || current <= nowNanos;
+    }
+}
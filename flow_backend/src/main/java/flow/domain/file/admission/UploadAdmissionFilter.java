@@ -0,0 +1,157 @@
+package flow.domain.file.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flow.common.dto.ResponseApi;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 요청 admission control
+ * - 멀티파트 파싱(DispatcherServlet) 전에 동작하므로 거부된 요청은 본문을 임시 파일로 받지 않음
+ * - 클라이언트(발급된 X-Api-Key, 그 외에는 IP)별 토큰 버킷으로 요청 빈도 제한
+ *   (등록되지 않은 키는 무시하여 키를 바꿔 보내는 방식으로 한도를 우회하거나 버킷을 늘릴 수 없음)
+ *   (키는 서버 간 클라이언트 전용 - 브라우저 사용자는 모두 IP 기준 버킷)
+ * - X-Real-IP 는 설정된 프록시(nginx)에서 온 요청일 때만 신뢰
+ * - 전체 처리 중인 업로드 바이트(Content-Length 기준) 상한
+ * - 한도를 넘으면 대기시키지 않고 즉시 429 + Retry-After 응답
+ * - 선언된 크기가 업로드 볼륨 headroom 을 넘으면 507 응답 (DiskSpaceGuard)
+ */
+@Component
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    static final String UPLOAD_PATH = "/api/files/upload";
+    static final String API_KEY_HEADER = "X-Api-Key";
+    static final String REAL_IP_HEADER = "X-Real-IP";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DiskSpaceGuard diskSpaceGuard;
+    private final boolean enabled;
+    private final double ratePerSecond;
+    private final int burst;
+    private final Set<String> apiKeys;
+    private final Set<String> trustedProxies;
+    private final long unknownLengthBytes;
+    private final InFlightBytesLimiter inFlightLimiter;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public UploadAdmissionFilter(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 DiskSpaceGuard diskSpaceGuard,
+                                 @Value("${app.upload.admission.enabled:true}") boolean enabled,
+                                 @Value("${app.upload.admission.rate-per-second:2}") double ratePerSecond,
+                                 @Value("${app.upload.admission.burst:10}") int burst,
+                                 @Value("${app.upload.admission.max-inflight-size:200MB}") DataSize maxInFlightSize,
+                                 @Value("${app.upload.admission.api-keys:}") Set<String> apiKeys,
+                                 @Value("${app.upload.admission.trusted-proxies:}") Set<String> trustedProxies,
+                                 @Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.diskSpaceGuard = diskSpaceGuard;
+        this.enabled = enabled;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.trustedProxies = Set.copyOf(trustedProxies);
+        this.unknownLengthBytes = maxRequestSize.toBytes();
+        this.inFlightLimiter = new InFlightBytesLimiter(maxInFlightSize.toBytes());
+
+        meterRegistry.gauge("flow.upload.inflight.bytes", inFlightLimiter, InFlightBytesLimiter::inFlight);
+        meterRegistry.gaugeMapSize("flow.upload.admission.clients", Tags.empty(), buckets);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equals(request.getMethod())
+                || !UPLOAD_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientKey = resolveClientKey(request);
+        long waitNanos = buckets.computeIfAbsent(clientKey, key -> new TokenBucket(ratePerSecond, burst))
+                .tryConsume(System.nanoTime());
+        if (waitNanos > 0) {
+            reject(response, "rate", waitNanos, "업로드 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long declaredBytes = request.getContentLengthLong() >= 0 ? request.getContentLengthLong() : unknownLengthBytes;
+        if (!diskSpaceGuard.hasRoomFor(declaredBytes)) {
+            meterRegistry.counter("flow.upload.admission.rejected", "reason", "disk").increment();
+            writeError(response, HttpStatus.INSUFFICIENT_STORAGE, "저장 공간이 부족하여 업로드할 수 없습니다.", "INSUFFICIENT_STORAGE");
+            return;
+        }
+
+        if (!inFlightLimiter.tryAcquire(declaredBytes)) {
+            reject(response, "inflight", TimeUnit.SECONDS.toNanos(1), "현재 처리 중인 업로드가 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlightLimiter.release(declaredBytes);
+        }
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷은 새로 만든 버킷과 같으므로 주기적으로 제거하여 메모리 사용을 제한
+     */
+    @Scheduled(fixedDelayString = "${app.upload.admission.cleanup-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (StringUtils.hasText(apiKey) && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        // nginx 가 X-Real-IP 를 $remote_addr 로 덮어씀 - 백엔드에 직접 붙은 클라이언트의 헤더는 무시
+        String remoteAddr = request.getRemoteAddr();
+        String realIp = trustedProxies.contains(remoteAddr) ? request.getHeader(REAL_IP_HEADER) : null;
+        return "ip:" + (StringUtils.hasText(realIp) ? realIp : remoteAddr);
+    }
+
+    private void reject(HttpServletResponse response, String reason, long waitNanos, String message) throws IOException {
+        meterRegistry.counter("flow.upload.admission.rejected", "reason", reason).increment();
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, message, "TOO_MANY_REQUESTS");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message, String errorCode)
+            throws IOException {
+        response.setStatus(status.value());
+        // 거부된 요청의 본문을 읽지 않으므로 연결을 재사용하지 않음
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ResponseApi.error(message, errorCode));
+    }
+}
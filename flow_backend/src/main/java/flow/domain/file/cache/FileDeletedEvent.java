@@ -0,0 +1,30 @@
+package flow.domain.file.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 파일 삭제 요청(tombstone)이 기록되었음을 알리는 이벤트
+ * - FileServiceImpl / RetentionPolicyJob 에서 발행
+ * - 트랜잭션 커밋 이후 FileMetadataCache 가 해당 항목을 무효화
+ * - 기준 일시로 일괄 삭제한 경우처럼 대상 ID 를 모르면 allFiles = true
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FileDeletedEvent {
+
+    private final Collection<Long> ids;
+    private final boolean allFiles;
+
+    public static FileDeletedEvent of(Collection<Long> ids) {
+        return new FileDeletedEvent(List.copyOf(ids), false);
+    }
+
+    public static FileDeletedEvent allFiles() {
+        return new FileDeletedEvent(List.of(), true);
+    }
+}
@@ -0,0 +1,127 @@
+package flow.domain.file.cache;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * ID 별 파일 메타데이터(FileEntity) 캐시
+ * - 상세 조회/다운로드마다 files 테이블을 조회하지 않도록 삭제되지 않은 행만 ttl 동안 보관
+ * - 캐시된 엔티티는 영속성 컨텍스트와 분리된(detached) 공유 객체이므로 읽기 전용으로만 사용
+ * - 삭제 요청(FileDeletedEvent)은 커밋 이후 즉시 무효화, 다운로드 횟수처럼 주기적으로 갱신되는 값은 ttl 만큼 늦을 수 있음
+ * - 항목 수가 max-entries 에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차면 임의의 항목을 제거
+ */
+@Component
+@Slf4j
+public class FileMetadataCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 무효화 횟수 - 조회 도중 무효화가 일어났다면 조회한(이전) 값을 적재하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public FileMetadataCache(@Value("${app.file.metadata-cache.enabled:true}") boolean enabled,
+                             @Value("${app.file.metadata-cache.ttl:30s}") Duration ttl,
+                             @Value("${app.file.metadata-cache.max-entries:10000}") int maxEntries,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.hitCounter = meterRegistry.counter("flow.file.metadata.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("flow.file.metadata.cache.requests", "result", "miss");
+
+        meterRegistry.gaugeMapSize("flow.file.metadata.cache.entries", Tags.empty(), entries);
+    }
+
+    /**
+     * 캐시된 파일을 반환하고, 없거나 만료되었으면 loader 로 조회하여 적재
+     */
+    public Optional<FileEntity> get(Long id, Function<Long, Optional<FileEntity>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+
+        long now = System.nanoTime();
+        Entry entry = entries.get(id);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            hitCounter.increment();
+            return Optional.of(entry.file());
+        }
+        missCounter.increment();
+
+        long observedGeneration = generation.get();
+        Optional<FileEntity> loaded = loader.apply(id);
+        loaded.ifPresent(file -> put(id, file, observedGeneration));
+        return loaded;
+    }
+
+    public void invalidate(Iterable<Long> ids) {
+        generation.incrementAndGet();
+        ids.forEach(entries::remove);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileDeleted(FileDeletedEvent event) {
+        if (event.isAllFiles()) {
+            invalidateAll();
+        } else {
+            invalidate(event.getIds());
+        }
+    }
+
+    /**
+     * 만료된 항목 정리 (조회되지 않는 항목이 max-entries 를 차지하지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${app.file.metadata-cache.cleanup-interval:PT1M}")
+    public void evictExpired() {
+        removeExpired(System.nanoTime());
+    }
+
+    private void put(Long id, FileEntity file, long observedGeneration) {
+        long now = System.nanoTime();
+        if (entries.size() >= maxEntries && !entries.containsKey(id)) {
+            removeExpired(now);
+            Iterator<Long> iterator = entries.keySet().iterator();
+            while (entries.size() >= maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        entries.put(id, new Entry(file, now + ttlNanos));
+        // 적재하는 사이 무효화되었다면 되돌림 (다음 조회에서 다시 적재)
+        if (generation.get() != observedGeneration) {
+            entries.remove(id);
+        }
+    }
+
+    private void removeExpired(long now) {
+        entries.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+    }
+
+    private record Entry(FileEntity file, long expiresAt) {
+    }
+}
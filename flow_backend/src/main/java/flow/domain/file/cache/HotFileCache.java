@@ -0,0 +1,136 @@
+package flow.domain.file.cache;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 다운로드되는 작은 파일의 내용(디스크에 저장된 바이트 그대로) 캐시
+ * - 최근 다운로드 수가 min-downloads 이상이고 크기가 max-file-size 이하인 파일만 적재
+ * - 전체 크기가 max-size 를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 저장 티어 이동은 같은 ID 의 경로와 Content-Encoding 을 바꾸므로 항목에 적재 당시의 경로/인코딩을 함께 기록하고,
+ *   조회하는 메타데이터와 다르면 miss 로 처리 (이동 중이던 다운로드가 이전 바이트를 다시 적재해도 새 인코딩과 섞이지 않음)
+ * - 행 삭제(purge)와 티어 이동 시 evict 로 메모리 회수
+ * - 조회는 잠금 없이 처리하고 적재/제거만 동기화
+ */
+@Component
+@Slf4j
+public class HotFileCache {
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxFileBytes;
+    private final long minDownloads;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public HotFileCache(@Value("${app.download.cache.enabled:true}") boolean enabled,
+                        @Value("${app.download.cache.max-size:64MB}") DataSize maxSize,
+                        @Value("${app.download.cache.max-file-size:256KB}") DataSize maxFileSize,
+                        @Value("${app.download.cache.min-downloads:3}") long minDownloads,
+                        MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.minDownloads = minDownloads;
+        this.hitCounter = meterRegistry.counter("flow.download.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("flow.download.cache.requests", "result", "miss");
+
+        meterRegistry.gauge("flow.download.cache.bytes", totalBytes);
+        meterRegistry.gaugeMapSize("flow.download.cache.entries", Tags.empty(), entries);
+    }
+
+    /**
+     * 캐시된 내용 (없거나 file 의 현재 경로/인코딩과 다르게 적재된 내용이면 null)
+     */
+    public byte[] get(FileEntity file) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(file.getId());
+        if (entry == null || !entry.matches(file)) {
+            missCounter.increment();
+            return null;
+        }
+        entry.lastAccess = System.nanoTime();
+        hitCounter.increment();
+        return entry.content;
+    }
+
+    public boolean shouldAdmit(long recentDownloads, long storedSize) {
+        return enabled && recentDownloads >= minDownloads && storedSize <= maxFileBytes && storedSize <= maxBytes;
+    }
+
+    /**
+     * file 의 경로/인코딩에서 읽은 내용 적재 (같은 ID 의 다른 위치 항목은 교체)
+     */
+    public synchronized void put(FileEntity file, byte[] content) {
+        if (!enabled || content.length > maxFileBytes) {
+            return;
+        }
+        Entry existing = entries.get(file.getId());
+        if (existing != null) {
+            if (existing.matches(file)) {
+                return;
+            }
+            entries.remove(file.getId());
+            totalBytes.addAndGet(-existing.content.length);
+        }
+        while (totalBytes.get() + content.length > maxBytes && !entries.isEmpty()) {
+            evictLeastRecentlyUsed();
+        }
+        entries.put(file.getId(), new Entry(file.getFilePath(), file.getContentEncoding(), content));
+        totalBytes.addAndGet(content.length);
+    }
+
+    public synchronized void evict(Collection<Long> fileIds) {
+        for (Long fileId : fileIds) {
+            Entry removed = entries.remove(fileId);
+            if (removed != null) {
+                totalBytes.addAndGet(-removed.content.length);
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        entries.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .ifPresent(oldest -> {
+                    entries.remove(oldest.getKey());
+                    totalBytes.addAndGet(-oldest.getValue().content.length);
+                });
+    }
+
+    private static class Entry {
+        private final String filePath;
+        private final String contentEncoding;
+        private final byte[] content;
+        private volatile long lastAccess = System.nanoTime();
+
+        Entry(String filePath, String contentEncoding, byte[] content) {
+            this.filePath = filePath;
+            this.contentEncoding = contentEncoding;
+            this.content = content;
+        }
+
+        boolean matches(FileEntity file) {
+            return Objects.equals(filePath, file.getFilePath())
+                    && Objects.equals(contentEncoding, file.getContentEncoding());
+        }
+    }
+}
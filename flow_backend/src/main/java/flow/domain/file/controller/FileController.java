@@ -1,21 +1,50 @@
 package flow.domain.file.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import flow.common.dto.ResponseApi;
+import flow.common.dto.StreamingResponseApi;
 import flow.common.exception.BusinessException;
+import flow.domain.file.dto.DownloadLinkResponse;
+import flow.domain.file.dto.FileBulkDeleteRequest;
+import flow.domain.file.dto.FileDownload;
 import flow.domain.file.dto.FileResponse;
+import flow.domain.file.dto.FileSearchPageResponse;
+import flow.domain.file.dto.FileSearchRequest;
+import flow.domain.file.dto.FileStatsResponse;
 import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.IntegrityScrubber;
+import flow.domain.file.integrity.ScrubResult;
+import flow.domain.file.link.DownloadLinkSigner;
+import flow.domain.file.link.XAccelRedirect;
+import flow.domain.file.preview.ThumbnailService;
 import flow.domain.file.service.FileService;
+import flow.domain.file.service.FileStatsService;
+import flow.domain.file.storage.RetentionPolicyJob;
+import flow.domain.file.storage.RetentionResult;
+import flow.domain.file.storage.StorageCompression;
+import flow.domain.file.storage.StorageReconcileResult;
+import flow.domain.file.storage.StorageReconciler;
+import flow.domain.file.storage.StorageTieringJob;
+import flow.domain.file.storage.TierUsage;
+import flow.domain.file.storage.TieringResult;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -24,7 +53,25 @@ import java.util.List;
 @Slf4j
 public class FileController {
 
+    // 내용이 고정된 응답은 요청마다 만들지 않고 재사용
+    private static final ResponseApi<Void> FILE_DELETED = ResponseApi.success(null, "파일이 성공적으로 삭제되었습니다.");
+    private static final CacheControl THUMBNAIL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+    private static final ResponseApi<String> UPLOAD_DIRECTORY_INITIALIZED = ResponseApi.success("업로드 디렉토리가 초기화되었습니다.");
+
     private final FileService fileService;
+    private final FileStatsService fileStatsService;
+    private final StorageReconciler storageReconciler;
+    private final RetentionPolicyJob retentionPolicyJob;
+    private final DownloadLinkSigner downloadLinkSigner;
+    private final XAccelRedirect xAccelRedirect;
+    private final ThumbnailService thumbnailService;
+    private final IntegrityScrubber integrityScrubber;
+    private final StorageTieringJob storageTieringJob;
+    private final ObjectMapper objectMapper;
+
+    // 서명 없는 다운로드 허용 여부 (브라우저는 API 키를 가질 수 없으므로 기본 허용)
+    @Value("${app.download.unsigned.enabled:true}")
+    private boolean unsignedDownloadEnabled;
 
     @PostMapping("/upload")
     public ResponseEntity<ResponseApi<FileResponse>> uploadFile(@RequestParam("file") MultipartFile file) {
@@ -38,14 +85,41 @@ public class FileController {
         }
     }
 
+    /**
+     * 전체 목록은 행을 읽는 대로 응답에 바로 써서 행 수와 관계없이 메모리 사용량을 일정하게 유지
+     */
     @GetMapping
-    public ResponseEntity<ResponseApi<List<FileResponse>>> getAllFiles() {
-        List<FileEntity> files = fileService.getAllFiles();
-        List<FileResponse> responses = files.stream()
-                .map(FileResponse::from)
-                .toList();
-        String message = String.format("파일 %d개", files.size());
-        return ResponseEntity.ok(ResponseApi.success(responses, message));
+    public void getAllFiles(HttpServletResponse response) throws IOException {
+        StreamingResponseApi.write(objectMapper, response, fileService::streamAllFiles,
+                count -> String.format("파일 %d개", count));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ResponseApi<FileSearchPageResponse>> searchFiles(FileSearchRequest request) {
+        try {
+            FileSearchPageResponse page = fileService.searchFiles(request);
+            String message = String.format("파일 %d개", page.getItems().size());
+            return ResponseEntity.ok(ResponseApi.success(page, message));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ResponseApi<FileStatsResponse>> getStats() {
+        return ResponseEntity.ok(ResponseApi.success(fileStatsService.getStats()));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<ResponseApi<FileStatsResponse>> rebuildStats() {
+        try {
+            FileStatsResponse stats = fileStatsService.rebuild();
+            return ResponseEntity.ok(ResponseApi.success(stats, "저장소 통계를 다시 계산했습니다."));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
     }
 
     @GetMapping("/{id}")
@@ -60,23 +134,120 @@ public class FileController {
         }
     }
 
+    /**
+     * 서명 없는 다운로드 (브라우저 다운로드 경로, app.download.unsigned.enabled=false 이면 403)
+     * - 끄면 발급된 API 키를 가진 클라이언트만 서명된 링크(/{id}/signed)로 다운로드 가능
+     */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long id) {
+    public ResponseEntity<Resource> downloadFile(@PathVariable Long id,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (!unsignedDownloadEnabled) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return sendDownload(id, acceptEncoding);
+    }
+
+    private ResponseEntity<Resource> sendDownload(Long id, String acceptEncoding) {
         try {
+            FileDownload download = fileService.openDownload(id, StorageCompression.acceptsGzip(acceptEncoding));
+            FileEntity file = download.file();
+
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(download.contentLength())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(file));
+
+            // 압축 저장된 파일은 Accept-Encoding 에 따라 응답이 달라짐
+            if (file.getContentEncoding() != null) {
+                builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            if (download.contentEncoding() != null) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, download.contentEncoding());
+            }
+
+            StorageCompression.recordEgress(download.contentEncoding(), download.contentLength());
+            return builder.body(download.resource());
+        } catch (BusinessException e) {
+            log.error("파일 다운로드 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(e.getStatus()).build();
+        }
+    }
+
+    /**
+     * 만료 시각이 있는 서명된 다운로드 링크 발급 (발급된 X-Api-Key 필요, api-keys 미설정 시 항상 403)
+     */
+    @PostMapping("/{id}/link")
+    public ResponseEntity<ResponseApi<DownloadLinkResponse>> createDownloadLink(
+            @PathVariable Long id,
+            @RequestHeader(value = DownloadLinkSigner.API_KEY_HEADER, required = false) String apiKey) {
+        try {
+            downloadLinkSigner.authorize(apiKey);
+            fileService.getFileById(id);
+            return ResponseEntity.ok(ResponseApi.success(downloadLinkSigner.issue(id)));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    /**
+     * 서명된 링크로 다운로드
+     * - 서명/만료, 파일 존재와 손상 여부(다운로드 검증 포함)를 확인한 뒤 전송은 nginx 에 맡김 (X-Accel-Redirect)
+     * - X-Accel-Redirect 를 사용하지 않거나 gzip 저장 파일이면 일반 다운로드와 같이 JVM 에서 전송
+     */
+    @GetMapping("/{id}/signed")
+    public ResponseEntity<Resource> downloadSigned(@PathVariable Long id,
+                                                   @RequestParam long expires,
+                                                   @RequestParam String signature,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            downloadLinkSigner.verify(id, expires, signature);
             FileEntity file = fileService.getFileById(id);
-            Resource resource = fileService.downloadFile(id);
+            if (!xAccelRedirect.supports(file)) {
+                return sendDownload(id, acceptEncoding);
+            }
 
-            // 파일명 인코딩 (한글 파일명 지원)
-            String encodedFilename = URLEncoder.encode(file.getOriginalFilename(), StandardCharsets.UTF_8)
-                    .replace("+", "%20");
+            file = fileService.verifyBeforeRedirect(file);
+            String internalUri = xAccelRedirect.resolve(file);
+            if (internalUri == null) {
+                return sendDownload(id, acceptEncoding);
+            }
 
+            fileService.recordDownload(id);
             return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename=\"" + file.getOriginalFilename() + "\"; filename*=UTF-8''" + encodedFilename)
-                    .body(resource);
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(file))
+                    .header(XAccelRedirect.HEADER, internalUri)
+                    .build();
+        } catch (BusinessException e) {
+            log.warn("서명된 링크 다운로드 실패: id={} - {}", id, e.getMessage());
+            return ResponseEntity.status(e.getStatus()).build();
+        }
+    }
+
+    /**
+     * 썸네일 (원본 내용을 드러내므로 다운로드와 같은 권한 확인)
+     * - 서명 없는 다운로드가 꺼져 있으면 같은 파일의 서명된 링크 파라미터(expires, signature)가 필요
+     * - 공유 프록시에 남지 않도록 private, 삭제/권한 변경이 반영되도록 캐시 기간을 1시간으로 제한
+     */
+    @GetMapping("/{id}/thumbnail")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable Long id,
+                                                 @RequestParam(required = false) Long expires,
+                                                 @RequestParam(required = false) String signature) {
+        try {
+            if (!unsignedDownloadEnabled) {
+                if (expires == null) {
+                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                }
+                downloadLinkSigner.verify(id, expires, signature);
+            }
+            FileEntity file = fileService.getFileById(id);
+            return thumbnailService.find(file)
+                    .<ResponseEntity<Resource>>map(path -> ResponseEntity.ok()
+                            .contentType(MediaType.IMAGE_JPEG)
+                            .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                            .body(new FileSystemResource(path)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (BusinessException e) {
-            log.error("파일 다운로드 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(e.getStatus()).build();
         }
     }
@@ -85,16 +256,106 @@ public class FileController {
     public ResponseEntity<ResponseApi<Void>> deleteFile(@PathVariable Long id) {
         try {
             fileService.deleteFile(id);
-            return ResponseEntity.ok(ResponseApi.success(null, "파일이 성공적으로 삭제되었습니다."));
+            return ResponseEntity.ok(FILE_DELETED);
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ResponseApi<Integer>> deleteFiles(@RequestBody FileBulkDeleteRequest request) {
+        try {
+            int deleted = fileService.deleteFiles(request.getIds(), request.getCreatedBefore());
+            String message = String.format("파일 %d개가 삭제되었습니다.", deleted);
+            return ResponseEntity.ok(ResponseApi.success(deleted, message));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<ResponseApi<StorageReconcileResult>> reconcileStorage() {
+        try {
+            StorageReconcileResult result = storageReconciler.reconcile();
+            return ResponseEntity.ok(ResponseApi.success(result, "저장소 정합성 검사가 완료되었습니다."));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    @PostMapping("/retention")
+    public ResponseEntity<ResponseApi<RetentionResult>> applyRetention() {
+        try {
+            RetentionResult result = retentionPolicyJob.run();
+            String message = String.format("보존 정책으로 파일 %d개가 삭제되었습니다.", result.expiredFiles());
+            return ResponseEntity.ok(ResponseApi.success(result, message));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    /**
+     * 저장 티어 이동 즉시 실행 (비활성화면 400, 이미 실행 중이면 409)
+     */
+    @PostMapping("/tiering")
+    public ResponseEntity<ResponseApi<TieringResult>> applyTiering() {
+        try {
+            TieringResult result = storageTieringJob.run();
+            String message = String.format("파일 %d개를 아카이브하여 %d bytes 를 확보했습니다. (복원 %d개)",
+                    result.archivedFiles(), result.reclaimedBytes(), result.rehydratedFiles());
+            return ResponseEntity.ok(ResponseApi.success(result, message));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    /**
+     * 저장 티어별 파일 수 / 원본 크기 / 저장 크기
+     */
+    @GetMapping("/tiering/usage")
+    public ResponseEntity<ResponseApi<List<TierUsage>>> getTierUsage() {
+        return ResponseEntity.ok(ResponseApi.success(storageTieringJob.usage()));
+    }
+
+    /**
+     * 무결성 검사 즉시 실행 (이미 실행 중이면 409)
+     */
+    @PostMapping("/integrity/scrub")
+    public ResponseEntity<ResponseApi<ScrubResult>> scrubIntegrity() {
+        try {
+            ScrubResult result = integrityScrubber.scrub();
+            String message = String.format("파일 %d개를 검사했습니다. (손상 %d개)", result.scannedFiles(), result.corrupted());
+            return ResponseEntity.ok(ResponseApi.success(result, message));
         } catch (BusinessException e) {
             return ResponseEntity.status(e.getStatus())
                     .body(ResponseApi.error(e.getMessage(), e.getErrorCode()));
         }
     }
 
+    /**
+     * checksum 불일치로 손상 표시된 파일 목록
+     */
+    @GetMapping("/integrity/corrupted")
+    public ResponseEntity<ResponseApi<List<FileResponse>>> getCorruptedFiles(@RequestParam(defaultValue = "100") int limit) {
+        List<FileResponse> files = integrityScrubber.findCorrupted(Math.min(Math.max(limit, 1), 1000));
+        return ResponseEntity.ok(ResponseApi.success(files));
+    }
+
     @PostMapping("/initialize")
     public ResponseEntity<ResponseApi<String>> initializeUploadDirectory() {
         fileService.initializeUploadDirectory();
-        return ResponseEntity.ok(ResponseApi.success("업로드 디렉토리가 초기화되었습니다."));
+        return ResponseEntity.ok(UPLOAD_DIRECTORY_INITIALIZED);
+    }
+
+    private static String contentDisposition(FileEntity file) {
+        // 파일명 인코딩 (한글 파일명 지원)
+        String encodedFilename = URLEncoder.encode(file.getOriginalFilename(), StandardCharsets.UTF_8)
+                .replace("+", "%20");
+        return "attachment; filename=\"" + file.getOriginalFilename() + "\"; filename*=UTF-8''" + encodedFilename;
     }
-}
\ No newline at end of file
+}
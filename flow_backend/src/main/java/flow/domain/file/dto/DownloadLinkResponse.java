@@ -0,0 +1,12 @@
+package flow.domain.file.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명된 다운로드 링크
+ *
+ * @param url       서명/만료 시각이 포함된 다운로드 경로
+ * @param expiresAt 만료 시각
+ */
+public record DownloadLinkResponse(String url, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,23 @@
+package flow.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 삭제 요청 (ids 또는 createdBefore 중 하나 이상 지정)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBulkDeleteRequest {
+
+    private List<Long> ids;
+
+    private LocalDateTime createdBefore;
+}
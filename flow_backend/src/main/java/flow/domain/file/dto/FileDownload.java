@@ -0,0 +1,15 @@
+package flow.domain.file.dto;
+
+import flow.domain.file.entity.FileEntity;
+import org.springframework.core.io.Resource;
+
+/**
+ * 다운로드 응답 구성 정보
+ *
+ * @param file            파일 메타데이터
+ * @param resource        전송할 내용
+ * @param contentEncoding 응답 Content-Encoding (저장된 gzip 을 그대로 보낼 때만 값이 있음)
+ * @param contentLength   전송 바이트 수
+ */
+public record FileDownload(FileEntity file, Resource resource, String contentEncoding, long contentLength) {
+}
@@ -0,0 +1,19 @@
+package flow.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileSearchPageResponse {
+    private List<FileResponse> items;
+    private Long nextCursor;
+    private String nextCursorName;
+    private boolean hasNext;
+}
@@ -0,0 +1,49 @@
+package flow.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 검색 조건 (지정하지 않은 조건은 적용하지 않음)
+ * - q: 파일명 검색어 (대소문자 무시), match 가 prefix 면 접두사, contains 면 부분 일치
+ * - cursor: 이전 페이지 마지막 파일 ID (ID 내림차순 키셋 페이지)
+ * - cursorName: 접두사 검색의 이전 페이지 마지막 파일 search_name (접두사 검색은 파일명, ID 오름차순이라 cursor 와 함께 전달)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileSearchRequest {
+
+    public static final String MATCH_PREFIX = "prefix";
+    public static final String MATCH_CONTAINS = "contains";
+
+    private String q;
+
+    private String match = MATCH_PREFIX;
+
+    private String extension;
+
+    private String contentType;
+
+    private Long minSize;
+
+    private Long maxSize;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    private Long cursor;
+
+    private String cursorName;
+
+    private int size = 50;
+}
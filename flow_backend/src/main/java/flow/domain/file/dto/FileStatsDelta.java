@@ -0,0 +1,11 @@
+package flow.domain.file.dto;
+
+/**
+ * 확장자 + Content-Type 별 통계 변화량 (files 테이블 GROUP BY projection 으로도 사용)
+ */
+public record FileStatsDelta(String extension, String contentType, Long fileCount, Long totalBytes, Long storedBytes) {
+
+    public FileStatsDelta negate() {
+        return new FileStatsDelta(extension, contentType, -fileCount, -totalBytes, -storedBytes);
+    }
+}
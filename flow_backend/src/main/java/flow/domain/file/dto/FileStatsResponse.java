@@ -0,0 +1,34 @@
+package flow.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 저장소 통계 (삭제 요청 후 정리 전인 파일도 디스크를 차지하므로 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileStatsResponse {
+
+    private long totalFiles;
+    private long totalBytes;
+    private long storedBytes;
+    private List<Group> byExtension;
+    private List<Group> byContentType;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        private String key;
+        private long fileCount;
+        private long totalBytes;
+        private long storedBytes;
+    }
+}
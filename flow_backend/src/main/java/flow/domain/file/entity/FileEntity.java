@@ -9,15 +9,31 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "files")
+@Table(name = "files",
+        indexes = {
+                @Index(name = "idx_files_stored_filename", columnList = "stored_filename"),
+                @Index(name = "idx_files_deleted_at", columnList = "deleted_at"),
+                @Index(name = "idx_files_created_at", columnList = "created_at"),
+                @Index(name = "idx_files_original_filename_created_at", columnList = "original_filename, created_at"),
+                @Index(name = "idx_files_search_name_id", columnList = "search_name, id"),
+                @Index(name = "idx_files_extension", columnList = "extension"),
+                @Index(name = "idx_files_content_type", columnList = "content_type"),
+                @Index(name = "idx_files_file_size", columnList = "file_size"),
+                @Index(name = "idx_files_storage_tier", columnList = "storage_tier")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class FileEntity {
 
+    public static final String TIER_ARCHIVE = "archive";
+
+    private static final int MAX_EXTENSION_LENGTH = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,6 +53,53 @@ public class FileEntity {
     @Column(name = "file_path", nullable = false, length = 500)
     private String filePath;
 
+    // 검색용 정규화 컬럼 (소문자 파일명 / 확장자). 저장 시 자동 계산, 기존 행은 FileSearchBackfill 이 채움
+    @Column(name = "search_name", length = 255)
+    private String searchName;
+
+    @Column(name = "extension", length = MAX_EXTENSION_LENGTH)
+    private String extension;
+
+    // 디스크에 저장된 크기 (압축 저장 시 압축 후 크기)
+    @Column(name = "stored_size")
+    private Long storedSize;
+
+    // 저장 시 적용된 압축 (gzip, 원본 저장이면 null)
+    @Column(name = "content_encoding", length = 20)
+    private String contentEncoding;
+
+    // 다운로드 횟수 / 마지막 다운로드 시각 (DownloadCounter 가 주기적으로 모아서 반영하므로 flush 주기만큼 늦음)
+    @Column(name = "download_count")
+    private Long downloadCount;
+
+    @Column(name = "last_accessed_at")
+    private LocalDateTime lastAccessedAt;
+
+    // 저장된 바이트(압축 저장 시 압축 후)의 SHA-256 (hex). 도입 이전 행은 IntegrityScrubber 가 채움
+    @Column(name = "checksum", length = 64)
+    private String checksum;
+
+    // 파일이 있는 저장 티어 (기본 업로드 디렉토리면 null, 아카이브 디렉토리로 옮겨졌으면 archive)
+    // 옮길 때 file_path / stored_size / content_encoding / checksum 도 아카이브 쪽 값으로 바뀜
+    @Column(name = "storage_tier", length = 20)
+    private String storageTier;
+
+    // 아카이브 티어로 옮긴 시각 (이후 다운로드되면 StorageTieringJob 이 다시 기본 티어로 옮김)
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    // 무결성 검사에서 checksum 불일치가 확인된 시각 (정상이면 null)
+    @Column(name = "corrupted_at")
+    private LocalDateTime corruptedAt;
+
+    // 정합성 검사에서 디스크에 파일이 없다고 확인된 시각 (정상이면 null)
+    @Column(name = "missing_at")
+    private LocalDateTime missingAt;
+
+    // 삭제 요청 시각 (tombstone). 값이 있으면 목록/조회에서 제외되고 FilePurgeWorker 가 실제 파일과 행을 정리
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -44,4 +107,27 @@ public class FileEntity {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    @PrePersist
+    public void indexForSearch() {
+        if (originalFilename == null) {
+            return;
+        }
+        this.searchName = originalFilename.toLowerCase(Locale.ROOT);
+        int dotIndex = originalFilename.lastIndexOf('.');
+        String ext = dotIndex >= 0 ? originalFilename.substring(dotIndex + 1).toLowerCase(Locale.ROOT) : "";
+        this.extension = ext.length() > MAX_EXTENSION_LENGTH ? ext.substring(0, MAX_EXTENSION_LENGTH) : ext;
+    }
+
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    public boolean isArchived() {
+        return TIER_ARCHIVE.equals(storageTier);
+    }
+}
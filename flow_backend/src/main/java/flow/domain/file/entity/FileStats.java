@@ -0,0 +1,61 @@
+package flow.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 확장자 + Content-Type 별 파일 수 / 크기 요약
+ * - 업로드 시 증가, FilePurgeWorker 가 행을 삭제할 때 같은 트랜잭션에서 감소
+ * - 값 변경은 UPDATE ... SET count = count + :delta 로만 하여 동시 업로드에도 누락이 없도록 함
+ * - 확장자/Content-Type 이 없으면 빈 문자열로 저장 (유니크 키에 NULL 을 쓰지 않기 위해)
+ */
+@Entity
+@Table(name = "file_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_file_stats_extension_content_type",
+                columnNames = {"extension", "content_type"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "extension", nullable = false, length = 50)
+    private String extension;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_count", nullable = false)
+    private long fileCount;
+
+    // 원본 크기 합계
+    @Column(name = "total_bytes", nullable = false)
+    private long totalBytes;
+
+    // 디스크에 저장된 크기 합계 (압축 저장 파일은 압축 후 크기)
+    @Column(name = "stored_bytes", nullable = false)
+    private long storedBytes;
+
+    @Builder
+    public FileStats(String extension, String contentType, long fileCount, long totalBytes, long storedBytes) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.fileCount = fileCount;
+        this.totalBytes = totalBytes;
+        this.storedBytes = storedBytes;
+    }
+
+    /**
+     * 재계산 결과로 덮어씀 (FileStatsService.rebuild, 요약 테이블을 잠근 트랜잭션 안에서만 호출)
+     */
+    public void replaceTotals(long fileCount, long totalBytes, long storedBytes) {
+        this.fileCount = fileCount;
+        this.totalBytes = totalBytes;
+        this.storedBytes = storedBytes;
+    }
+}
@@ -0,0 +1,9 @@
+package flow.domain.file.integrity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 무결성 검사용 파일 행 projection (엔티티 전체를 로딩하지 않음)
+ */
+public record ChecksumRef(Long id, String filePath, String checksum, LocalDateTime corruptedAt) {
+}
@@ -0,0 +1,67 @@
+package flow.domain.file.integrity;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 저장 파일 checksum (SHA-256, 소문자 hex)
+ * - 업로드 시에는 저장 스트림에 MessageDigest 를 붙여 쓰면서 계산
+ * - 검증 시에는 파일을 window 단위로 순차 mmap 하여 계산 (힙으로 복사하지 않음)
+ */
+public final class FileChecksum {
+
+    public static final String ALGORITHM = "SHA-256";
+
+    static final long MAP_WINDOW = 8L * 1024 * 1024;
+
+    private FileChecksum() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String compute(Path path) throws IOException {
+        return compute(path, bytes -> {
+        });
+    }
+
+    /**
+     * @param listener window 하나를 읽을 때마다 호출 (검사 속도 제한용)
+     */
+    public static String compute(Path path, WindowListener listener) throws IOException {
+        MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAP_WINDOW) {
+                long length = Math.min(MAP_WINDOW, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                digest.update(window);
+                listener.onWindow(length);
+            }
+        } catch (InternalError e) {
+            // 매핑 중 파일이 잘리면(truncate) 접근 오류가 InternalError 로 전달됨
+            throw new IOException("파일을 읽는 중 크기가 변경되었습니다: " + path, e);
+        }
+        return hex(digest);
+    }
+
+    @FunctionalInterface
+    public interface WindowListener {
+        void onWindow(long bytes) throws IOException;
+    }
+}
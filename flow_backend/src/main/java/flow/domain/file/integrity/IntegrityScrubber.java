@@ -0,0 +1,213 @@
+package flow.domain.file.integrity;
+
+import flow.common.exception.BusinessException;
+import flow.config.SchedulingConfig;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.dto.FileResponse;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장 파일 무결성 검사 (scrub)
+ * - PK 키셋 페이지로 행을 순회하며 파일을 순차 mmap 으로 다시 읽어 checksum 과 비교
+ * - 불일치하면 corrupted_at 표시, 다시 일치하면(복구된 경우) 해제
+ *   (표시/해제한 파일은 메타데이터 캐시에서 지우고, 손상된 파일은 핫 파일 캐시에서도 제거)
+ * - checksum 이 없는 행은 계산한 값을 저장 (도입 이전 업로드 채우기)
+ * - 읽기 속도를 max-bytes-per-second 로 제한하여 업로드/다운로드 I/O 와 경쟁하지 않도록 함
+ * - 파일이 없는 행은 건너뜀 (StorageReconciler 가 missing_at 으로 표시)
+ */
+@Component
+@Slf4j
+public class IntegrityScrubber {
+
+    private final FileRepository fileRepository;
+    private final FileMetadataCache fileMetadataCache;
+    private final HotFileCache hotFileCache;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong scannedFiles = new AtomicLong();
+    private final AtomicLong corruptedFiles = new AtomicLong();
+
+    @Value("${app.integrity.scrub.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.integrity.scrub.max-bytes-per-second:20MB}")
+    private DataSize maxBytesPerSecond;
+
+    public IntegrityScrubber(FileRepository fileRepository, FileMetadataCache fileMetadataCache,
+                             HotFileCache hotFileCache, MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.fileMetadataCache = fileMetadataCache;
+        this.hotFileCache = hotFileCache;
+        this.meterRegistry = meterRegistry;
+
+        // 진행 중인 검사의 진행 상황 (완료 후에는 마지막 검사의 최종 값)
+        meterRegistry.gauge("flow.integrity.scrub.files.scanned", scannedFiles);
+        meterRegistry.gauge("flow.integrity.scrub.files.corrupted", corruptedFiles);
+    }
+
+    @Scheduled(fixedDelayString = "${app.integrity.scrub.interval:PT24H}",
+               initialDelayString = "${app.integrity.scrub.initial-delay:PT15M}",
+               scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void scheduledScrub() {
+        if (running.get()) {
+            log.info("무결성 검사가 이미 실행 중이어서 건너뜀");
+            return;
+        }
+        scrub();
+    }
+
+    public ScrubResult scrub() {
+        if (!running.compareAndSet(false, true)) {
+            throw BusinessException.conflict("무결성 검사가 이미 실행 중입니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            scannedFiles.set(0);
+            corruptedFiles.set(0);
+            Throttle throttle = new Throttle(maxBytesPerSecond.toBytes());
+            long[] totals = new long[4]; // bytes, corrupted, backfilled, unreadable
+
+            long cursor = 0L;
+            while (true) {
+                List<ChecksumRef> page = fileRepository.findChecksumRefsAfter(cursor, PageRequest.of(0, batchSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                scrubPage(page, throttle, totals);
+                cursor = page.get(page.size() - 1).id();
+                if (page.size() < batchSize) {
+                    break;
+                }
+            }
+
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            meterRegistry.timer("flow.integrity.scrub.duration").record(Duration.ofMillis(elapsedMillis));
+
+            ScrubResult result = new ScrubResult(scannedFiles.get(), totals[0], totals[1], totals[2], totals[3], elapsedMillis);
+            log.info("무결성 검사 완료: {}", result);
+            return result;
+
+        } catch (InterruptedIOException e) {
+            Thread.currentThread().interrupt();
+            throw BusinessException.internalServerError("무결성 검사가 중단되었습니다.");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 손상된 것으로 표시된 파일 목록 (최근 표시순)
+     */
+    public List<FileResponse> findCorrupted(int limit) {
+        return fileRepository.findCorrupted(PageRequest.of(0, limit));
+    }
+
+    private void scrubPage(List<ChecksumRef> page, Throttle throttle, long[] totals) throws InterruptedIOException {
+        List<Long> corrupted = new ArrayList<>();
+        List<Long> recovered = new ArrayList<>();
+
+        for (ChecksumRef ref : page) {
+            Path path = Paths.get(ref.filePath());
+            String actual;
+            try {
+                actual = FileChecksum.compute(path, throttle::acquire);
+                totals[0] += Files.size(path);
+            } catch (InterruptedIOException e) {
+                throw e;
+            } catch (NoSuchFileException e) {
+                totals[3]++;
+                meterRegistry.counter("flow.integrity.scrub.files", "result", "missing").increment();
+                continue;
+            } catch (IOException e) {
+                totals[3]++;
+                meterRegistry.counter("flow.integrity.scrub.files", "result", "unreadable").increment();
+                log.warn("무결성 검사 중 파일 읽기 실패: id={}, path={} - {}", ref.id(), ref.filePath(), e.getMessage());
+                continue;
+            }
+            scannedFiles.incrementAndGet();
+
+            if (ref.checksum() == null) {
+                totals[2] += fileRepository.fillChecksum(ref.id(), actual);
+                meterRegistry.counter("flow.integrity.scrub.files", "result", "backfilled").increment();
+            } else if (!ref.checksum().equals(actual)) {
+                corrupted.add(ref.id());
+                meterRegistry.counter("flow.integrity.scrub.files", "result", "corrupted").increment();
+            } else {
+                meterRegistry.counter("flow.integrity.scrub.files", "result", "ok").increment();
+                if (ref.corruptedAt() != null) {
+                    recovered.add(ref.id());
+                }
+            }
+        }
+
+        if (!corrupted.isEmpty()) {
+            fileRepository.markCorrupted(corrupted, LocalDateTime.now());
+            hotFileCache.evict(corrupted);
+            fileMetadataCache.invalidate(corrupted);
+            totals[1] += corrupted.size();
+            corruptedFiles.addAndGet(corrupted.size());
+            log.error("checksum 이 일치하지 않는 파일 {}개: {}", corrupted.size(), corrupted);
+        }
+        if (!recovered.isEmpty()) {
+            fileRepository.clearCorrupted(recovered);
+            fileMetadataCache.invalidate(recovered);
+            log.info("checksum 이 다시 일치하는 파일 {}개: {}", recovered.size(), recovered);
+        }
+    }
+
+    /**
+     * 초당 읽기 바이트 제한 (읽은 양이 허용량을 앞서면 그만큼 대기)
+     */
+    static class Throttle {
+
+        private final long bytesPerSecond;
+        private final long startNanos = System.nanoTime();
+        private long bytes;
+
+        Throttle(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        void acquire(long read) throws InterruptedIOException {
+            if (bytesPerSecond <= 0) {
+                return;
+            }
+            bytes += read;
+            long allowedAtNanos = (long) ((double) bytes / bytesPerSecond * TimeUnit.SECONDS.toNanos(1));
+            long aheadNanos = allowedAtNanos - (System.nanoTime() - startNanos);
+            if (aheadNanos <= 0) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("무결성 검사 대기 중 인터럽트");
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package flow.domain.file.integrity;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 다운로드 직전 checksum 검증 (app.integrity.verify-on-download)
+ * - 저장된 바이트 전체를 다시 읽으므로 기본은 비활성, max-size 이하 파일만 검증
+ * - 불일치하면 corrupted_at 을 표시하고 손상된 내용을 보내지 않음
+ * - checksum 이 없는 행(도입 이전, 아직 scrub 되지 않음)은 검증하지 않음
+ * - 손상 표시된 파일은 모든 전송 경로(JVM, X-Accel-Redirect)에서 checkNotCorrupted 로 먼저 거름
+ *   (표시하는 쪽이 메타데이터 캐시/핫 파일 캐시를 비우므로 이미 읽은 메타데이터의 corrupted_at 으로 판단)
+ */
+@Component
+@Slf4j
+public class IntegrityVerifier {
+
+    private static final BusinessException FILE_CORRUPTED = BusinessException.internalServerError("파일이 손상되어 다운로드할 수 없습니다.");
+
+    private final FileRepository fileRepository;
+    private final FileMetadataCache fileMetadataCache;
+    private final HotFileCache hotFileCache;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Counter verifiedCounter;
+    private final Counter corruptedCounter;
+
+    public IntegrityVerifier(FileRepository fileRepository,
+                             FileMetadataCache fileMetadataCache,
+                             HotFileCache hotFileCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.integrity.verify-on-download.enabled:false}") boolean enabled,
+                             @Value("${app.integrity.verify-on-download.max-size:16MB}") DataSize maxSize) {
+        this.fileRepository = fileRepository;
+        this.fileMetadataCache = fileMetadataCache;
+        this.hotFileCache = hotFileCache;
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        this.verifiedCounter = meterRegistry.counter("flow.integrity.download.verified");
+        this.corruptedCounter = meterRegistry.counter("flow.integrity.download.corrupted");
+    }
+
+    public void verify(FileEntity file, Path path, long storedSize) throws IOException {
+        if (!enabled || file.getChecksum() == null || storedSize > maxBytes) {
+            return;
+        }
+
+        String actual = FileChecksum.compute(path);
+        verifiedCounter.increment();
+        if (!actual.equals(file.getChecksum())) {
+            corruptedCounter.increment();
+            List<Long> ids = List.of(file.getId());
+            fileRepository.markCorrupted(ids, LocalDateTime.now());
+            hotFileCache.evict(ids);
+            fileMetadataCache.invalidate(ids);
+            log.error("다운로드 검증 실패 - checksum 불일치: id={}, path={}", file.getId(), path);
+            throw FILE_CORRUPTED;
+        }
+    }
+
+    /**
+     * 스크러버/다운로드 검증/티어 이동에서 손상 표시된 파일은 전송 거부
+     * - 표시할 때 캐시를 비우므로 추가 조회 없이 이미 읽은 메타데이터로 확인
+     */
+    public void checkNotCorrupted(FileEntity file) {
+        if (file.getCorruptedAt() != null) {
+            log.warn("손상 표시된 파일 다운로드 거부: id={}", file.getId());
+            throw FILE_CORRUPTED;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package flow.domain.file.integrity;
+
+/**
+ * 무결성 검사(scrub) 결과
+ *
+ * @param scannedFiles  검사한 파일 수
+ * @param scannedBytes  읽은 바이트 수
+ * @param corrupted     checksum 이 일치하지 않은 파일 수
+ * @param backfilled    checksum 이 없어 새로 계산해 저장한 파일 수
+ * @param unreadable    파일이 없거나 읽지 못한 수
+ * @param elapsedMillis 소요 시간
+ */
+public record ScrubResult(long scannedFiles, long scannedBytes, long corrupted, long backfilled,
+                          long unreadable, long elapsedMillis) {
+}
@@ -0,0 +1,103 @@
+package flow.domain.file.link;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.dto.DownloadLinkResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 만료 시각이 있는 다운로드 링크 서명/검증 (HMAC-SHA256)
+ * - 서명 대상은 "파일 ID:만료 시각(epoch 초)" 이므로 ID 나 만료 시각을 바꾸면 검증 실패
+ * - secret 을 설정하지 않으면 기동 시 임의로 생성하므로 재시작하면 이전에 발급한 링크는 무효
+ * - 발급된 X-Api-Key(api-keys)를 보낸 요청에만 링크 발급 (미설정 시 아무에게도 발급하지 않음)
+ * - 키는 서버 간 클라이언트 전용 - 브라우저 번들에 넣으면 공개되므로 브라우저는 서명 없는 다운로드 사용
+ */
+@Component
+@Slf4j
+public class DownloadLinkSigner {
+
+    public static final String API_KEY_HEADER = "X-Api-Key";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final BusinessException ISSUE_FORBIDDEN = BusinessException.forbidden("다운로드 링크를 발급할 권한이 없습니다.");
+    private static final BusinessException LINK_EXPIRED = BusinessException.forbidden("다운로드 링크가 만료되었습니다.");
+    private static final BusinessException LINK_INVALID = BusinessException.forbidden("다운로드 링크가 올바르지 않습니다.");
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Set<String> apiKeys;
+
+    public DownloadLinkSigner(@Value("${app.download.signed-url.secret:}") String secret,
+                              @Value("${app.download.signed-url.ttl:5m}") Duration ttl,
+                              @Value("${app.download.signed-url.api-keys:}") Set<String> apiKeys) {
+        this.key = new SecretKeySpec(resolveSecret(secret), HMAC_ALGORITHM);
+        this.ttl = ttl;
+        this.apiKeys = Set.copyOf(apiKeys);
+        if (this.apiKeys.isEmpty()) {
+            log.info("app.download.signed-url.api-keys 가 설정되지 않아 다운로드 링크를 발급하지 않습니다.");
+        }
+    }
+
+    /**
+     * 링크 발급 권한 확인 (발급된 키만 허용, 키 목록이 비어 있으면 모두 거부)
+     */
+    public void authorize(String apiKey) {
+        if (apiKey == null || !apiKeys.contains(apiKey)) {
+            throw ISSUE_FORBIDDEN;
+        }
+    }
+
+    public DownloadLinkResponse issue(Long fileId) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String url = "/api/files/" + fileId + "/signed?expires=" + expires + "&signature=" + sign(fileId, expires);
+        return new DownloadLinkResponse(url, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+
+    public void verify(Long fileId, long expires, String signature) {
+        if (!StringUtils.hasText(signature)
+                || !MessageDigest.isEqual(sign(fileId, expires).getBytes(StandardCharsets.US_ASCII),
+                                          signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw LINK_INVALID;
+        }
+        if (Instant.now().getEpochSecond() > expires) {
+            throw LINK_EXPIRED;
+        }
+    }
+
+    String sign(Long fileId, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal((fileId + ":" + expires).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("다운로드 링크 서명에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (StringUtils.hasText(secret)) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("app.download.signed-url.secret 이 설정되지 않아 임의 키를 사용합니다. 재시작 시 발급된 링크는 무효화됩니다.");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,71 @@
+package flow.domain.file.link;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * nginx X-Accel-Redirect 경로 생성
+ * - 응답 본문 없이 헤더만 돌려주면 nginx 가 internal location(업로드 볼륨)에서 sendfile 로 직접 전송
+ * - gzip 저장 파일은 Accept-Encoding 에 따라 해제가 필요하므로 제외 (JVM 에서 전송)
+ * - 업로드 디렉토리 밖의 경로도 제외
+ */
+@Component
+public class XAccelRedirect {
+
+    public static final String HEADER = "X-Accel-Redirect";
+
+    private final boolean enabled;
+    private final Path uploadDir;
+    private final String internalPrefix;
+    private final Counter redirectedCounter;
+
+    public XAccelRedirect(@Value("${app.download.accel-redirect.enabled:false}") boolean enabled,
+                          @Value("${app.upload.path:/flow/data}") String uploadPath,
+                          @Value("${app.download.accel-redirect.internal-prefix:/internal/files/}") String internalPrefix,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.uploadDir = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.internalPrefix = internalPrefix.endsWith("/") ? internalPrefix : internalPrefix + "/";
+        this.redirectedCounter = meterRegistry.counter("flow.download.accel.redirected");
+    }
+
+    /**
+     * nginx 가 직접 전송할 수 있는 파일인지 (경로 계산/카운트 없이 확인)
+     */
+    public boolean supports(FileEntity file) {
+        if (!enabled || file.getContentEncoding() != null) {
+            return false;
+        }
+        Path path = Paths.get(file.getFilePath()).toAbsolutePath().normalize();
+        return path.startsWith(uploadDir) && !path.equals(uploadDir);
+    }
+
+    /**
+     * nginx 가 전송할 내부 경로 (직접 전송할 수 없으면 null)
+     */
+    public String resolve(FileEntity file) {
+        if (!supports(file)) {
+            return null;
+        }
+        Path path = Paths.get(file.getFilePath()).toAbsolutePath().normalize();
+
+        StringBuilder uri = new StringBuilder(internalPrefix);
+        Path relative = uploadDir.relativize(path);
+        for (int i = 0; i < relative.getNameCount(); i++) {
+            if (i > 0) {
+                uri.append('/');
+            }
+            uri.append(UriUtils.encodePathSegment(relative.getName(i).toString(), StandardCharsets.UTF_8));
+        }
+        redirectedCounter.increment();
+        return uri.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package flow.domain.file.preview;
+
+/**
+ * 업로드된 파일이 저장(커밋)되었음을 알리는 이벤트
+ * - FileServiceImpl 에서 발행, 커밋 이후 ThumbnailService 가 썸네일 생성 작업을 등록
+ *
+ * @param id              파일 ID
+ * @param filePath        저장 경로
+ * @param contentType     업로드 시 Content-Type
+ * @param contentEncoding 저장 압축 방식 (gzip 저장 시 "gzip", 아니면 null)
+ */
+public record FileUploadedEvent(Long id, String filePath, String contentType, String contentEncoding) {
+}
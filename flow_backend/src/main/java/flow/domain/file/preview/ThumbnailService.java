@@ -0,0 +1,200 @@
+package flow.domain.file.preview;
+
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.storage.StorageCompression;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 이미지 업로드 썸네일 생성
+ * - 업로드 커밋 이후 고정 크기 작업 풀(workers, queue-capacity)에서 생성하고, 큐가 가득 차면 생성하지 않음 (rejected)
+ * - 원본과 같은 디렉토리의 .thumbnails/ 아래에 "저장 파일명.jpg" 로 저장 (정합성 검사의 파일 순회 대상에서 제외됨)
+ * - 큰 이미지는 디코딩 시 서브샘플링하여 메모리 사용을 제한하고, max-source-pixels 를 넘으면 생성하지 않음
+ * - ImageIO 가 읽을 수 있는 형식(JPEG, PNG, GIF, BMP)만 지원
+ */
+@Component
+@Slf4j
+public class ThumbnailService {
+
+    static final String THUMBNAIL_DIR = ".thumbnails";
+    static final String THUMBNAIL_SUFFIX = ".jpg";
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxSourcePixels;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer generationTimer;
+
+    public ThumbnailService(@Value("${app.preview.enabled:true}") boolean enabled,
+                            @Value("${app.preview.thumbnail-size:256}") int maxSize,
+                            @Value("${app.preview.max-source-pixels:50000000}") long maxSourcePixels,
+                            @Value("${app.preview.workers:2}") int workers,
+                            @Value("${app.preview.queue-capacity:200}") int queueCapacity,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxSourcePixels = maxSourcePixels;
+        this.meterRegistry = meterRegistry;
+        this.generationTimer = meterRegistry.timer("flow.preview.thumbnail.duration");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+        meterRegistry.gauge("flow.preview.queue.size", executor, e -> e.getQueue().size());
+    }
+
+    public static Path thumbnailPath(Path original) {
+        return original.resolveSibling(THUMBNAIL_DIR).resolve(original.getFileName() + THUMBNAIL_SUFFIX);
+    }
+
+    /**
+     * 생성된 썸네일 경로 (없으면 empty)
+     */
+    public Optional<Path> find(FileEntity file) {
+        Path thumbnail = thumbnailPath(Paths.get(file.getFilePath()));
+        return Files.isRegularFile(thumbnail) ? Optional.of(thumbnail) : Optional.empty();
+    }
+
+    public boolean supports(String contentType) {
+        return contentType != null
+                && contentType.startsWith("image/")
+                && ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileUploaded(FileUploadedEvent event) {
+        if (!enabled || !supports(event.contentType())) {
+            return;
+        }
+        try {
+            executor.execute(() -> generateQuietly(event));
+        } catch (RejectedExecutionException e) {
+            result("rejected").increment();
+            log.debug("썸네일 작업 큐가 가득 차 생성하지 않음: id={}", event.id());
+        }
+    }
+
+    private void generateQuietly(FileUploadedEvent event) {
+        Path source = Paths.get(event.filePath());
+        try {
+            boolean created = generationTimer.recordCallable(() -> generate(
+                    source, StorageCompression.GZIP.equals(event.contentEncoding()), thumbnailPath(source)));
+            result(created ? "created" : "skipped").increment();
+        } catch (Exception e) {
+            result("failed").increment();
+            log.warn("썸네일 생성 실패: id={} - {}", event.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 썸네일 생성 (지원하지 않는 형식이거나 너무 큰 이미지면 false)
+     */
+    boolean generate(Path source, boolean gzipStored, Path target) throws IOException {
+        try (InputStream raw = Files.newInputStream(source);
+             InputStream in = gzipStored ? new GZIPInputStream(raw) : raw;
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            if (imageInput == null) {
+                return false;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return false;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    return false;
+                }
+
+                // 썸네일 크기의 2배 이상은 남기고 나머지 픽셀은 디코딩 단계에서 건너뜀
+                int step = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                write(scale(image), target);
+                return true;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        // JPEG 는 알파 채널이 없으므로 흰 배경 위에 그림
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private void write(BufferedImage thumbnail, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            ImageIO.write(thumbnail, "jpg", part.toFile());
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    private Counter result(String result) {
+        return meterRegistry.counter("flow.preview.thumbnails", "result", result);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,17 +1,209 @@
 package flow.domain.file.repository;
 
+import flow.domain.file.dto.FileResponse;
+import flow.domain.file.dto.FileStatsDelta;
 import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.ChecksumRef;
+import flow.domain.file.storage.RetentionCandidate;
+import flow.domain.file.storage.StoredFileRef;
+import flow.domain.file.storage.TierCandidate;
+import flow.domain.file.storage.TierUsage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface FileRepository extends JpaRepository<FileEntity, Long> {
+public interface FileRepository extends JpaRepository<FileEntity, Long>, JpaSpecificationExecutor<FileEntity> {
 
-    @Query("SELECT f FROM FileEntity f ORDER BY f.createdAt DESC")
+    @Query("SELECT f FROM FileEntity f WHERE f.deletedAt IS NULL ORDER BY f.createdAt DESC")
     List<FileEntity> findAllOrderByCreatedAtDesc();
 
+    // 목록 스트리밍: DTO projection 이라 영속성 컨텍스트에 쌓이지 않고, fetch size 단위로 커서에서 읽음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new flow.domain.file.dto.FileResponse(f.id, f.originalFilename, f.fileSize, f.contentType, " +
+           "f.createdAt, f.updatedAt) FROM FileEntity f WHERE f.deletedAt IS NULL ORDER BY f.createdAt DESC")
+    Stream<FileResponse> streamAllActive();
+
     boolean existsByStoredFilename(String storedFilename);
-}
\ No newline at end of file
+
+    // PK 키셋 페이지 (cursor 이후부터 조회, 정합성 검사용)
+    @Query("SELECT new flow.domain.file.storage.StoredFileRef(f.id, f.filePath, f.missingAt) " +
+           "FROM FileEntity f WHERE f.id > :cursor AND f.deletedAt IS NULL ORDER BY f.id ASC")
+    List<StoredFileRef> findStoredFileRefsAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 저장 파일명이 같은 행이 가리키는 경로 (티어 이동 중 남은 사본인지 판단하기 위해 이름이 아닌 경로로 반환)
+    @Query("SELECT f.filePath FROM FileEntity f WHERE f.storedFilename IN :storedFilenames")
+    List<String> findFilePathsByStoredFilenames(@Param("storedFilenames") Collection<String> storedFilenames);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.missingAt = :missingAt WHERE f.id IN :ids AND f.missingAt IS NULL")
+    int markMissing(@Param("ids") Collection<Long> ids, @Param("missingAt") LocalDateTime missingAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.missingAt = NULL WHERE f.id IN :ids")
+    int clearMissing(@Param("ids") Collection<Long> ids);
+
+    // 삭제 요청된 행 (tombstone) PK 키셋 페이지 (삭제에 실패한 행이 뒤쪽 행을 막지 않도록 cursor 이후부터 조회)
+    @Query("SELECT new flow.domain.file.storage.StoredFileRef(f.id, f.filePath, f.missingAt) " +
+           "FROM FileEntity f WHERE f.id > :cursor AND f.deletedAt IS NOT NULL ORDER BY f.id ASC")
+    List<StoredFileRef> findTombstonesAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.deletedAt = :deletedAt WHERE f.id IN :ids AND f.deletedAt IS NULL")
+    int markDeletedByIds(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.deletedAt = :deletedAt WHERE f.createdAt < :createdBefore AND f.deletedAt IS NULL")
+    int markDeletedCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore,
+                                 @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 보존 정책: created_at 인덱스 순으로 오래된 파일부터 조회 (tombstone 처리된 행은 다음 조회에서 빠지므로 cursor 불필요)
+    @Query("SELECT new flow.domain.file.storage.RetentionCandidate(f.id, COALESCE(f.storedSize, f.fileSize)) " +
+           "FROM FileEntity f WHERE f.deletedAt IS NULL AND f.createdAt < :createdBefore " +
+           "ORDER BY f.createdAt ASC, f.id ASC")
+    List<RetentionCandidate> findRetentionCandidatesCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore,
+                                                                  Pageable pageable);
+
+    @Query("SELECT new flow.domain.file.storage.RetentionCandidate(f.id, COALESCE(f.storedSize, f.fileSize)) " +
+           "FROM FileEntity f WHERE f.deletedAt IS NULL ORDER BY f.createdAt ASC, f.id ASC")
+    List<RetentionCandidate> findOldestRetentionCandidates(Pageable pageable);
+
+    // 보존 정책: 같은 이름의 파일 중 최신 keep 개를 건너뛴 나머지 (offset = keep)
+    @Query("SELECT new flow.domain.file.storage.RetentionCandidate(f.id, COALESCE(f.storedSize, f.fileSize)) " +
+           "FROM FileEntity f WHERE f.deletedAt IS NULL AND f.originalFilename = :originalFilename " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<RetentionCandidate> findRetentionCandidatesByName(@Param("originalFilename") String originalFilename,
+                                                           Pageable pageable);
+
+    // 보존 정책: cursor 다음 이름 구간 (idx_files_original_filename_created_at 만 읽도록 deleted_at 조건 없이 조회)
+    @Query("SELECT DISTINCT f.originalFilename FROM FileEntity f WHERE f.originalFilename > :cursor " +
+           "ORDER BY f.originalFilename ASC")
+    List<String> findNamesAfter(@Param("cursor") String cursor, Pageable pageable);
+
+    // 보존 정책: (from, to] 구간에서 파일 수가 keep 개를 넘는 이름 (구간 밖의 행은 집계하지 않음)
+    @Query("SELECT f.originalFilename FROM FileEntity f " +
+           "WHERE f.deletedAt IS NULL AND f.originalFilename > :from AND f.originalFilename <= :to " +
+           "GROUP BY f.originalFilename HAVING COUNT(f) > :keep " +
+           "ORDER BY f.originalFilename ASC")
+    List<String> findNamesExceedingBetween(@Param("keep") long keep, @Param("from") String from,
+                                           @Param("to") String to);
+
+    // 디스크 사용량 기준 (압축 저장 파일은 압축 후 크기)
+    @Query("SELECT COALESCE(SUM(COALESCE(f.storedSize, f.fileSize)), 0) FROM FileEntity f WHERE f.deletedAt IS NULL")
+    long sumActiveFileSize();
+
+    // 검색 컬럼이 채워지지 않은 기존 행 (FileSearchBackfill)
+    @Query("SELECT f FROM FileEntity f WHERE f.searchName IS NULL ORDER BY f.id ASC")
+    List<FileEntity> findSearchBackfillTargets(Pageable pageable);
+
+    boolean existsBySearchNameIsNull();
+
+    // 통계: 행 삭제 전 차감할 값 집계
+    @Query("SELECT new flow.domain.file.dto.FileStatsDelta(f.extension, f.contentType, COUNT(f), " +
+           "SUM(f.fileSize), SUM(COALESCE(f.storedSize, f.fileSize))) " +
+           "FROM FileEntity f WHERE f.id IN :ids GROUP BY f.extension, f.contentType")
+    List<FileStatsDelta> summarizeByIds(@Param("ids") Collection<Long> ids);
+
+    // 통계: 전체 재계산 (관리용)
+    @Query("SELECT new flow.domain.file.dto.FileStatsDelta(f.extension, f.contentType, COUNT(f), " +
+           "SUM(f.fileSize), SUM(COALESCE(f.storedSize, f.fileSize))) " +
+           "FROM FileEntity f GROUP BY f.extension, f.contentType")
+    List<FileStatsDelta> summarizeAll();
+
+    // 다운로드 통계 반영 (같은 증가량끼리 묶어 한 번에 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.downloadCount = COALESCE(f.downloadCount, 0) + :delta, " +
+           "f.lastAccessedAt = :accessedAt WHERE f.id IN :ids")
+    int addDownloads(@Param("ids") Collection<Long> ids,
+                     @Param("delta") long delta,
+                     @Param("accessedAt") LocalDateTime accessedAt);
+
+    // 무결성 검사용 PK 키셋 페이지
+    @Query("SELECT new flow.domain.file.integrity.ChecksumRef(f.id, f.filePath, f.checksum, f.corruptedAt) " +
+           "FROM FileEntity f WHERE f.id > :cursor AND f.deletedAt IS NULL ORDER BY f.id ASC")
+    List<ChecksumRef> findChecksumRefsAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.checksum = :checksum WHERE f.id = :id AND f.checksum IS NULL")
+    int fillChecksum(@Param("id") Long id, @Param("checksum") String checksum);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.corruptedAt = :corruptedAt WHERE f.id IN :ids AND f.corruptedAt IS NULL")
+    int markCorrupted(@Param("ids") Collection<Long> ids, @Param("corruptedAt") LocalDateTime corruptedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.corruptedAt = NULL WHERE f.id IN :ids")
+    int clearCorrupted(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new flow.domain.file.dto.FileResponse(f.id, f.originalFilename, f.fileSize, f.contentType, " +
+           "f.createdAt, f.updatedAt) FROM FileEntity f WHERE f.corruptedAt IS NOT NULL AND f.deletedAt IS NULL " +
+           "ORDER BY f.corruptedAt DESC")
+    List<FileResponse> findCorrupted(Pageable pageable);
+
+    // 아카이브 티어로 옮길 파일 (생성 후 일정 기간이 지났고 최근 다운로드가 없는 기본 티어 파일, PK 키셋 페이지)
+    @Query("SELECT new flow.domain.file.storage.TierCandidate(f.id, f.filePath, f.extension, f.contentType, " +
+           "f.contentEncoding, f.fileSize, f.storedSize, f.checksum) FROM FileEntity f " +
+           "WHERE f.id > :cursor AND f.deletedAt IS NULL AND f.storageTier IS NULL " +
+           "AND f.missingAt IS NULL AND f.corruptedAt IS NULL AND f.createdAt < :createdBefore " +
+           "AND (f.lastAccessedAt IS NULL OR f.lastAccessedAt < :accessedBefore) ORDER BY f.id ASC")
+    List<TierCandidate> findArchiveCandidatesAfter(@Param("cursor") Long cursor,
+                                                   @Param("createdBefore") LocalDateTime createdBefore,
+                                                   @Param("accessedBefore") LocalDateTime accessedBefore,
+                                                   Pageable pageable);
+
+    // 아카이브 이후 다시 다운로드된 파일 (기본 티어로 되돌릴 대상)
+    @Query("SELECT new flow.domain.file.storage.TierCandidate(f.id, f.filePath, f.extension, f.contentType, " +
+           "f.contentEncoding, f.fileSize, f.storedSize, f.checksum) FROM FileEntity f " +
+           "WHERE f.id > :cursor AND f.deletedAt IS NULL AND f.storageTier = '" + FileEntity.TIER_ARCHIVE + "' " +
+           "AND f.lastAccessedAt > f.archivedAt ORDER BY f.id ASC")
+    List<TierCandidate> findRehydrateCandidatesAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 다운로드 직후 되돌릴 아카이브 파일 (last_accessed_at 은 다운로드 카운터가 반영하기 전일 수 있으므로 조건에서 제외)
+    @Query("SELECT new flow.domain.file.storage.TierCandidate(f.id, f.filePath, f.extension, f.contentType, " +
+           "f.contentEncoding, f.fileSize, f.storedSize, f.checksum) FROM FileEntity f " +
+           "WHERE f.id = :id AND f.deletedAt IS NULL AND f.storageTier = '" + FileEntity.TIER_ARCHIVE + "'")
+    Optional<TierCandidate> findArchivedTierCandidate(@Param("id") Long id);
+
+    // 티어 이동 반영 (조회 이후 삭제되었거나 경로가 바뀐 행은 갱신하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileEntity f SET f.filePath = :newPath, f.storageTier = :tier, f.storedSize = :storedSize, " +
+           "f.contentEncoding = :contentEncoding, f.checksum = :checksum, f.archivedAt = :archivedAt " +
+           "WHERE f.id = :id AND f.filePath = :oldPath AND f.deletedAt IS NULL")
+    int moveToTier(@Param("id") Long id,
+                   @Param("oldPath") String oldPath,
+                   @Param("newPath") String newPath,
+                   @Param("tier") String tier,
+                   @Param("storedSize") Long storedSize,
+                   @Param("contentEncoding") String contentEncoding,
+                   @Param("checksum") String checksum,
+                   @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 티어별 사용량 (기본 티어는 tier 가 null)
+    @Query("SELECT new flow.domain.file.storage.TierUsage(f.storageTier, COUNT(f), COALESCE(SUM(f.fileSize), 0), " +
+           "COALESCE(SUM(COALESCE(f.storedSize, f.fileSize)), 0)) FROM FileEntity f " +
+           "WHERE f.deletedAt IS NULL GROUP BY f.storageTier")
+    List<TierUsage> summarizeTiers();
+}
@@ -0,0 +1,76 @@
+package flow.domain.file.repository;
+
+import flow.domain.file.entity.FileEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 검색 조건
+ * - 지정된 조건만 WHERE 절에 추가하여 조건별 인덱스(search_name, extension, content_type, file_size, created_at)를 탈 수 있도록 함
+ * - 파일명 접두사 검색은 (search_name, id) 인덱스 순서로 정렬/페이지하여 범위 스캔이 그대로 결과 순서가 되도록 함 (filesort 없음)
+ * - 문자열 인자는 호출 측에서 소문자로 정규화하여 전달
+ */
+public final class FileSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private FileSpecifications() {
+    }
+
+    public static Specification<FileEntity> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<FileEntity> nameStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("searchName"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    // 앞쪽 와일드카드라 인덱스를 타지 못하므로 다른 조건과 페이지 크기로 범위를 좁혀서 사용
+    public static Specification<FileEntity> nameContains(String keyword) {
+        return (root, query, cb) -> cb.like(root.get("searchName"), "%" + escapeLike(keyword) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<FileEntity> extensionEquals(String extension) {
+        return (root, query, cb) -> cb.equal(root.get("extension"), extension);
+    }
+
+    // "image/" 처럼 / 로 끝나면 해당 유형 전체
+    public static Specification<FileEntity> contentTypeMatches(String contentType) {
+        if (contentType.endsWith("/")) {
+            return (root, query, cb) -> cb.like(root.get("contentType"), escapeLike(contentType) + "%", LIKE_ESCAPE);
+        }
+        return (root, query, cb) -> cb.equal(root.get("contentType"), contentType);
+    }
+
+    public static Specification<FileEntity> sizeAtLeast(long minSize) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("fileSize"), minSize);
+    }
+
+    public static Specification<FileEntity> sizeAtMost(long maxSize) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("fileSize"), maxSize);
+    }
+
+    public static Specification<FileEntity> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<FileEntity> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    public static Specification<FileEntity> idBefore(Long cursor) {
+        return (root, query, cb) -> cb.lessThan(root.get("id"), cursor);
+    }
+
+    // (search_name, id) 오름차순 키셋: 이전 페이지 마지막 행보다 뒤
+    public static Specification<FileEntity> nameAfter(String searchName, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("searchName"), searchName),
+                cb.and(cb.equal(root.get("searchName"), searchName), cb.greaterThan(root.get("id"), id)));
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,42 @@
+package flow.domain.file.repository;
+
+import flow.domain.file.entity.FileStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FileStatsRepository extends JpaRepository<FileStats, Long> {
+
+    boolean existsByExtensionAndContentType(String extension, String contentType);
+
+    // 재계산용: 조건 없는 SELECT ... FOR UPDATE 라 InnoDB 가 모든 행과 gap 을 잠가 동시 증감/요약 행 생성이 커밋까지 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FileStats s")
+    List<FileStats> findAllForUpdate();
+
+    // 요약 행이 없을 때만 생성 - 호출한 트랜잭션 안에서 실행하고 유니크 키 충돌(동시 생성)은 무시
+    @Modifying
+    @Query("INSERT INTO FileStats (extension, contentType, fileCount, totalBytes, storedBytes) " +
+           "VALUES (:extension, :contentType, 0, 0, 0) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("extension") String extension, @Param("contentType") String contentType);
+
+    // 읽고 쓰지 않고 DB 에서 바로 더하여 동시 갱신에도 값이 누락되지 않음
+    // 집계에 포함되지 않았던 행을 삭제하더라도 음수가 되지 않도록 0 에서 멈춤
+    @Modifying
+    @Query("UPDATE FileStats s SET s.fileCount = greatest(s.fileCount + :fileCount, 0), " +
+           "s.totalBytes = greatest(s.totalBytes + :totalBytes, 0), " +
+           "s.storedBytes = greatest(s.storedBytes + :storedBytes, 0) " +
+           "WHERE s.extension = :extension AND s.contentType = :contentType")
+    int add(@Param("extension") String extension,
+            @Param("contentType") String contentType,
+            @Param("fileCount") long fileCount,
+            @Param("totalBytes") long totalBytes,
+            @Param("storedBytes") long storedBytes);
+}
@@ -1,10 +1,16 @@
 package flow.domain.file.service;
 
+import flow.domain.file.dto.FileDownload;
+import flow.domain.file.dto.FileResponse;
+import flow.domain.file.dto.FileSearchPageResponse;
+import flow.domain.file.dto.FileSearchRequest;
 import flow.domain.file.entity.FileEntity;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FileService {
 
@@ -12,11 +18,23 @@ public interface FileService {
 
     List<FileEntity> getAllFiles();
 
+    long streamAllFiles(Consumer<? super FileResponse> consumer);
+
+    FileSearchPageResponse searchFiles(FileSearchRequest request);
+
     FileEntity getFileById(Long id);
 
     Resource downloadFile(Long id);
 
+    FileDownload openDownload(Long id, boolean acceptGzip);
+
+    void recordDownload(Long id);
+
+    FileEntity verifyBeforeRedirect(FileEntity file);
+
     void deleteFile(Long id);
 
+    int deleteFiles(List<Long> ids, LocalDateTime createdBefore);
+
     void initializeUploadDirectory();
 }
\ No newline at end of file
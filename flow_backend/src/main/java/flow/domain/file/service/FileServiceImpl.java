@@ -2,26 +2,58 @@ package flow.domain.file.service;
 
 import flow.common.exception.BusinessException;
 import flow.domain.extension.service.ExtensionService;
+import flow.domain.file.admission.DiskSpaceGuard;
+import flow.domain.file.cache.FileDeletedEvent;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.dto.FileDownload;
+import flow.domain.file.dto.FileResponse;
+import flow.domain.file.dto.FileSearchPageResponse;
+import flow.domain.file.dto.FileSearchRequest;
 import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.FileChecksum;
+import flow.domain.file.integrity.IntegrityVerifier;
+import flow.domain.file.preview.FileUploadedEvent;
 import flow.domain.file.repository.FileRepository;
+import flow.domain.file.repository.FileSpecifications;
+import flow.domain.file.storage.ArchivedFileDownloadedEvent;
+import flow.domain.file.storage.DownloadCounter;
+import flow.domain.file.storage.StorageCompression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 @Service
 @RequiredArgsConstructor
@@ -31,31 +63,56 @@ public class FileServiceImpl implements FileService {
 
     private final FileRepository fileRepository;
     private final ExtensionService extensionService;
+    private final DiskSpaceGuard diskSpaceGuard;
+    private final FileStatsService fileStatsService;
+    private final DownloadCounter downloadCounter;
+    private final HotFileCache hotFileCache;
+    private final FileMetadataCache fileMetadataCache;
+    private final IntegrityVerifier integrityVerifier;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.upload.path:/flow/data}")
     private String uploadPath;
 
+    @Value("${app.storage.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${app.storage.compression.min-size:1KB}")
+    private DataSize compressionMinSize;
+
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int BULK_DELETE_CHUNK_SIZE = 1000; // IN 절 크기 제한
+    private static final String PART_SUFFIX = ".part"; // 저장 중인 파일 (완료 후 최종 이름으로 이동)
+    private static final int MAX_SEARCH_PAGE_SIZE = 200;
+    private static final int MIN_CONTAINS_LENGTH = 2; // 부분 일치는 전체 스캔이므로 너무 짧은 검색어 제한
+
+    // 메시지가 고정된 자주 발생하는 예외는 미리 만들어 재사용 (BusinessException 은 스택 트레이스가 없어 공유해도 안전)
+    private static final BusinessException EMPTY_FILE = BusinessException.badRequest("파일이 비어있습니다.");
+    private static final BusinessException FILE_TOO_LARGE = BusinessException.badRequest("파일 크기는 10MB를 초과할 수 없습니다.");
+    private static final BusinessException INVALID_FILENAME = BusinessException.badRequest("유효하지 않은 파일명입니다.");
+    private static final BusinessException NO_EXTENSION = BusinessException.badRequest("확장자가 없는 파일은 업로드할 수 없습니다.");
+    private static final BusinessException FILE_NOT_FOUND = BusinessException.notFound("파일을 찾을 수 없습니다.");
+    private static final BusinessException FILE_UNREADABLE = BusinessException.notFound("파일을 찾을 수 없거나 읽을 수 없습니다.");
 
     @Override
     public FileEntity uploadFile(MultipartFile file) {
         if (file.isEmpty()) {
-            throw BusinessException.badRequest("파일이 비어있습니다.");
+            throw EMPTY_FILE;
         }
 
         if (file.getSize() > MAX_FILE_SIZE) {
-            throw BusinessException.badRequest("파일 크기는 10MB를 초과할 수 없습니다.");
+            throw FILE_TOO_LARGE;
         }
 
         String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
-            throw BusinessException.badRequest("유효하지 않은 파일명입니다.");
+            throw INVALID_FILENAME;
         }
 
         // 확장자 추출 및 차단 여부 확인
         String extension = getFileExtension(originalFilename);
         if (extension.isEmpty()) {
-            throw BusinessException.badRequest("확장자가 없는 파일은 업로드할 수 없습니다.");
+            throw NO_EXTENSION;
         }
 
         if (extensionService.isExtensionBlocked(extension)) {
@@ -66,30 +123,57 @@ public class FileServiceImpl implements FileService {
         String storedFilename = generateUniqueFilename(originalFilename);
         Path uploadDir = Paths.get(uploadPath);
         Path filePath = uploadDir.resolve(storedFilename);
+        Path partPath = uploadDir.resolve(storedFilename + PART_SUFFIX);
 
+        // 여유 공간 예약 (부족하면 쓰기 전에 507 로 거부)
+        diskSpaceGuard.reserve(file.getSize());
         try {
             // 업로드 디렉토리가 없으면 생성
             if (!Files.exists(uploadDir)) {
                 Files.createDirectories(uploadDir);
             }
 
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 임시 이름(.part)으로 저장 후 최종 이름으로 이동하여 중간에 실패해도 불완전한 파일이 남지 않도록 함
+            // (압축 모드면 텍스트/저엔트로피 파일은 gzip 으로 저장)
+            // 저장되는 바이트의 checksum 은 쓰면서 함께 계산
+            String contentEncoding = null;
+            MessageDigest digest = FileChecksum.newDigest();
+            if (compressionEnabled && file.getSize() >= compressionMinSize.toBytes()) {
+                contentEncoding = StorageCompression.store(
+                        file::getInputStream, file.getContentType(), file.getSize(), partPath, digest);
+            } else {
+                try (InputStream in = file.getInputStream();
+                     OutputStream out = new DigestOutputStream(Files.newOutputStream(partPath), digest)) {
+                    in.transferTo(out);
+                }
+            }
+            long storedSize = contentEncoding == null ? file.getSize() : Files.size(partPath);
+            Files.move(partPath, filePath, StandardCopyOption.ATOMIC_MOVE);
 
             // 데이터베이스에 파일 정보 저장
             FileEntity fileEntity = FileEntity.builder()
                     .originalFilename(originalFilename)
                     .storedFilename(storedFilename)
                     .fileSize(file.getSize())
+                    .storedSize(storedSize)
+                    .contentEncoding(contentEncoding)
+                    .checksum(FileChecksum.hex(digest))
                     .contentType(file.getContentType())
                     .filePath(filePath.toString())
                     .build();
 
-            return fileRepository.save(fileEntity);
+            FileEntity saved = fileRepository.save(fileEntity);
+            fileStatsService.recordUpload(saved);
+            eventPublisher.publishEvent(new FileUploadedEvent(
+                    saved.getId(), saved.getFilePath(), saved.getContentType(), saved.getContentEncoding()));
+            return saved;
 
         } catch (IOException e) {
             log.error("파일 저장 실패: {}", e.getMessage(), e);
+            deletePartialFile(partPath);
             throw BusinessException.internalServerError("파일 저장에 실패했습니다.");
+        } finally {
+            diskSpaceGuard.release(file.getSize());
         }
     }
 
@@ -99,51 +183,308 @@ public class FileServiceImpl implements FileService {
         return fileRepository.findAllOrderByCreatedAtDesc();
     }
 
+    /**
+     * 목록을 한 건씩 consumer 에 전달 (결과 전체를 리스트로 만들지 않음), 전달한 개수 반환
+     * - consumer 가 끝날 때까지 커서와 커넥션을 잡고 있으므로 느린 클라이언트에 주의
+     */
     @Override
     @Transactional(readOnly = true)
+    public long streamAllFiles(Consumer<? super FileResponse> consumer) {
+        long count = 0L;
+        try (Stream<FileResponse> files = fileRepository.streamAllActive()) {
+            for (FileResponse file : (Iterable<FileResponse>) files::iterator) {
+                consumer.accept(file);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FileSearchPageResponse searchFiles(FileSearchRequest request) {
+        int size = request.getSize();
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw BusinessException.badRequest("페이지 크기는 1~" + MAX_SEARCH_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 접두사 검색은 (search_name, id) 인덱스 순서 그대로 페이지 (ID 내림차순이면 일치하는 행 전체를 filesort)
+        boolean nameOrder = normalize(request.getQ()) != null && FileSearchRequest.MATCH_PREFIX.equals(matchOf(request));
+        Specification<FileEntity> spec = buildSearchSpecification(request, nameOrder);
+        Sort sort = nameOrder
+                ? Sort.by(Sort.Direction.ASC, "searchName").and(Sort.by(Sort.Direction.ASC, "id"))
+                : Sort.by(Sort.Direction.DESC, "id");
+
+        // 그 외에는 ID 내림차순 키셋 페이지 (최신 파일 먼저), 한 건 더 조회하여 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<FileEntity> rows = fileRepository.findBy(spec, query -> query
+                .sortBy(sort)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<FileEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+        List<FileResponse> items = pageRows.stream()
+                .map(FileResponse::from)
+                .toList();
+        FileEntity last = hasNext ? pageRows.get(pageRows.size() - 1) : null;
+
+        return FileSearchPageResponse.builder()
+                .items(items)
+                .nextCursor(last != null ? last.getId() : null)
+                .nextCursorName(last != null && nameOrder ? last.getSearchName() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Specification<FileEntity> buildSearchSpecification(FileSearchRequest request, boolean nameOrder) {
+        Specification<FileEntity> spec = FileSpecifications.notDeleted();
+
+        String keyword = normalize(request.getQ());
+        if (keyword != null) {
+            String match = matchOf(request);
+            if (FileSearchRequest.MATCH_PREFIX.equals(match)) {
+                spec = spec.and(FileSpecifications.nameStartsWith(keyword));
+            } else if (FileSearchRequest.MATCH_CONTAINS.equals(match)) {
+                if (keyword.length() < MIN_CONTAINS_LENGTH) {
+                    throw BusinessException.badRequest("부분 일치 검색어는 " + MIN_CONTAINS_LENGTH + "자 이상이어야 합니다.");
+                }
+                spec = spec.and(FileSpecifications.nameContains(keyword));
+            } else {
+                throw BusinessException.badRequest("검색 방식은 prefix 또는 contains 만 가능합니다.");
+            }
+        }
+
+        String extension = normalize(request.getExtension());
+        if (extension != null) {
+            spec = spec.and(FileSpecifications.extensionEquals(extension.startsWith(".") ? extension.substring(1) : extension));
+        }
+
+        String contentType = normalize(request.getContentType());
+        if (contentType != null) {
+            spec = spec.and(FileSpecifications.contentTypeMatches(contentType));
+        }
+
+        Long minSize = request.getMinSize();
+        Long maxSize = request.getMaxSize();
+        if ((minSize != null && minSize < 0) || (maxSize != null && maxSize < 0)
+                || (minSize != null && maxSize != null && minSize > maxSize)) {
+            throw BusinessException.badRequest("파일 크기 범위가 올바르지 않습니다.");
+        }
+        if (minSize != null) {
+            spec = spec.and(FileSpecifications.sizeAtLeast(minSize));
+        }
+        if (maxSize != null) {
+            spec = spec.and(FileSpecifications.sizeAtMost(maxSize));
+        }
+
+        LocalDateTime createdFrom = request.getCreatedFrom();
+        LocalDateTime createdTo = request.getCreatedTo();
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw BusinessException.badRequest("업로드 기간이 올바르지 않습니다.");
+        }
+        if (createdFrom != null) {
+            spec = spec.and(FileSpecifications.createdFrom(createdFrom));
+        }
+        if (createdTo != null) {
+            spec = spec.and(FileSpecifications.createdBefore(createdTo));
+        }
+
+        if (request.getCursor() != null) {
+            if (nameOrder) {
+                if (request.getCursorName() == null) {
+                    throw BusinessException.badRequest("접두사 검색의 다음 페이지는 cursorName 과 함께 조회해야 합니다.");
+                }
+                spec = spec.and(FileSpecifications.nameAfter(request.getCursorName(), request.getCursor()));
+            } else {
+                spec = spec.and(FileSpecifications.idBefore(request.getCursor()));
+            }
+        }
+        return spec;
+    }
+
+    private static String matchOf(FileSearchRequest request) {
+        return request.getMatch() == null ? FileSearchRequest.MATCH_PREFIX : request.getMatch();
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미적중 시 repository 트랜잭션으로 조회)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public FileEntity getFileById(Long id) {
+        return fileMetadataCache.get(id, this::findActive)
+                .orElseThrow(() -> FILE_NOT_FOUND);
+    }
+
+    private Optional<FileEntity> findActive(Long id) {
         return fileRepository.findById(id)
-                .orElseThrow(() -> BusinessException.notFound("파일을 찾을 수 없습니다."));
+                .filter(file -> !file.isDeleted());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Resource downloadFile(Long id) {
+        return openDownload(id, false).resource();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public FileDownload openDownload(Long id, boolean acceptGzip) {
         FileEntity fileEntity = getFileById(id);
+        // 손상 표시된 파일은 전송 경로(메모리, 압축 해제, 원본 그대로)와 관계없이 거부
+        integrityVerifier.checkNotCorrupted(fileEntity);
+
+        // 핫 파일은 디스크를 읽지 않고 메모리에서 전송
+        byte[] cached = hotFileCache.get(fileEntity);
+        if (cached != null) {
+            recordAccess(id, fileEntity);
+            return fromBytes(fileEntity, cached, acceptGzip);
+        }
+
+        Path filePath = Paths.get(fileEntity.getFilePath());
+        if (!Files.isRegularFile(filePath)) {
+            // 저장 티어 이동 직후면 캐시된 메타데이터가 이전 경로를 가리킬 수 있으므로 한 번 다시 조회
+            fileMetadataCache.invalidate(List.of(id));
+            fileEntity = getFileById(id);
+            filePath = Paths.get(fileEntity.getFilePath());
+        }
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw FILE_UNREADABLE;
+        }
 
         try {
-            Path filePath = Paths.get(fileEntity.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
+            long storedSize = Files.size(filePath);
+            integrityVerifier.verify(fileEntity, filePath, storedSize);
+            recordAccess(id, fileEntity);
+            if (hotFileCache.shouldAdmit(downloadCounter.recentCount(id), storedSize)) {
+                byte[] content = Files.readAllBytes(filePath);
+                hotFileCache.put(fileEntity, content);
+                return fromBytes(fileEntity, content, acceptGzip);
+            }
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw BusinessException.notFound("파일을 찾을 수 없거나 읽을 수 없습니다.");
+            boolean gzipStored = StorageCompression.GZIP.equals(fileEntity.getContentEncoding());
+            if (gzipStored && !acceptGzip) {
+                // gzip 을 받지 못하는 클라이언트에는 압축을 풀면서 전송 (헤더를 읽다 실패하면 연 파일을 닫음)
+                InputStream raw = Files.newInputStream(filePath);
+                InputStream in;
+                try {
+                    in = new GZIPInputStream(raw, 64 * 1024);
+                } catch (IOException | RuntimeException e) {
+                    raw.close();
+                    throw e;
+                }
+                return new FileDownload(fileEntity, new InputStreamResource(in), null, fileEntity.getFileSize());
             }
-        } catch (MalformedURLException e) {
+            return new FileDownload(fileEntity, new UrlResource(filePath.toUri()),
+                    fileEntity.getContentEncoding(), storedSize);
+        } catch (IOException e) {
             log.error("파일 다운로드 실패: {}", e.getMessage(), e);
             throw BusinessException.internalServerError("파일 다운로드에 실패했습니다.");
         }
     }
 
+    /**
+     * JVM 을 거치지 않는 다운로드(X-Accel-Redirect) 전 검사
+     * - 손상 표시된 파일은 거부하고, 다운로드 검증이 켜져 있으면 JVM 전송과 같은 기준으로 checksum 검증
+     * - 디스크에 없거나 읽을 수 없으면 nginx 404 대신 일반 다운로드와 같은 응답
+     * - 저장 티어 이동으로 캐시된 경로가 바뀌었으면 다시 조회한 파일을 반환 (전송 경로는 반환값으로 계산)
+     */
     @Override
-    public void deleteFile(Long id) {
-        FileEntity fileEntity = getFileById(id);
-
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public FileEntity verifyBeforeRedirect(FileEntity fileEntity) {
+        integrityVerifier.checkNotCorrupted(fileEntity);
+        Path filePath = Paths.get(fileEntity.getFilePath());
+        if (!Files.isRegularFile(filePath)) {
+            fileMetadataCache.invalidate(List.of(fileEntity.getId()));
+            fileEntity = getFileById(fileEntity.getId());
+            filePath = Paths.get(fileEntity.getFilePath());
+        }
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw FILE_UNREADABLE;
+        }
         try {
-            // 실제 파일 삭제
-            Path filePath = Paths.get(fileEntity.getFilePath());
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
+            integrityVerifier.verify(fileEntity, filePath, Files.size(filePath));
+            return fileEntity;
+        } catch (IOException e) {
+            log.error("파일 검증 실패: {}", e.getMessage(), e);
+            throw FILE_UNREADABLE;
+        }
+    }
+
+    /**
+     * JVM 을 거치지 않는 다운로드(X-Accel-Redirect)의 횟수 집계
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordDownload(Long id) {
+        downloadCounter.record(id);
+    }
+
+    /**
+     * 다운로드 횟수 집계, 아카이브된 파일이면 기본 티어로 되돌리도록 알림 (이번 전송은 아카이브 경로에서 그대로 진행)
+     */
+    private void recordAccess(Long id, FileEntity fileEntity) {
+        downloadCounter.record(id);
+        if (fileEntity.isArchived()) {
+            eventPublisher.publishEvent(new ArchivedFileDownloadedEvent(id));
+        }
+    }
+
+    private FileDownload fromBytes(FileEntity fileEntity, byte[] content, boolean acceptGzip) {
+        boolean gzipStored = StorageCompression.GZIP.equals(fileEntity.getContentEncoding());
+        if (gzipStored && !acceptGzip) {
+            try {
+                InputStream in = new GZIPInputStream(new ByteArrayInputStream(content));
+                return new FileDownload(fileEntity, new InputStreamResource(in), null, fileEntity.getFileSize());
+            } catch (IOException e) {
+                log.error("파일 다운로드 실패: {}", e.getMessage(), e);
+                throw BusinessException.internalServerError("파일 다운로드에 실패했습니다.");
             }
+        }
+        return new FileDownload(fileEntity, new ByteArrayResource(content), fileEntity.getContentEncoding(), content.length);
+    }
 
-            // 데이터베이스에서 파일 정보 삭제
-            fileRepository.delete(fileEntity);
+    @Override
+    public void deleteFile(Long id) {
+        // tombstone 만 남기고 실제 파일/행 삭제는 FilePurgeWorker 가 배치로 처리
+        // 캐시된(detached) 엔티티가 아닌 영속 엔티티를 변경
+        FileEntity fileEntity = findActive(id).orElseThrow(() -> FILE_NOT_FOUND);
+        fileEntity.markDeleted();
+        eventPublisher.publishEvent(FileDeletedEvent.of(List.of(id)));
+    }
 
-        } catch (IOException e) {
-            log.error("파일 삭제 실패: {}", e.getMessage(), e);
-            throw BusinessException.internalServerError("파일 삭제에 실패했습니다.");
+    @Override
+    public int deleteFiles(List<Long> ids, LocalDateTime createdBefore) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        if (!hasIds && createdBefore == null) {
+            throw BusinessException.badRequest("삭제할 파일 ID 목록 또는 기준 일시를 입력해주세요.");
         }
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+
+        if (hasIds) {
+            List<Long> distinctIds = ids.stream().distinct().toList();
+            for (int from = 0; from < distinctIds.size(); from += BULK_DELETE_CHUNK_SIZE) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_DELETE_CHUNK_SIZE, distinctIds.size()));
+                deleted += fileRepository.markDeletedByIds(chunk, now);
+            }
+            eventPublisher.publishEvent(FileDeletedEvent.of(distinctIds));
+        }
+        if (createdBefore != null) {
+            deleted += fileRepository.markDeletedCreatedBefore(createdBefore, now);
+            eventPublisher.publishEvent(FileDeletedEvent.allFiles());
+        }
+
+        log.info("파일 {}개 삭제 요청 처리 (tombstone)", deleted);
+        return deleted;
     }
 
     @Override
@@ -160,6 +501,15 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    private void deletePartialFile(Path partPath) {
+        try {
+            Files.deleteIfExists(partPath);
+        } catch (IOException e) {
+            // 남은 파일은 StorageReconciler 가 고아 파일로 정리
+            log.warn("저장 실패한 임시 파일 삭제 실패: {} - {}", partPath, e.getMessage());
+        }
+    }
+
     private String getFileExtension(String filename) {
         if (filename == null || !filename.contains(".")) {
             return "";
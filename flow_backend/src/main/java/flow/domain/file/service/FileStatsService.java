@@ -0,0 +1,23 @@
+package flow.domain.file.service;
+
+import flow.domain.file.dto.FileStatsResponse;
+import flow.domain.file.entity.FileEntity;
+
+import java.util.List;
+
+public interface FileStatsService {
+
+    void recordUpload(FileEntity file);
+
+    void purgeRows(List<Long> ids);
+
+    void recordStoredSizeChange(String extension, String contentType, long storedBytesDelta);
+
+    FileStatsResponse getStats();
+
+    FileStatsResponse rebuild();
+
+    boolean seedIfMissing();
+
+    boolean reportIfOutOfSync();
+}
@@ -0,0 +1,216 @@
+package flow.domain.file.service;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.dto.FileStatsDelta;
+import flow.domain.file.dto.FileStatsResponse;
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.entity.FileStats;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.repository.FileStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 저장소 통계 (file_stats 요약 테이블)
+ * - 업로드/행 삭제와 같은 트랜잭션에서 증감하므로 조회는 files 테이블을 읽지 않고 요약 행 수(확장자 x Content-Type)에 비례
+ * - 증감은 UPDATE 한 번, 요약 행이 없을 때만(UPDATE 0건) 같은 트랜잭션에서 INSERT ... ON CONFLICT DO NOTHING 후 다시 UPDATE
+ * - 도입 직후 기존 files 행은 집계되어 있지 않으므로 검색 컬럼 backfill 이 끝나면 표시 행이 없을 때 한 번 재계산 (seedIfMissing)
+ */
+@Service
+@Transactional
+@Slf4j
+public class FileStatsServiceImpl implements FileStatsService {
+
+    // 재계산을 한 번이라도 실행했다는 표시 행 (파일 수 0 이므로 조회 결과에는 나타나지 않음)
+    static final String SEED_MARKER_EXTENSION = "";
+    static final String SEED_MARKER_CONTENT_TYPE = "(seeded)";
+
+    private final FileStatsRepository fileStatsRepository;
+    private final FileRepository fileRepository;
+
+    public FileStatsServiceImpl(FileStatsRepository fileStatsRepository, FileRepository fileRepository) {
+        this.fileStatsRepository = fileStatsRepository;
+        this.fileRepository = fileRepository;
+    }
+
+    @Override
+    public void recordUpload(FileEntity file) {
+        long storedSize = file.getStoredSize() != null ? file.getStoredSize() : file.getFileSize();
+        apply(new FileStatsDelta(file.getExtension(), file.getContentType(), 1L, file.getFileSize(), storedSize));
+    }
+
+    /**
+     * 파일 행 삭제와 통계 차감을 한 트랜잭션으로 처리 (FilePurgeWorker)
+     */
+    @Override
+    public void purgeRows(List<Long> ids) {
+        List<FileStatsDelta> deltas = fileRepository.summarizeByIds(ids);
+        fileRepository.deleteAllByIdInBatch(ids);
+        deltas.forEach(delta -> apply(delta.negate()));
+    }
+
+    /**
+     * 저장 티어 이동 등으로 디스크에 저장된 크기만 바뀐 경우 (파일 수/원본 크기는 그대로)
+     */
+    @Override
+    public void recordStoredSizeChange(String extension, String contentType, long storedBytesDelta) {
+        if (storedBytesDelta != 0) {
+            apply(new FileStatsDelta(extension, contentType, 0L, 0L, storedBytesDelta));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FileStatsResponse getStats() {
+        List<FileStats> rows = fileStatsRepository.findAll().stream()
+                .filter(row -> row.getFileCount() > 0)
+                .toList();
+
+        return FileStatsResponse.builder()
+                .totalFiles(rows.stream().mapToLong(FileStats::getFileCount).sum())
+                .totalBytes(rows.stream().mapToLong(FileStats::getTotalBytes).sum())
+                .storedBytes(rows.stream().mapToLong(FileStats::getStoredBytes).sum())
+                .byExtension(group(rows, FileStats::getExtension))
+                .byContentType(group(rows, FileStats::getContentType))
+                .build();
+    }
+
+    /**
+     * files 테이블 전체를 집계하여 요약 행을 덮어씀 (도입 직후 / 불일치 복구용, 파일 수에 비례하므로 한가한 시간에 관리자가 실행)
+     * - 요약 테이블 전체를 먼저 잠근 뒤 집계하므로, 진행 중인 업로드/삭제는 잠금 전에 커밋되어 집계에 포함되거나
+     *   재계산 커밋 후에 증감되어 한 번만 반영됨
+     * - 요약 행은 지우지 않고 값만 바꾸며, 재계산했다는 표시 행이 없으면 함께 생성
+     */
+    @Override
+    public FileStatsResponse rebuild() {
+        // 잠금을 먼저 잡아야 이후 첫 일반 SELECT 에서 만들어지는 읽기 시점(snapshot)이 잠금 이후가 됨
+        Map<String, FileStats> existing = new LinkedHashMap<>();
+        for (FileStats row : fileStatsRepository.findAllForUpdate()) {
+            existing.put(bucketKey(row.getExtension(), row.getContentType()), row);
+        }
+
+        if (fileRepository.existsBySearchNameIsNull()) {
+            throw BusinessException.conflict("검색 컬럼 backfill 이 끝난 뒤 다시 시도해주세요.");
+        }
+
+        Map<String, FileStatsDelta> merged = new LinkedHashMap<>();
+        for (FileStatsDelta delta : fileRepository.summarizeAll()) {
+            String extension = normalize(delta.extension());
+            String contentType = normalize(delta.contentType());
+            // NULL 과 빈 문자열이 같은 키로 합쳐질 수 있음
+            merged.merge(bucketKey(extension, contentType),
+                    new FileStatsDelta(extension, contentType, delta.fileCount(), delta.totalBytes(), delta.storedBytes()),
+                    (previous, current) -> new FileStatsDelta(extension, contentType,
+                            previous.fileCount() + current.fileCount(),
+                            previous.totalBytes() + current.totalBytes(),
+                            previous.storedBytes() + current.storedBytes()));
+        }
+
+        merged.putIfAbsent(bucketKey(SEED_MARKER_EXTENSION, SEED_MARKER_CONTENT_TYPE),
+                new FileStatsDelta(SEED_MARKER_EXTENSION, SEED_MARKER_CONTENT_TYPE, 0L, 0L, 0L));
+
+        // 집계에 없는 요약 행은 0 으로
+        existing.forEach((key, row) -> {
+            FileStatsDelta total = merged.get(key);
+            if (total != null) {
+                row.replaceTotals(total.fileCount(), total.totalBytes(), total.storedBytes());
+            } else {
+                row.replaceTotals(0L, 0L, 0L);
+            }
+        });
+
+        List<FileStats> created = new ArrayList<>();
+        merged.forEach((key, total) -> {
+            if (!existing.containsKey(key)) {
+                created.add(FileStats.builder()
+                        .extension(total.extension())
+                        .contentType(total.contentType())
+                        .fileCount(total.fileCount())
+                        .totalBytes(total.totalBytes())
+                        .storedBytes(total.storedBytes())
+                        .build());
+            }
+        });
+        fileStatsRepository.saveAll(created);
+
+        log.info("저장소 통계 재계산 완료: 요약 행 {}개 (신규 {}개)", existing.size() + created.size(), created.size());
+        return getStats();
+    }
+
+    /**
+     * 재계산 표시 행이 없으면(도입 후 첫 기동) 한 번 재계산하여 기존 files 행을 요약 테이블에 채움
+     * - 표시 행이 생기기 전의 업로드로 요약 행이 일부 있어도 재계산이 덮어쓰므로 그대로 정확해짐
+     * - 호출한 트랜잭션(backfill)과 분리하여, 여러 노드가 동시에 채우다 실패해도 호출 쪽 작업은 유지
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean seedIfMissing() {
+        if (fileStatsRepository.existsByExtensionAndContentType(SEED_MARKER_EXTENSION, SEED_MARKER_CONTENT_TYPE)) {
+            return false;
+        }
+        log.info("저장소 통계가 아직 집계되지 않아 files 테이블에서 한 번 채움");
+        rebuild();
+        return true;
+    }
+
+    /**
+     * 요약 테이블의 파일 수가 files 행 수와 다르면 경고만 남김 (기동 시 한 번, 재계산은 POST /api/files/stats/rebuild)
+     * - 업로드가 진행 중인 노드에서 전체 집계를 자동으로 돌리지 않기 위함
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean reportIfOutOfSync() {
+        long counted = fileStatsRepository.findAll().stream().mapToLong(FileStats::getFileCount).sum();
+        long actual = fileRepository.count();
+        if (counted != actual) {
+            log.warn("저장소 통계 불일치 (통계 {}개, 실제 {}개), 한가한 시간에 POST /api/files/stats/rebuild 로 재계산 필요",
+                    counted, actual);
+            return false;
+        }
+        return true;
+    }
+
+    private void apply(FileStatsDelta delta) {
+        String extension = normalize(delta.extension());
+        String contentType = normalize(delta.contentType());
+        if (fileStatsRepository.add(extension, contentType,
+                delta.fileCount(), delta.totalBytes(), delta.storedBytes()) > 0) {
+            return;
+        }
+        // 처음 보는 키 - 같은 트랜잭션에서 생성하므로 업로드가 롤백되면 요약 행도 남지 않음
+        fileStatsRepository.insertIfAbsent(extension, contentType);
+        fileStatsRepository.add(extension, contentType, delta.fileCount(), delta.totalBytes(), delta.storedBytes());
+    }
+
+    private static List<FileStatsResponse.Group> group(List<FileStats> rows, Function<FileStats, String> keyOf) {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (FileStats row : rows) {
+            long[] total = totals.computeIfAbsent(keyOf.apply(row), key -> new long[3]);
+            total[0] += row.getFileCount();
+            total[1] += row.getTotalBytes();
+            total[2] += row.getStoredBytes();
+        }
+        return totals.entrySet().stream()
+                .map(entry -> new FileStatsResponse.Group(entry.getKey(),
+                        entry.getValue()[0], entry.getValue()[1], entry.getValue()[2]))
+                .sorted(Comparator.comparingLong(FileStatsResponse.Group::getTotalBytes).reversed())
+                .toList();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String bucketKey(String extension, String contentType) {
+        return extension + "\n" + contentType;
+    }
+}
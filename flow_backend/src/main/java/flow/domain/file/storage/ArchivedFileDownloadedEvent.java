@@ -0,0 +1,10 @@
+package flow.domain.file.storage;
+
+/**
+ * 아카이브 티어에 있는 파일이 다운로드되었음을 알리는 이벤트
+ * - FileServiceImpl 에서 발행, StorageTieringJob 이 다음 정기 실행을 기다리지 않고 기본 티어로 되돌림
+ *
+ * @param id 파일 ID
+ */
+public record ArchivedFileDownloadedEvent(Long id) {
+}
@@ -0,0 +1,106 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파일별 다운로드 횟수 집계
+ * - 요청 스레드는 LongAdder(스레드별 셀로 분산된 카운터)만 증가시키고 DB 에는 쓰지 않음
+ * - flush 주기마다 쌓인 횟수를 files.download_count / last_accessed_at 에 반영 (같은 증가량끼리 IN 절로 묶어 갱신)
+ * - recent 는 flush 마다 절반으로 줄어드는 최근 다운로드 수로, 핫 파일 판단에 사용
+ * - 한동안 다운로드가 없는 파일은 맵에서 제거 (제거 직전에 들어온 증가는 드물게 누락될 수 있는 근사치)
+ * - 종료 시 마지막으로 한 번 더 반영해 flush 주기 사이에 쌓인 횟수를 잃지 않음
+ */
+@Component
+@Slf4j
+public class DownloadCounter {
+
+    private static final int FLUSH_CHUNK_SIZE = 1000; // IN 절 크기 제한
+
+    private final FileRepository fileRepository;
+    private final Counter flushedCounter;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public DownloadCounter(FileRepository fileRepository, MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.flushedCounter = meterRegistry.counter("flow.download.counter.flushed");
+        meterRegistry.gaugeMapSize("flow.download.counter.tracked", Tags.empty(), entries);
+    }
+
+    public void record(Long fileId) {
+        Entry entry = entries.get(fileId);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(fileId, id -> new Entry());
+        }
+        entry.pending.increment();
+    }
+
+    /**
+     * 최근 다운로드 수 (아직 반영되지 않은 횟수 포함)
+     */
+    public long recentCount(Long fileId) {
+        Entry entry = entries.get(fileId);
+        return entry == null ? 0L : entry.recent + entry.pending.sum();
+    }
+
+    // 종료 중 스케줄된 flush 와 겹치지 않도록 동기화
+    @Scheduled(fixedDelayString = "${app.download.counter.flush-interval:PT10S}")
+    public synchronized void flush() {
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Entry> mapEntry = iterator.next();
+            Entry entry = mapEntry.getValue();
+            long delta = entry.pending.sumThenReset();
+            entry.recent = entry.recent / 2 + delta;
+
+            if (delta > 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(mapEntry.getKey());
+            } else if (entry.recent == 0) {
+                iterator.remove();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByDelta.forEach((delta, ids) -> {
+            for (int from = 0; from < ids.size(); from += FLUSH_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, ids.size()));
+                try {
+                    fileRepository.addDownloads(chunk, delta, now);
+                    flushedCounter.increment(delta * chunk.size());
+                } catch (RuntimeException e) {
+                    // 다음 주기에 다시 반영
+                    chunk.forEach(id -> entries.computeIfAbsent(id, key -> new Entry()).pending.add(delta));
+                    log.warn("다운로드 횟수 반영 실패, 다음 주기에 재시도: {}개 - {}", chunk.size(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static class Entry {
+        private final LongAdder pending = new LongAdder();
+        // flush 스레드만 갱신
+        private volatile long recent;
+    }
+}
@@ -0,0 +1,137 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.preview.ThumbnailService;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.service.FileStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 삭제 요청된 파일(tombstone)의 실제 파일과 행을 배치로 정리
+ * - 요청 스레드는 deleted_at 만 기록하고 바로 응답하므로 대량 삭제가 디스크 지연에 묶이지 않음
+ * - PK cursor 로 큐를 훑으므로 삭제에 실패한 행이 뒤쪽 행의 정리를 막지 않음 (실행 예산을 다 쓰면 다음 주기에 이어서 진행)
+ * - 파일 삭제에 실패한 행은 tombstone 으로 남겨 다음 주기에 재시도, max-attempts 번 연속 실패하면 격리하여 더 이상 시도하지 않음
+ * - 행 삭제와 저장소 통계 차감은 FileStatsService 에서 한 트랜잭션으로 처리
+ * - 실제로 지운 파일(썸네일 포함) 크기를 flow.storage.purge.bytes.reclaimed 로 기록
+ */
+@Component
+@Slf4j
+public class FilePurgeWorker {
+
+    private final FileRepository fileRepository;
+    private final FileStatsService fileStatsService;
+    private final HotFileCache hotFileCache;
+    private final Counter purgedCounter;
+    private final Counter failedCounter;
+    private final Counter reclaimedBytesCounter;
+
+    @Value("${app.storage.purge.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.storage.purge.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.storage.purge.max-attempts:5}")
+    private int maxAttempts;
+
+    // 삭제 실패 횟수 (격리된 행은 재시작 전까지 건너뜀, 운영자가 원인을 해결한 뒤 재시작하면 다시 시도)
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    // 이전 실행이 예산을 다 써서 멈춘 위치
+    private volatile long resumeCursor = 0L;
+
+    public FilePurgeWorker(FileRepository fileRepository, FileStatsService fileStatsService,
+                           HotFileCache hotFileCache, MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.fileStatsService = fileStatsService;
+        this.hotFileCache = hotFileCache;
+        this.purgedCounter = meterRegistry.counter("flow.storage.purge.deleted");
+        this.failedCounter = meterRegistry.counter("flow.storage.purge.failed");
+        this.reclaimedBytesCounter = meterRegistry.counter("flow.storage.purge.bytes.reclaimed");
+        meterRegistry.gauge("flow.storage.purge.quarantined", failedAttempts,
+                attempts -> attempts.values().stream().filter(count -> count >= maxAttempts).count());
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.purge.interval:PT10S}",
+               initialDelayString = "${app.storage.purge.initial-delay:PT30S}")
+    public void purge() {
+        long purged = 0L;
+        long cursor = resumeCursor;
+        boolean reachedEnd = false;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<StoredFileRef> tombstones = fileRepository.findTombstonesAfter(cursor, PageRequest.of(0, batchSize));
+            if (!tombstones.isEmpty()) {
+                purged += purgeBatch(tombstones);
+                cursor = tombstones.get(tombstones.size() - 1).id();
+            }
+            if (tombstones.size() < batchSize) {
+                reachedEnd = true;
+                break;
+            }
+        }
+        // 끝까지 훑었으면 다음 주기는 처음부터 (실패한 행 재시도)
+        resumeCursor = reachedEnd ? 0L : cursor;
+
+        if (purged > 0) {
+            log.info("삭제 요청된 파일 {}개 정리 완료", purged);
+        }
+    }
+
+    private int purgeBatch(List<StoredFileRef> tombstones) {
+        List<Long> unlinked = new ArrayList<>(tombstones.size());
+        long reclaimedBytes = 0L;
+        for (StoredFileRef ref : tombstones) {
+            if (failedAttempts.getOrDefault(ref.id(), 0) >= maxAttempts) {
+                continue;
+            }
+            try {
+                Path path = Paths.get(ref.filePath());
+                long bytes = deleteAndMeasure(ThumbnailService.thumbnailPath(path));
+                bytes += deleteAndMeasure(path);
+                unlinked.add(ref.id());
+                reclaimedBytes += bytes;
+            } catch (IOException e) {
+                failedCounter.increment();
+                int attempts = failedAttempts.merge(ref.id(), 1, Integer::sum);
+                if (attempts >= maxAttempts) {
+                    log.error("파일 삭제 {}회 실패, 격리하여 더 이상 시도하지 않음: id={}, path={} - {}",
+                            attempts, ref.id(), ref.filePath(), e.getMessage());
+                } else {
+                    log.warn("파일 삭제 실패, 다음 주기에 재시도: id={}, path={} - {}", ref.id(), ref.filePath(), e.getMessage());
+                }
+            }
+        }
+
+        if (!unlinked.isEmpty()) {
+            unlinked.forEach(failedAttempts::remove);
+            fileStatsService.purgeRows(unlinked);
+            hotFileCache.evict(unlinked);
+            purgedCounter.increment(unlinked.size());
+            reclaimedBytesCounter.increment(reclaimedBytes);
+        }
+        return unlinked.size();
+    }
+
+    /**
+     * 삭제한 파일 크기 (이미 없으면 0)
+     */
+    private static long deleteAndMeasure(Path path) throws IOException {
+        long size = Files.isRegularFile(path) ? Files.size(path) : 0L;
+        return Files.deleteIfExists(path) ? size : 0L;
+    }
+}
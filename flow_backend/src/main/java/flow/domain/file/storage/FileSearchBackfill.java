@@ -0,0 +1,73 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.service.FileStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 검색 컬럼(search_name, extension) 도입 이전에 저장된 행을 배치로 채움
+ * - 새로 저장되는 행은 FileEntity 의 @PrePersist 에서 계산되므로 대상이 한 번 비면 더 이상 조회하지 않음
+ * - 완료 시 저장소 통계를 한 번도 집계하지 않았으면 채우고(도입 후 첫 기동), 이미 집계했는데 files 행 수와 다르면 경고
+ *   (이후 재계산은 관리자가 POST /api/files/stats/rebuild 로 실행)
+ */
+@Component
+@Slf4j
+public class FileSearchBackfill {
+
+    private final FileRepository fileRepository;
+    private final FileStatsService fileStatsService;
+
+    private volatile boolean completed = false;
+
+    @Value("${app.search.backfill.batch-size:1000}")
+    private int batchSize;
+
+    public FileSearchBackfill(FileRepository fileRepository, FileStatsService fileStatsService) {
+        this.fileRepository = fileRepository;
+        this.fileStatsService = fileStatsService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.backfill.interval:PT5S}",
+               initialDelayString = "${app.search.backfill.initial-delay:PT30S}")
+    @Transactional
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+
+        // 통계 재계산은 search 컬럼이 모두 채워져 커밋된 뒤에만 가능하므로 빈 배치를 확인한 회차에 완료 처리
+        List<FileEntity> batch = fileRepository.findSearchBackfillTargets(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            completed = true;
+            log.info("검색 컬럼 backfill 완료");
+            seedStats();
+            return;
+        }
+
+        batch.forEach(FileEntity::indexForSearch);
+        log.info("검색 컬럼 backfill: {}개 처리", batch.size());
+    }
+
+    private void seedStats() {
+        try {
+            if (!fileStatsService.seedIfMissing()) {
+                fileStatsService.reportIfOutOfSync();
+            }
+        } catch (RuntimeException e) {
+            // 다른 노드가 동시에 채운 경우 등 - 표시 행이 없으면 다음 기동 때 다시 시도
+            log.warn("저장소 통계 초기 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+}
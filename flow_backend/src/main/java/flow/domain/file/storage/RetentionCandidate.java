@@ -0,0 +1,7 @@
+package flow.domain.file.storage;
+
+/**
+ * 보존 정책 평가용 파일 행 projection
+ */
+public record RetentionCandidate(Long id, Long fileSize) {
+}
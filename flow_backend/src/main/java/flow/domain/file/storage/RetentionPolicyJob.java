@@ -0,0 +1,267 @@
+package flow.domain.file.storage;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.cache.FileDeletedEvent;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 업로드 파일 보존 정책 (0 이면 해당 규칙 미사용)
+ * - max-age: 생성 후 기간이 지난 파일
+ * - keep-last-per-name: 같은 원본 파일명 중 최신 N개를 제외한 파일
+ * - max-total-size: 전체 크기가 한도를 넘으면 오래된 파일부터
+ * - 매칭된 파일은 tombstone 처리만 하고 실제 파일/행 정리는 FilePurgeWorker 가 담당
+ * - 한 번 실행에 tombstone 배치(batch-size 행)를 max-batches-per-run 번까지만 기록하고 나머지는 다음 주기로 넘김
+ * - keep-last-per-name 은 이름 인덱스를 batch-size 개 이름 구간씩 훑고 구간 안에서만 집계하며,
+ *   예산이 떨어지면 다음 실행은 멈춘 구간부터 이어서 진행
+ */
+@Component
+@Slf4j
+public class RetentionPolicyJob {
+
+    static final String RULE_MAX_AGE = "max-age";
+    static final String RULE_KEEP_LAST = "keep-last-per-name";
+    static final String RULE_MAX_TOTAL_SIZE = "max-total-size";
+
+    private final FileRepository fileRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // keep-last-per-name 이 이전 실행에서 멈춘 이름 구간의 시작 (끝까지 훑으면 처음부터)
+    private volatile String keepLastCursor = "";
+
+    @Value("${app.storage.retention.max-age:0}")
+    private Duration maxAge;
+
+    @Value("${app.storage.retention.keep-last-per-name:0}")
+    private int keepLastPerName;
+
+    @Value("${app.storage.retention.max-total-size:0}")
+    private DataSize maxTotalSize;
+
+    @Value("${app.storage.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.storage.retention.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    public RetentionPolicyJob(FileRepository fileRepository, MeterRegistry meterRegistry,
+                              ApplicationEventPublisher eventPublisher) {
+        this.fileRepository = fileRepository;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.retention.interval:PT1H}",
+               initialDelayString = "${app.storage.retention.initial-delay:PT10M}")
+    public void scheduledRun() {
+        if (!isEnabled() || running.get()) {
+            return;
+        }
+        run();
+    }
+
+    public RetentionResult run() {
+        if (!running.compareAndSet(false, true)) {
+            throw BusinessException.conflict("보존 정책이 이미 실행 중입니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            Budget budget = new Budget(maxBatchesPerRun);
+            long[] totals = new long[2];
+
+            accumulate(totals, applyMaxAge(budget));
+            accumulate(totals, applyKeepLastPerName(budget));
+            accumulate(totals, applyMaxTotalSize(budget));
+
+            RetentionResult result = new RetentionResult(totals[0], totals[1],
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            if (result.expiredFiles() > 0) {
+                log.info("보존 정책 실행 완료: {}", result);
+            }
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean isEnabled() {
+        return !maxAge.isZero() || keepLastPerName > 0 || maxTotalSize.toBytes() > 0;
+    }
+
+    private long[] applyMaxAge(Budget budget) {
+        long[] totals = new long[2];
+        if (maxAge.isZero()) {
+            return totals;
+        }
+
+        LocalDateTime createdBefore = LocalDateTime.now().minus(maxAge);
+        while (budget.take()) {
+            List<RetentionCandidate> batch = fileRepository.findRetentionCandidatesCreatedBefore(
+                    createdBefore, PageRequest.of(0, batchSize));
+            accumulate(totals, expire(batch, RULE_MAX_AGE));
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return totals;
+    }
+
+    private long[] applyKeepLastPerName(Budget budget) {
+        long[] totals = new long[2];
+        if (keepLastPerName <= 0) {
+            return totals;
+        }
+
+        // 이름 페이지가 아니라 만료 후보를 batch-size 개씩 모아 tombstone 배치마다 예산을 차감
+        // (이름당 최대 batch-size 개이므로 이름 단위로 차감하면 한 번에 batch-size² 행까지 만료될 수 있음)
+        List<RetentionCandidate> pending = new ArrayList<>();
+        String cursor = keepLastCursor;
+        // 아직 만료하지 못한 후보가 처음 나온 구간의 시작
+        String resumeFrom = cursor;
+        boolean completed = false;
+        names:
+        while (budget.hasRemaining()) {
+            if (pending.isEmpty()) {
+                resumeFrom = cursor;
+            }
+            // 전체 이름을 매번 GROUP BY 하지 않도록 인덱스에서 다음 이름 구간만 읽고 그 구간 안에서 집계
+            List<String> slice = fileRepository.findNamesAfter(cursor, PageRequest.of(0, batchSize));
+            if (slice.isEmpty()) {
+                completed = flushRemaining(pending, budget, totals);
+                break;
+            }
+            String to = slice.get(slice.size() - 1);
+            for (String name : fileRepository.findNamesExceedingBetween(keepLastPerName, cursor, to)) {
+                // 최신 keep 개는 건너뛰고 나머지를 만료 (keep 은 보통 작으므로 keep + batch 만큼 조회)
+                List<RetentionCandidate> newestFirst = fileRepository.findRetentionCandidatesByName(
+                        name, PageRequest.of(0, keepLastPerName + batchSize));
+                pending.addAll(newestFirst.subList(Math.min(keepLastPerName, newestFirst.size()), newestFirst.size()));
+
+                while (pending.size() >= batchSize) {
+                    if (!budget.take()) {
+                        break names;
+                    }
+                    List<RetentionCandidate> batch = pending.subList(0, batchSize);
+                    accumulate(totals, expire(List.copyOf(batch), RULE_KEEP_LAST));
+                    batch.clear();
+                }
+            }
+            cursor = to;
+            if (slice.size() < batchSize) {
+                completed = flushRemaining(pending, budget, totals);
+                break;
+            }
+        }
+        keepLastCursor = completed ? "" : pending.isEmpty() ? cursor : resumeFrom;
+        return totals;
+    }
+
+    /**
+     * 이름을 끝까지 훑은 뒤 배치 크기보다 적게 남은 후보를 한 배치로 만료 (예산이 없으면 false)
+     */
+    private boolean flushRemaining(List<RetentionCandidate> pending, Budget budget, long[] totals) {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        if (!budget.take()) {
+            return false;
+        }
+        accumulate(totals, expire(List.copyOf(pending), RULE_KEEP_LAST));
+        pending.clear();
+        return true;
+    }
+
+    private long[] applyMaxTotalSize(Budget budget) {
+        long[] totals = new long[2];
+        long limit = maxTotalSize.toBytes();
+        if (limit <= 0) {
+            return totals;
+        }
+
+        long excess = fileRepository.sumActiveFileSize() - limit;
+        while (excess > 0 && budget.take()) {
+            List<RetentionCandidate> oldest = fileRepository.findOldestRetentionCandidates(PageRequest.of(0, batchSize));
+            if (oldest.isEmpty()) {
+                break;
+            }
+
+            // 초과분을 넘기는 순간까지만 만료
+            int count = 0;
+            long bytes = 0L;
+            while (count < oldest.size() && bytes < excess) {
+                bytes += oldest.get(count).fileSize();
+                count++;
+            }
+            long[] expired = expire(oldest.subList(0, count), RULE_MAX_TOTAL_SIZE);
+            accumulate(totals, expired);
+            excess -= expired[1];
+        }
+        return totals;
+    }
+
+    /**
+     * tombstone 처리 후 {만료 파일 수, 만료 바이트} 반환
+     */
+    private long[] expire(List<RetentionCandidate> batch, String rule) {
+        if (batch.isEmpty()) {
+            return new long[2];
+        }
+
+        List<Long> ids = batch.stream().map(RetentionCandidate::id).toList();
+        int marked = fileRepository.markDeletedByIds(ids, LocalDateTime.now());
+        eventPublisher.publishEvent(FileDeletedEvent.of(ids));
+        long bytes = batch.stream().mapToLong(RetentionCandidate::fileSize).sum();
+
+        meterRegistry.counter("flow.storage.retention.files.expired", "rule", rule).increment(marked);
+        // 아직 디스크에서 지워지지 않은 크기 (실제 회수량은 FilePurgeWorker 의 flow.storage.purge.bytes.reclaimed)
+        meterRegistry.counter("flow.storage.retention.bytes.expired", "rule", rule).increment(bytes);
+        log.debug("보존 정책 [{}] 파일 {}개 ({} bytes) 만료", rule, marked, bytes);
+        return new long[]{marked, bytes};
+    }
+
+    private static void accumulate(long[] totals, long[] delta) {
+        totals[0] += delta[0];
+        totals[1] += delta[1];
+    }
+
+    /**
+     * 한 번 실행에서 처리할 배치 수 한도 (규칙 간 공유)
+     */
+    private static class Budget {
+
+        private int remaining;
+
+        Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        boolean hasRemaining() {
+            return remaining > 0;
+        }
+
+        boolean take() {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package flow.domain.file.storage;
+
+/**
+ * 보존 정책 실행 결과
+ *
+ * @param expiredFiles   삭제 요청(tombstone)한 파일 수
+ * @param expiredBytes   삭제 요청한 파일 크기 합계 (실제 디스크 회수는 FilePurgeWorker 가 정리할 때 flow.storage.purge.bytes.reclaimed 로 기록)
+ * @param elapsedMillis  소요 시간
+ */
+public record RetentionResult(long expiredFiles, long expiredBytes, long elapsedMillis) {
+}
@@ -0,0 +1,171 @@
+package flow.domain.file.storage;
+
+import io.micrometer.core.instrument.Metrics;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 저장 시 gzip 압축 여부 판단 및 압축 저장
+ * - 텍스트 계열 Content-Type 은 바로 압축, 그 외에는 앞부분 샘플의 엔트로피로 판단
+ *   (이미 압축된 이미지/아카이브 등은 엔트로피가 8 bits/byte 에 가까워 제외됨)
+ * - 압축 결과가 원본 대비 MAX_RATIO 이상이면 압축하지 않은 원본으로 저장
+ */
+public final class StorageCompression {
+
+    public static final String GZIP = "gzip";
+
+    static final int SAMPLE_SIZE = 4096;
+    static final double MAX_ENTROPY = 7.0; // bits per byte
+    static final double MAX_RATIO = 0.9;
+
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json", "application/xml", "application/javascript",
+            "application/x-ndjson", "application/sql", "application/csv", "image/svg+xml"
+    );
+
+    private StorageCompression() {
+    }
+
+    public static boolean isCompressibleType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String mimeType = contentType.split(";")[0].trim().toLowerCase();
+        return mimeType.startsWith("text/") || COMPRESSIBLE_TYPES.contains(mimeType);
+    }
+
+    /**
+     * Shannon 엔트로피 (bits per byte, 0 ~ 8)
+     */
+    public static double entropy(byte[] sample, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int[] counts = new int[256];
+        for (int i = 0; i < length; i++) {
+            counts[sample[i] & 0xff]++;
+        }
+
+        double entropy = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                double p = (double) count / length;
+                entropy -= p * (Math.log(p) / Math.log(2));
+            }
+        }
+        return entropy;
+    }
+
+    /**
+     * 압축 대상이면 gzip 으로, 아니면 원본 그대로 target 에 저장
+     *
+     * @param source       원본 스트림을 여는 함수 (압축 효과가 없을 때 원본으로 다시 저장하기 위해 두 번 열 수 있어야 함)
+     * @param originalSize 원본 크기
+     * @return 적용된 Content-Encoding (원본 저장 시 null)
+     */
+    public static String store(StreamSource source, String contentType, long originalSize, Path target) throws IOException {
+        return store(source, contentType, originalSize, target, null);
+    }
+
+    /**
+     * 업로드 저장 - 압축 전/후 크기를 flow.storage.compression.bytes.* 에 기록
+     *
+     * @param digest 저장되는 바이트(압축 시 압축 후)로 갱신할 MessageDigest (null 이면 계산하지 않음)
+     */
+    public static String store(StreamSource source, String contentType, long originalSize, Path target,
+                               MessageDigest digest) throws IOException {
+        String encoding = write(source, contentType, originalSize, target, digest);
+        long storedSize = Files.size(target);
+        Metrics.counter("flow.storage.compression.bytes.original", "encoding", encodingTag(encoding)).increment(originalSize);
+        Metrics.counter("flow.storage.compression.bytes.stored", "encoding", encodingTag(encoding)).increment(storedSize);
+        return encoding;
+    }
+
+    /**
+     * store 와 같은 기준으로 저장하되 지표는 기록하지 않음
+     * - 이미 업로드 시 집계된 파일을 다시 쓰는 경우(저장 티어 이동)에 업로드 압축률이 섞이지 않도록 함
+     */
+    public static String write(StreamSource source, String contentType, long originalSize, Path target,
+                               MessageDigest digest) throws IOException {
+        boolean compress;
+        try (BufferedInputStream in = new BufferedInputStream(source.open(), SAMPLE_SIZE)) {
+            compress = isCompressibleType(contentType);
+            if (!compress) {
+                in.mark(SAMPLE_SIZE);
+                byte[] sample = in.readNBytes(SAMPLE_SIZE);
+                in.reset();
+                compress = entropy(sample, sample.length) < MAX_ENTROPY;
+            }
+
+            if (compress) {
+                try (OutputStream out = new GZIPOutputStream(open(target, digest), 64 * 1024)) {
+                    in.transferTo(out);
+                }
+            } else {
+                try (OutputStream out = open(target, digest)) {
+                    in.transferTo(out);
+                }
+            }
+        }
+
+        if (compress && Files.size(target) >= originalSize * MAX_RATIO) {
+            if (digest != null) {
+                digest.reset();
+            }
+            try (InputStream in = source.open(); OutputStream out = open(target, digest)) {
+                in.transferTo(out);
+            }
+            compress = false;
+        }
+        return compress ? GZIP : null;
+    }
+
+    private static OutputStream open(Path target, MessageDigest digest) throws IOException {
+        OutputStream out = Files.newOutputStream(target);
+        return digest == null ? out : new DigestOutputStream(out, digest);
+    }
+
+    /**
+     * 다운로드 전송량 기록 (gzip 그대로 전송 / 압축 해제 후 전송 비교용)
+     */
+    public static void recordEgress(String encoding, long bytes) {
+        Metrics.counter("flow.storage.compression.bytes.egress", "encoding", encodingTag(encoding)).increment(bytes);
+    }
+
+    /**
+     * Accept-Encoding 헤더에 gzip 이 허용되어 있는지 (q=0 은 거부로 처리)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if (!coding.equals(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !rejected;
+        }
+        return false;
+    }
+
+    private static String encodingTag(String encoding) {
+        return encoding == null ? "identity" : encoding;
+    }
+
+    @FunctionalInterface
+    public interface StreamSource {
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,14 @@
+package flow.domain.file.storage;
+
+/**
+ * 저장소 정합성 검사 결과
+ *
+ * @param scannedRows    검사한 파일 행 수
+ * @param danglingRows   디스크에 파일이 없는 행 수 (missing_at 표시)
+ * @param scannedFiles   검사한 디스크 파일 수
+ * @param orphansDeleted 행이 없어 삭제한 디스크 파일 수
+ * @param elapsedMillis  소요 시간
+ */
+public record StorageReconcileResult(long scannedRows, long danglingRows, long scannedFiles,
+                                     long orphansDeleted, long elapsedMillis) {
+}
@@ -0,0 +1,262 @@
+package flow.domain.file.storage;
+
+import flow.common.exception.BusinessException;
+import flow.config.SchedulingConfig;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 디렉토리와 files 테이블의 정합성 검사
+ * - 행 → 디스크: PK 키셋 페이지로 행을 순회하며 파일이 없는 행에 missing_at 표시 (파일이 다시 보이면 해제)
+ * - 디스크 → 행: 업로드 디렉토리와 아카이브 디렉토리를 DirectoryStream 으로 순회하며 배치 단위로 행을 조회,
+ *   행이 없는 파일(중단된 .part 포함)과 행이 다른 위치의 파일을 가리키는 사본(티어 이동 중단)을 삭제
+ * - 두 방향 모두 batch-size 단위로 처리하고 배치 사이에 batch-pause 만큼 쉬어 I/O 를 제한
+ * - 업로드 중(파일 저장 후 커밋 전)인 파일을 지우지 않도록 orphan-grace-period 보다 오래된 파일만 삭제
+ */
+@Component
+@Slf4j
+public class StorageReconciler {
+
+    private final FileRepository fileRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong scannedRows = new AtomicLong();
+    private final AtomicLong scannedFiles = new AtomicLong();
+
+    @Value("${app.upload.path:/flow/data}")
+    private String uploadPath;
+
+    @Value("${app.storage.tiering.archive-path:/flow/archive}")
+    private String archivePath;
+
+    @Value("${app.storage.reconcile.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.storage.reconcile.batch-pause:100ms}")
+    private Duration batchPause;
+
+    @Value("${app.storage.reconcile.orphan-grace-period:10m}")
+    private Duration orphanGracePeriod;
+
+    public StorageReconciler(FileRepository fileRepository, MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.meterRegistry = meterRegistry;
+
+        // 진행 중인 검사의 진행 상황 (완료 후에는 마지막 검사의 최종 값)
+        meterRegistry.gauge("flow.storage.reconcile.rows.scanned", scannedRows);
+        meterRegistry.gauge("flow.storage.reconcile.files.scanned", scannedFiles);
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.reconcile.interval:PT1H}",
+               initialDelayString = "${app.storage.reconcile.initial-delay:PT5M}",
+               scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void scheduledReconcile() {
+        if (running.get()) {
+            log.info("저장소 정합성 검사가 이미 실행 중이어서 건너뜀");
+            return;
+        }
+        reconcile();
+    }
+
+    public StorageReconcileResult reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw BusinessException.conflict("저장소 정합성 검사가 이미 실행 중입니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            scannedRows.set(0);
+            scannedFiles.set(0);
+
+            long danglingRows = reconcileRows();
+            long orphansDeleted = reconcileFiles();
+
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            meterRegistry.timer("flow.storage.reconcile.duration").record(Duration.ofMillis(elapsedMillis));
+
+            StorageReconcileResult result = new StorageReconcileResult(
+                    scannedRows.get(), danglingRows, scannedFiles.get(), orphansDeleted, elapsedMillis);
+            log.info("저장소 정합성 검사 완료: {}", result);
+            return result;
+
+        } catch (IOException e) {
+            log.error("저장소 정합성 검사 실패: {}", e.getMessage(), e);
+            throw BusinessException.internalServerError("저장소 정합성 검사에 실패했습니다.");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 행 → 디스크 방향 검사 (파일이 없는 행 표시)
+     */
+    private long reconcileRows() {
+        long cursor = 0L;
+        long dangling = 0L;
+
+        while (true) {
+            List<StoredFileRef> page = fileRepository.findStoredFileRefsAfter(cursor, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<Long> missing = new ArrayList<>();
+            List<Long> recovered = new ArrayList<>();
+            for (StoredFileRef ref : page) {
+                boolean exists = Files.exists(Paths.get(ref.filePath()));
+                if (!exists) {
+                    missing.add(ref.id());
+                } else if (ref.missingAt() != null) {
+                    recovered.add(ref.id());
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                int flagged = fileRepository.markMissing(missing, LocalDateTime.now());
+                dangling += missing.size();
+                meterRegistry.counter("flow.storage.reconcile.dangling").increment(flagged);
+                log.warn("디스크에 파일이 없는 행 {}개 (신규 {}개): {}", missing.size(), flagged, missing);
+            }
+            if (!recovered.isEmpty()) {
+                fileRepository.clearMissing(recovered);
+                log.info("파일이 다시 확인된 행 {}개: {}", recovered.size(), recovered);
+            }
+
+            scannedRows.addAndGet(page.size());
+            cursor = page.get(page.size() - 1).id();
+            if (page.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        return dangling;
+    }
+
+    /**
+     * 디스크 → 행 방향 검사 (행이 없는 파일 삭제)
+     */
+    private long reconcileFiles() throws IOException {
+        Path uploadDir = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path archiveDir = Paths.get(archivePath).toAbsolutePath().normalize();
+
+        Instant graceLimit = Instant.now().minus(orphanGracePeriod);
+        long deleted = reconcileFiles(uploadDir, graceLimit);
+        if (!archiveDir.equals(uploadDir) && !Thread.currentThread().isInterrupted()) {
+            deleted += reconcileFiles(archiveDir, graceLimit);
+        }
+        return deleted;
+    }
+
+    private long reconcileFiles(Path dir, Instant graceLimit) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return 0L;
+        }
+
+        long deleted = 0L;
+        List<Path> batch = new ArrayList<>(batchSize);
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, entry -> Files.isRegularFile(entry))) {
+            for (Path path : stream) {
+                batch.add(path);
+                if (batch.size() == batchSize) {
+                    deleted += deleteOrphans(batch, graceLimit);
+                    batch.clear();
+                    if (!pause()) {
+                        return deleted;
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += deleteOrphans(batch, graceLimit);
+        }
+        return deleted;
+    }
+
+    private long deleteOrphans(List<Path> batch, Instant graceLimit) {
+        Map<String, Path> byName = new HashMap<>();
+        for (Path path : batch) {
+            byName.put(path.getFileName().toString(), path);
+        }
+        Map<String, List<Path>> rowPaths = new HashMap<>();
+        for (String filePath : fileRepository.findFilePathsByStoredFilenames(byName.keySet())) {
+            Path rowPath = Paths.get(filePath);
+            rowPaths.computeIfAbsent(rowPath.getFileName().toString(), name -> new ArrayList<>()).add(rowPath);
+        }
+
+        long deleted = 0L;
+        for (Map.Entry<String, Path> entry : byName.entrySet()) {
+            List<Path> referenced = rowPaths.get(entry.getKey());
+            if (referenced != null && !isStaleCopy(entry.getValue(), referenced)) {
+                continue;
+            }
+            try {
+                if (Files.getLastModifiedTime(entry.getValue()).toInstant().isAfter(graceLimit)) {
+                    continue;
+                }
+                if (Files.deleteIfExists(entry.getValue())) {
+                    deleted++;
+                    log.info(referenced == null ? "고아 파일 삭제: {}" : "티어 이동 중 남은 사본 삭제: {}", entry.getValue());
+                }
+            } catch (IOException e) {
+                log.warn("고아 파일 삭제 실패: {} - {}", entry.getValue(), e.getMessage());
+            }
+        }
+
+        scannedFiles.addAndGet(batch.size());
+        meterRegistry.counter("flow.storage.reconcile.orphans.deleted").increment(deleted);
+        return deleted;
+    }
+
+    /**
+     * 같은 저장 파일명의 행이 모두 다른 위치의 존재하는 파일을 가리키면 남은 사본
+     * - 행이 가리키는 파일이 없으면 이 파일이 유일한 사본일 수 있으므로 유지 (행 → 디스크 검사가 missing_at 표시)
+     */
+    private static boolean isStaleCopy(Path path, List<Path> referenced) {
+        for (Path rowPath : referenced) {
+            try {
+                if (Files.isSameFile(path, rowPath)) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("저장소 정합성 검사 중단 (인터럽트)");
+            return false;
+        }
+    }
+}
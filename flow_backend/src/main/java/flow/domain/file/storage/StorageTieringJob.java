@@ -0,0 +1,370 @@
+package flow.domain.file.storage;
+
+import flow.common.exception.BusinessException;
+import flow.config.SchedulingConfig;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.FileChecksum;
+import flow.domain.file.preview.ThumbnailService;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.service.FileStatsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 저장 티어 이동 (기본 업로드 디렉토리 ↔ 아카이브 디렉토리)
+ * - 생성 후 min-age 가 지났고 idle 동안 다운로드가 없는 파일을 아카이브 디렉토리로 옮김
+ *   (원본 저장 파일은 StorageCompression 기준으로 gzip 압축, 이미 gzip 저장된 파일은 그대로 복사)
+ * - 아카이브된 파일도 file_path 가 아카이브 경로를 가리키므로 다운로드는 그대로 동작하고,
+ *   다운로드되면 rehydrate-delay 뒤 maintenance 스케줄러에서 해당 파일만 기본 티어로 되돌림
+ *   (전체 실행 중이라 건너뛴 파일은 다음 실행에서 last_accessed_at 기준으로 되돌림)
+ * - 새 위치에 다 쓴 뒤 행을 갱신하고 이전 파일을 지우므로 중간에 실패해도 행은 항상 존재하는 파일을 가리킴
+ * - 원본의 checksum 이 맞지 않으면 옮기지 않고 손상 표시 (손상된 내용이 새 checksum 으로 덮이지 않도록)
+ */
+@Component
+@Slf4j
+public class StorageTieringJob {
+
+    static final String DIRECTION_ARCHIVE = "archive";
+    static final String DIRECTION_REHYDRATE = "rehydrate";
+
+    private static final String PART_SUFFIX = ".part";
+
+    private final FileRepository fileRepository;
+    private final FileStatsService fileStatsService;
+    private final FileMetadataCache fileMetadataCache;
+    private final HotFileCache hotFileCache;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler maintenanceScheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    // 되돌리기 예약된 파일 (같은 파일을 연달아 받아도 한 번만 예약)
+    private final Set<Long> pendingRehydrations = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.upload.path:/flow/data}")
+    private String uploadPath;
+
+    @Value("${app.storage.tiering.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.storage.tiering.archive-path:/flow/archive}")
+    private String archivePath;
+
+    @Value("${app.storage.tiering.min-age:7d}")
+    private Duration minAge;
+
+    @Value("${app.storage.tiering.idle:7d}")
+    private Duration idle;
+
+    @Value("${app.storage.tiering.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.storage.tiering.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    // 다운로드 후 되돌리기까지 대기 (진행 중인 전송이 아카이브 파일을 연 뒤에 이전 파일을 지우도록)
+    @Value("${app.storage.tiering.rehydrate-delay:30s}")
+    private Duration rehydrateDelay;
+
+    public StorageTieringJob(FileRepository fileRepository, FileStatsService fileStatsService,
+                             FileMetadataCache fileMetadataCache, HotFileCache hotFileCache,
+                             MeterRegistry meterRegistry,
+                             @Qualifier(SchedulingConfig.MAINTENANCE_SCHEDULER) TaskScheduler maintenanceScheduler) {
+        this.fileRepository = fileRepository;
+        this.fileStatsService = fileStatsService;
+        this.fileMetadataCache = fileMetadataCache;
+        this.hotFileCache = hotFileCache;
+        this.meterRegistry = meterRegistry;
+        this.maintenanceScheduler = maintenanceScheduler;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.tiering.interval:PT6H}",
+               initialDelayString = "${app.storage.tiering.initial-delay:PT20M}",
+               scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void scheduledRun() {
+        if (!enabled || running.get()) {
+            return;
+        }
+        run();
+    }
+
+    public TieringResult run() {
+        if (!enabled) {
+            throw BusinessException.badRequest("저장 티어 이동이 비활성화되어 있습니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw BusinessException.conflict("저장 티어 이동이 이미 실행 중입니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            Path uploadDir = Paths.get(uploadPath);
+            Path archiveDir = Paths.get(archivePath);
+            Files.createDirectories(archiveDir);
+
+            // 다시 사용되는 파일을 먼저 되돌리고 남은 배치 한도로 아카이브
+            long[] totals = new long[6]; // archived, reclaimed, archivedBytes, rehydrated, rehydratedBytes, failed
+            int batches = rehydrate(uploadDir, totals, maxBatchesPerRun);
+            archive(archiveDir, totals, maxBatchesPerRun - batches);
+
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            TieringResult result = new TieringResult(totals[0], totals[1], totals[2], totals[3], totals[4], totals[5],
+                    elapsedMillis);
+            if (result.archivedFiles() > 0 || result.rehydratedFiles() > 0 || result.failedFiles() > 0) {
+                log.info("저장 티어 이동 완료: {}", result);
+            }
+            return result;
+
+        } catch (IOException e) {
+            log.error("아카이브 디렉토리 생성 실패: {}", e.getMessage(), e);
+            throw BusinessException.internalServerError("아카이브 디렉토리를 만들 수 없습니다.");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 아카이브된 파일이 다운로드되면 해당 파일만 기본 티어로 되돌리도록 예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArchivedFileDownloaded(ArchivedFileDownloadedEvent event) {
+        if (!enabled || !pendingRehydrations.add(event.id())) {
+            return;
+        }
+        try {
+            maintenanceScheduler.schedule(() -> rehydrateNow(event.id()), Instant.now().plus(rehydrateDelay));
+        } catch (RejectedExecutionException e) {
+            pendingRehydrations.remove(event.id());
+            log.debug("복원 예약 실패, 다음 정기 실행에서 되돌림: id={}", event.id());
+        }
+    }
+
+    /**
+     * 파일 하나를 기본 티어로 되돌림 (전체 실행 중이면 같은 파일을 동시에 옮기지 않도록 건너뜀)
+     */
+    void rehydrateNow(Long id) {
+        pendingRehydrations.remove(id);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            fileRepository.findArchivedTierCandidate(id).ifPresent(file -> {
+                Moved moved = move(file, Paths.get(uploadPath), null, DIRECTION_REHYDRATE);
+                if (moved != null) {
+                    finish(List.of(moved), DIRECTION_REHYDRATE);
+                }
+            });
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 티어별 사용량 (기본 티어에서 확보한 용량 확인용)
+     */
+    public List<TierUsage> usage() {
+        return fileRepository.summarizeTiers();
+    }
+
+    private int rehydrate(Path uploadDir, long[] totals, int budget) {
+        int batches = 0;
+        long cursor = 0L;
+        while (batches < budget) {
+            List<TierCandidate> page = fileRepository.findRehydrateCandidatesAfter(cursor, PageRequest.of(0, batchSize));
+            batches++;
+            List<Moved> moved = new ArrayList<>();
+            for (TierCandidate file : page) {
+                Moved result = move(file, uploadDir, null, DIRECTION_REHYDRATE);
+                if (result == null) {
+                    totals[5]++;
+                    continue;
+                }
+                moved.add(result);
+                totals[3]++;
+                totals[4] += result.storedSize();
+            }
+            finish(moved, DIRECTION_REHYDRATE);
+            if (page.size() < batchSize) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+        return batches;
+    }
+
+    private void archive(Path archiveDir, long[] totals, int budget) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minus(minAge);
+        LocalDateTime accessedBefore = now.minus(idle);
+
+        int batches = 0;
+        long cursor = 0L;
+        while (batches < budget) {
+            List<TierCandidate> page = fileRepository.findArchiveCandidatesAfter(
+                    cursor, createdBefore, accessedBefore, PageRequest.of(0, batchSize));
+            batches++;
+            List<Moved> moved = new ArrayList<>();
+            for (TierCandidate file : page) {
+                Moved result = move(file, archiveDir, FileEntity.TIER_ARCHIVE, DIRECTION_ARCHIVE);
+                if (result == null) {
+                    totals[5]++;
+                    continue;
+                }
+                moved.add(result);
+                totals[0]++;
+                totals[1] += file.storedBytes();
+                totals[2] += result.storedSize();
+                meterRegistry.counter("flow.storage.tier.bytes.reclaimed").increment(file.storedBytes());
+            }
+            finish(moved, DIRECTION_ARCHIVE);
+            if (page.size() < batchSize) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+    }
+
+    /**
+     * 파일을 targetDir 로 복사하고 행을 갱신, 실패하거나 행이 그 사이 바뀌었으면 null
+     *
+     * @param tier 옮긴 뒤의 티어 (기본 티어면 null)
+     */
+    private Moved move(TierCandidate file, Path targetDir, String tier, String direction) {
+        Path source = Paths.get(file.filePath());
+        Path target = targetDir.resolve(source.getFileName());
+        Path part = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+        try {
+            MessageDigest sourceDigest = FileChecksum.newDigest();
+            MessageDigest targetDigest = FileChecksum.newDigest();
+            String encoding = copy(file, source, part, tier != null, sourceDigest, targetDigest);
+
+            if (file.checksum() != null && !file.checksum().equals(FileChecksum.hex(sourceDigest))) {
+                Files.deleteIfExists(part);
+                fileRepository.markCorrupted(List.of(file.id()), LocalDateTime.now());
+                hotFileCache.evict(List.of(file.id()));
+                fileMetadataCache.invalidate(List.of(file.id()));
+                meterRegistry.counter("flow.storage.tier.failed", "direction", direction, "reason", "corrupted").increment();
+                log.warn("checksum 불일치로 티어 이동 건너뜀: id={}, path={}", file.id(), file.filePath());
+                return null;
+            }
+
+            long storedSize = Files.size(part);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+
+            int updated = fileRepository.moveToTier(file.id(), file.filePath(), target.toString(), tier, storedSize,
+                    encoding, FileChecksum.hex(targetDigest), tier != null ? LocalDateTime.now() : null);
+            if (updated == 0) {
+                // 그 사이 삭제 요청되었거나 다른 곳에서 경로가 바뀜
+                Files.deleteIfExists(target);
+                return null;
+            }
+
+            fileStatsService.recordStoredSizeChange(file.extension(), file.contentType(),
+                    storedSize - file.storedBytes());
+            return new Moved(file.id(), source, target, storedSize);
+
+        } catch (IOException e) {
+            deleteQuietly(part);
+            meterRegistry.counter("flow.storage.tier.failed", "direction", direction, "reason", "io").increment();
+            log.warn("티어 이동 실패, 다음 주기에 재시도: id={}, path={} - {}", file.id(), file.filePath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 저장된 바이트를 part 에 복사 (compress 이면 원본 저장 파일만 압축), 적용된 Content-Encoding 반환
+     * - sourceDigest: 읽은 원본 바이트 (기존 checksum 확인용), targetDigest: 새로 쓴 바이트
+     */
+    private static String copy(TierCandidate file, Path source, Path part, boolean compress,
+                               MessageDigest sourceDigest, MessageDigest targetDigest) throws IOException {
+        StorageCompression.StreamSource in = () -> {
+            // 압축 효과가 없으면 원본을 다시 읽으므로 열 때마다 초기화
+            sourceDigest.reset();
+            return new DigestInputStream(Files.newInputStream(source), sourceDigest);
+        };
+
+        if (compress && file.contentEncoding() == null) {
+            return StorageCompression.write(in, file.contentType(), file.fileSize(), part, targetDigest);
+        }
+        try (InputStream input = in.open();
+             OutputStream out = new DigestOutputStream(Files.newOutputStream(part), targetDigest)) {
+            input.transferTo(out);
+        }
+        return file.contentEncoding();
+    }
+
+    /**
+     * 행 갱신이 끝난 배치의 캐시 무효화, 이전 파일 삭제, 썸네일 이동
+     */
+    private void finish(List<Moved> moved, String direction) {
+        if (moved.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = moved.stream().map(Moved::id).toList();
+        // 메모리 캐시의 내용/메타데이터는 이전 위치(와 인코딩) 기준
+        hotFileCache.evict(ids);
+        fileMetadataCache.invalidate(ids);
+
+        for (Moved file : moved) {
+            moveThumbnail(file);
+            deleteQuietly(file.source());
+        }
+        meterRegistry.counter("flow.storage.tier.files", "direction", direction).increment(moved.size());
+        log.debug("티어 이동 [{}] 파일 {}개", direction, moved.size());
+    }
+
+    private static void moveThumbnail(Moved file) {
+        Path thumbnail = ThumbnailService.thumbnailPath(file.source());
+        if (!Files.exists(thumbnail)) {
+            return;
+        }
+        try {
+            Path target = ThumbnailService.thumbnailPath(file.target());
+            Files.createDirectories(target.getParent());
+            Files.move(thumbnail, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // 썸네일은 없어도 원본 다운로드에는 지장이 없음
+            log.warn("썸네일 이동 실패: id={} - {}", file.id(), e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    private record Moved(Long id, Path source, Path target, long storedSize) {
+    }
+}
@@ -0,0 +1,9 @@
+package flow.domain.file.storage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정합성 검사용 파일 행 projection (엔티티 전체를 로딩하지 않음)
+ */
+public record StoredFileRef(Long id, String filePath, LocalDateTime missingAt) {
+}
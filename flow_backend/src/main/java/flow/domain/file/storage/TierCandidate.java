@@ -0,0 +1,14 @@
+package flow.domain.file.storage;
+
+/**
+ * 저장 티어 이동 대상 파일 행 projection
+ *
+ * @param storedSize 현재 티어에 저장된 크기 (이전 행은 null 일 수 있음)
+ */
+public record TierCandidate(Long id, String filePath, String extension, String contentType, String contentEncoding,
+                            Long fileSize, Long storedSize, String checksum) {
+
+    public long storedBytes() {
+        return storedSize != null ? storedSize : fileSize;
+    }
+}
@@ -0,0 +1,18 @@
+package flow.domain.file.storage;
+
+/**
+ * 저장 티어별 사용량
+ *
+ * @param tier          저장 티어 (hot / archive)
+ * @param files         파일 수
+ * @param originalBytes 원본 크기 합계
+ * @param storedBytes   디스크에 저장된 크기 합계
+ */
+public record TierUsage(String tier, Long files, Long originalBytes, Long storedBytes) {
+
+    public static final String HOT = "hot";
+
+    public TierUsage {
+        tier = tier == null ? HOT : tier;
+    }
+}
@@ -0,0 +1,16 @@
+package flow.domain.file.storage;
+
+/**
+ * 저장 티어 이동 실행 결과
+ *
+ * @param archivedFiles   아카이브 티어로 옮긴 파일 수
+ * @param reclaimedBytes  옮긴 파일이 기본 티어에서 차지하던 크기 (확보한 기본 티어 용량)
+ * @param archivedBytes   아카이브 티어에 새로 쓴 크기 (압축 후)
+ * @param rehydratedFiles 다시 다운로드되어 기본 티어로 되돌린 파일 수
+ * @param rehydratedBytes 되돌리면서 기본 티어에 다시 쓴 크기
+ * @param failedFiles     읽기/쓰기 실패 또는 checksum 불일치로 건너뛴 파일 수
+ * @param elapsedMillis   소요 시간
+ */
+public record TieringResult(long archivedFiles, long reclaimedBytes, long archivedBytes,
+                            long rehydratedFiles, long rehydratedBytes, long failedFiles, long elapsedMillis) {
+}
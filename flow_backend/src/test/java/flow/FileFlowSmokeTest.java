@@ -0,0 +1,106 @@
+package flow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 업로드 → 확장자 확인 → 다운로드(서명된 링크 포함) → 삭제 흐름 스모크 테스트
+ * - JVM: ./gradlew smokeTest, native image: ./gradlew nativeSmokeTest (H2 사용)
+ */
+@Tag("smoke")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.upload.path=${java.io.tmpdir}/flow-smoke",
+        "app.download.signed-url.api-keys=" + FileFlowSmokeTest.SMOKE_API_KEY
+})
+@ActiveProfiles("test")
+@DisplayName("파일 업로드 흐름 스모크 테스트")
+class FileFlowSmokeTest {
+
+    static final String SMOKE_API_KEY = "smoke-key";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("허용 확장자는 업로드/다운로드/삭제되고 차단 확장자는 거부됨")
+    @SuppressWarnings("unchecked")
+    void uploadCheckDownloadFlow() {
+        // 차단 확장자 등록 및 확인
+        restTemplate.postForEntity("/api/extensions/custom", Map.of("extension", "sh"), Map.class);
+
+        ResponseEntity<Map> blockedCheck = restTemplate.getForEntity("/api/extensions/check/sh", Map.class);
+        assertThat(blockedCheck.getBody().get("data")).isEqualTo(true);
+
+        ResponseEntity<Map> allowedCheck = restTemplate.getForEntity("/api/extensions/check/txt", Map.class);
+        assertThat(allowedCheck.getBody().get("data")).isEqualTo(false);
+
+        // 차단 확장자 업로드 거부
+        ResponseEntity<Map> rejected = upload("script.sh", "echo hi");
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // 허용 확장자 업로드
+        String content = "hello flow";
+        ResponseEntity<Map> uploaded = upload("hello.txt", content);
+        assertThat(uploaded.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Number id = (Number) ((Map<String, Object>) uploaded.getBody().get("data")).get("id");
+
+        // 브라우저 다운로드 경로
+        ResponseEntity<byte[]> unsigned = restTemplate.getForEntity("/api/files/" + id + "/download", byte[].class);
+        assertThat(unsigned.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(unsigned.getBody(), StandardCharsets.UTF_8)).isEqualTo(content);
+
+        // 발급된 키로만 링크 발급
+        ResponseEntity<Map> anonymous = restTemplate.postForEntity("/api/files/" + id + "/link", null, Map.class);
+        assertThat(anonymous.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        // 서명된 링크 다운로드 (X-Accel-Redirect 미사용 시 JVM 에서 전송), 서명이 틀리면 거부
+        HttpHeaders keyHeaders = new HttpHeaders();
+        keyHeaders.set("X-Api-Key", SMOKE_API_KEY);
+        ResponseEntity<Map> link = restTemplate.postForEntity("/api/files/" + id + "/link", new HttpEntity<>(null, keyHeaders), Map.class);
+        String url = (String) ((Map<String, Object>) link.getBody().get("data")).get("url");
+        ResponseEntity<byte[]> signed = restTemplate.getForEntity(url, byte[].class);
+        assertThat(signed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(signed.getBody(), StandardCharsets.UTF_8)).isEqualTo(content);
+        ResponseEntity<byte[]> tampered = restTemplate.getForEntity(url + "x", byte[].class);
+        assertThat(tampered.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        // 삭제 후 조회 불가
+        restTemplate.delete("/api/files/" + id);
+        ResponseEntity<Map> afterDelete = restTemplate.getForEntity("/api/files/" + id, Map.class);
+        assertThat(afterDelete.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<Map> upload(String filename, String content) {
+        ByteArrayResource resource = new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        };
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", resource);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return restTemplate.postForEntity("/api/files/upload", new HttpEntity<>(body, headers), Map.class);
+    }
+}
@@ -0,0 +1,35 @@
+package flow.common.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ResponseApi 테스트")
+class ResponseApiTest {
+
+    @Test
+    @DisplayName("데이터 없는 성공 응답은 같은 인스턴스를 재사용")
+    void emptySuccess_IsShared() {
+        ResponseApi<Void> first = ResponseApi.success();
+        ResponseApi<String> second = ResponseApi.success(null);
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.getMessage()).isEqualTo("성공");
+        assertThat(first.getData()).isNull();
+    }
+
+    @Test
+    @DisplayName("팩토리 메서드 필드 값")
+    void factories_SetFields() {
+        ResponseApi<Integer> success = ResponseApi.success(3, "파일 3개");
+        ResponseApi<Void> error = ResponseApi.error("없음", "NOT_FOUND");
+
+        assertThat(success.getData()).isEqualTo(3);
+        assertThat(success.getMessage()).isEqualTo("파일 3개");
+        assertThat(success.getErrorCode()).isNull();
+        assertThat(error.isSuccess()).isFalse();
+        assertThat(error.getErrorCode()).isEqualTo("NOT_FOUND");
+    }
+}
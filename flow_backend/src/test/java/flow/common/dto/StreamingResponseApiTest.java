@@ -0,0 +1,57 @@
+package flow.common.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StreamingResponseApi 테스트")
+class StreamingResponseApiTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("ResponseApi 와 같은 필드로 목록을 출력")
+    void write_ProducesResponseApiShape() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<Map<String, Object>> items = List.of(Map.of("id", 1), Map.of("id", 2));
+
+        // when
+        StreamingResponseApi.write(objectMapper, response, consumer -> {
+            items.forEach(consumer);
+            return items.size();
+        }, count -> "파일 " + count + "개");
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.get("message").asText()).isEqualTo("파일 2개");
+        assertThat(body.get("data")).hasSize(2);
+        assertThat(body.get("data").get(1).get("id").asInt()).isEqualTo(2);
+        assertThat(body.get("errorCode").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 목록")
+    void write_Empty() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        StreamingResponseApi.write(objectMapper, response, consumer -> 0L, count -> "파일 " + count + "개");
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("data")).isEmpty();
+        assertThat(body.get("message").asText()).isEqualTo("파일 0개");
+    }
+}
@@ -0,0 +1,39 @@
+package flow.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BusinessException 테스트")
+class BusinessExceptionTest {
+
+    @Test
+    @DisplayName("4xx 예외는 스택 트레이스를 만들지 않음")
+    void clientError_IsStackless() {
+        BusinessException e = BusinessException.notFound("파일을 찾을 수 없습니다.");
+
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(e.getErrorCode()).isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("공유 인스턴스에 suppressed 를 추가해도 상태가 바뀌지 않음")
+    void sharedInstance_IgnoresSuppressed() {
+        BusinessException e = BusinessException.badRequest("파일이 비어있습니다.");
+
+        e.addSuppressed(new IllegalStateException("other"));
+
+        assertThat(e.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("500 예외는 원인 추적을 위해 스택 트레이스 유지")
+    void serverError_KeepsStackTrace() {
+        BusinessException e = BusinessException.internalServerError("파일 저장에 실패했습니다.");
+
+        assertThat(e.getStackTrace()).isNotEmpty();
+    }
+}
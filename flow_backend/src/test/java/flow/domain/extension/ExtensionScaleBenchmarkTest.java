@@ -0,0 +1,168 @@
+package flow.domain.extension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flow.common.dto.ResponseApi;
+import flow.domain.extension.dto.CustomExtensionPageResponse;
+import flow.domain.extension.policy.ExtensionPolicyCache;
+import flow.domain.extension.repository.CustomExtensionRepository;
+import flow.domain.extension.service.ExtensionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 커스텀 확장자 1천 개 / 10만 개에서 주요 경로의 지연 시간을 비교하는 벤치마크
+ * - 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ * - 확인/추가/페이지/캐시된 번들은 요청당 시간, 전체를 다루는 경로(일괄 등록, 번들 재생성, 전체 목록 직렬화)는 항목당 시간을 비교
+ * - 10만 개에서의 시간이 1천 개 대비 MAX_SLOWDOWN 배를 넘으면 실패
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.extension.max-custom-extensions=200000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.flow=INFO"
+})
+@ActiveProfiles("test")
+@DisplayName("확장자 대량 등록 벤치마크")
+class ExtensionScaleBenchmarkTest {
+
+    private static final int SMALL = 1_000;
+    private static final int LARGE = 100_000;
+    private static final double MAX_SLOWDOWN = 5.0;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionPolicyCache policyCache;
+
+    @Autowired
+    private CustomExtensionRepository customExtensionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        customExtensionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("10만 개에서도 확인/추가/목록/차단 목록/일괄 등록 경로의 시간이 유지됨")
+    void pathsScaleTo100kEntries() {
+        Map<String, Timing> small = measure(SMALL);
+        Map<String, Timing> large = measure(LARGE);
+
+        System.out.printf("%-22s %10s %14s %14s %8s%n", "path", "unit", SMALL + "", LARGE + "", "ratio");
+        small.forEach((path, smallTiming) -> System.out.printf("%-22s %10s %14.2f %14.2f %8.2f%n",
+                path, smallTiming.unit(), smallTiming.micros(), large.get(path).micros(),
+                large.get(path).micros() / smallTiming.micros()));
+
+        small.forEach((path, smallTiming) ->
+                assertThat(large.get(path).micros())
+                        .as("%s: %d개 대비 %d개 %s", path, SMALL, LARGE, smallTiming.unit())
+                        .isLessThanOrEqualTo(Math.max(smallTiming.micros(), smallTiming.floor()) * MAX_SLOWDOWN));
+    }
+
+    private Map<String, Timing> measure(int size) {
+        customExtensionRepository.deleteAllInBatch();
+
+        Map<String, Timing> result = new LinkedHashMap<>();
+        // 일괄 등록 (POST /custom/import) 으로 데이터 준비
+        List<String> extensions = IntStream.range(0, size).mapToObj(ExtensionScaleBenchmarkTest::extensionName).toList();
+        long start = System.nanoTime();
+        assertThat(extensionService.importCustomExtensions(extensions)).isEqualTo(size);
+        result.put("import", Timing.perEntry((System.nanoTime() - start) / 1_000.0 / size));
+
+        result.put("check", perOp(2_000, i -> extensionService.isExtensionBlocked(extensionName(i * 37 % size))));
+        result.put("add+delete", perOp(200, i -> {
+            extensionService.addCustomExtension("bench" + i);
+            extensionService.deleteCustomExtensionByExtension("bench" + i);
+        }));
+        result.put("page", perOp(500, i -> {
+            CustomExtensionPageResponse page = extensionService.getCustomExtensionPage("x" + (i % 10), null, 50);
+            assertThat(page.getItems()).isNotEmpty();
+        }));
+
+        // 정책이 바뀐 직후의 재생성 비용 (전체 조회 + 직렬화, 항목 수에 비례)
+        result.put("blocklist(rebuild)", perEntry(20, size, i -> blocklistBundle()));
+        result.put("custom(feed)", perEntry(20, size, i -> customFeed()));
+
+        // 차단 목록 번들: 버전당 1회 생성 후에는 캐시된 바이트를 반환
+        policyCache.getBytes("blocklist", this::blocklistBundle);
+        result.put("blocklist(cached)", perOp(2_000, i -> policyCache.getBytes("blocklist", this::blocklistBundle)));
+        return result;
+    }
+
+    /**
+     * GET /api/extensions/custom 의 캐시 미스 시 본문 (ExtensionPolicyCache 와 같은 직렬화)
+     */
+    private byte[] customFeed() {
+        try {
+            return objectMapper.writeValueAsBytes(ResponseApi.success(extensionService.getAllCustomExtensions()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] blocklistBundle() {
+        return String.join("\n", extensionService.getAllBlockedExtensions()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // x + 10진수 끝자리 + 36진수 일련번호: 접두사 x0~x9 로 고르게 분포
+    private static String extensionName(int index) {
+        return "x" + (index % 10) + Integer.toString(index, 36);
+    }
+
+    private static Timing perOp(int iterations, IntConsumer operation) {
+        return Timing.perOp(time(iterations, operation));
+    }
+
+    private static Timing perEntry(int iterations, int size, IntConsumer operation) {
+        return Timing.perEntry(time(iterations, operation) / size);
+    }
+
+    private static double time(int iterations, IntConsumer operation) {
+        // 워밍업
+        for (int i = 0; i < Math.min(iterations, 100); i++) {
+            operation.accept(i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.accept(i);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+
+    /**
+     * @param floor 측정 잡음 하한 (이보다 짧은 시간은 이 값을 기준으로 비교)
+     */
+    private record Timing(double micros, String unit, double floor) {
+
+        static Timing perOp(double micros) {
+            return new Timing(micros, "us/op", 50.0);
+        }
+
+        static Timing perEntry(double micros) {
+            return new Timing(micros, "us/entry", 1.0);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package flow.domain.extension.policy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flow.domain.extension.entity.CustomExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExtensionPolicyBroadcaster 단위 테스트")
+class ExtensionPolicyBroadcasterTest {
+
+    private ExtensionPolicyVersion policyVersion;
+    private ExtensionPolicyBroadcaster broadcaster;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        policyVersion = new ExtensionPolicyVersion();
+        broadcaster = new ExtensionPolicyBroadcaster(policyVersion, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    private static ExtensionPolicyChangedEvent added(long id, String extension) {
+        CustomExtension customExtension = CustomExtension.builder().extension(extension).build();
+        ReflectionTestUtils.setField(customExtension, "id", id);
+        return ExtensionPolicyChangedEvent.of(customExtension, ExtensionPolicyChangeType.ADDED);
+    }
+
+    /**
+     * 커밋 후 리스너 순서대로 버전 증가 → 전송
+     */
+    private void commit(ExtensionPolicyChangedEvent event) {
+        policyVersion.onPolicyChanged(event);
+        broadcaster.onPolicyChanged(event);
+    }
+
+    /**
+     * 전송된 이벤트를 SSE 텍스트로 기록
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        String next() throws InterruptedException {
+            String event = sent.poll(2, TimeUnit.SECONDS);
+            assertThat(event).as("전송된 이벤트").isNotNull();
+            return event;
+        }
+    }
+
+    /**
+     * 읽지 않는 클라이언트 (쓰기가 막힘)
+     */
+    class BlockedEmitter extends SseEmitter {
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("구독 직후 현재 버전을 connected 로 먼저 전송하고 이후 변경분을 이어서 전송")
+    void subscribe_SendsConnectedThenDiffs() throws InterruptedException {
+        // given
+        commit(added(1L, "exe"));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        broadcaster.subscribe(emitter);
+        commit(added(2L, "bat"));
+
+        // then
+        assertThat(emitter.next()).contains("event:connected").contains("\"version\":1");
+        assertThat(emitter.next()).contains("event:policy").contains("\"version\":2").contains("\"extension\":\"bat\"");
+    }
+
+    @Test
+    @DisplayName("변경분의 버전은 전송 시점의 현재 버전이 아니라 그 변경으로 증가한 버전")
+    void onPolicyChanged_UsesVersionOfEvent() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        emitter.next();
+        ExtensionPolicyChangedEvent first = added(1L, "exe");
+        ExtensionPolicyChangedEvent second = added(2L, "bat");
+
+        // when - 두 커밋의 버전 증가가 먼저 끝난 뒤 전송
+        policyVersion.onPolicyChanged(first);
+        policyVersion.onPolicyChanged(second);
+        broadcaster.onPolicyChanged(first);
+        broadcaster.onPolicyChanged(second);
+
+        // then
+        assertThat(emitter.next()).contains("\"version\":1");
+        assertThat(emitter.next()).contains("\"version\":2");
+    }
+
+    @Test
+    @DisplayName("쓰기가 막힌 구독자가 있어도 다른 구독자에게는 바로 전송")
+    void onPolicyChanged_SlowSubscriber_DoesNotBlockOthers() throws InterruptedException {
+        // given
+        broadcaster.subscribe(new BlockedEmitter());
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        emitter.next();
+
+        // when
+        commit(added(1L, "exe"));
+
+        // then
+        assertThat(emitter.next()).contains("event:policy");
+    }
+
+    @Test
+    @DisplayName("대기 메시지가 한도를 넘은 구독자는 구독 해제")
+    void onPolicyChanged_QueueOverflow_DropsSubscriber() {
+        // given
+        broadcaster.subscribe(new BlockedEmitter());
+        broadcaster.subscribe(new RecordingEmitter());
+
+        // when
+        for (int i = 0; i <= ExtensionPolicyBroadcaster.QUEUE_CAPACITY; i++) {
+            commit(added(i, "ext" + i));
+        }
+
+        // then
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+}
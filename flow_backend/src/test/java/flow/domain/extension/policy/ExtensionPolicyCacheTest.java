@@ -0,0 +1,89 @@
+package flow.domain.extension.policy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flow.common.dto.ResponseApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExtensionPolicyCache 단위 테스트")
+class ExtensionPolicyCacheTest {
+
+    private ExtensionPolicyVersion policyVersion;
+    private ExtensionPolicyCache policyCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        policyVersion = new ExtensionPolicyVersion();
+        policyCache = new ExtensionPolicyCache(policyVersion, new ObjectMapper());
+        loadCount = new AtomicInteger();
+    }
+
+    private ResponseApi<List<String>> load() {
+        loadCount.incrementAndGet();
+        return ResponseApi.success(List.of("bat", "exe"), "차단된 확장자 2개");
+    }
+
+    @Test
+    @DisplayName("같은 버전에서는 직렬화된 본문을 재사용")
+    void get_SameVersion_ReusesSnapshot() {
+        // when
+        ExtensionPolicySnapshot first = policyCache.get("blocked", this::load);
+        ExtensionPolicySnapshot second = policyCache.get("blocked", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getEtag()).isEqualTo(policyCache.currentEtag("blocked"));
+    }
+
+    @Test
+    @DisplayName("정책 변경 후에는 스냅샷과 ETag 를 새로 생성")
+    void get_AfterPolicyChanged_RebuildsSnapshot() {
+        // given
+        ExtensionPolicySnapshot before = policyCache.get("blocked", this::load);
+
+        // when
+        policyVersion.onPolicyChanged(ExtensionPolicyChangedEvent.reset("custom"));
+        ExtensionPolicySnapshot after = policyCache.get("blocked", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+    }
+
+    @Test
+    @DisplayName("키마다 다른 ETag 사용")
+    void currentEtag_DifferentKeys_AreDistinct() {
+        assertThat(policyCache.currentEtag("fixed")).isNotEqualTo(policyCache.currentEtag("custom"));
+        assertThat(policyCache.currentEtag("fixed")).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("직접 생성한 바이트 산출물도 버전별로 재사용")
+    void getBytes_SameVersion_ReusesArtefact() {
+        // given
+        Supplier<byte[]> bundle = () -> {
+            loadCount.incrementAndGet();
+            return "bat\nexe".getBytes(StandardCharsets.UTF_8);
+        };
+
+        // when
+        ExtensionPolicySnapshot first = policyCache.getBytes("blocklist", bundle);
+        ExtensionPolicySnapshot second = policyCache.getBytes("blocklist", bundle);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(new String(second.getBody(), StandardCharsets.UTF_8)).isEqualTo("bat\nexe");
+        assertThat(second.getEtag()).isNotEqualTo(policyCache.currentEtag("blocked"));
+    }
+}
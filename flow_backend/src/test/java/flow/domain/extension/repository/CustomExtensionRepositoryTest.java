@@ -1,5 +1,6 @@
 package flow.domain.extension.repository;
 
+import flow.domain.extension.dto.CustomExtensionResponse;
 import flow.domain.extension.entity.CustomExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -238,4 +240,21 @@ class CustomExtensionRepositoryTest {
             assertThat(result.get(i).getExtension()).isEqualTo("custom" + (i + 1));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("접두사 검색 + 커서 이후 페이지 조회")
+    void findPageByPrefix_WithCursor_ReturnsNextPage() {
+        // given
+        entityManager.persistAndFlush(CustomExtension.builder().extension("doc").build());
+        entityManager.persistAndFlush(CustomExtension.builder().extension("docx").build());
+        entityManager.persistAndFlush(CustomExtension.builder().extension("dot").build());
+
+        // when
+        List<CustomExtensionResponse> firstPage = customExtensionRepository.findPageByPrefix("do", "", PageRequest.of(0, 2));
+        List<CustomExtensionResponse> secondPage = customExtensionRepository.findPageByPrefix("do", "docx", PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(CustomExtensionResponse::getExtension).containsExactly("doc", "docx");
+        assertThat(secondPage).extracting(CustomExtensionResponse::getExtension).containsExactly("dot");
+    }
+}
@@ -1,10 +1,14 @@
 package flow.domain.extension.service;
 
 import flow.common.exception.BusinessException;
+import flow.domain.extension.dto.CustomExtensionPageResponse;
+import flow.domain.extension.dto.CustomExtensionResponse;
 import flow.domain.extension.entity.CustomExtension;
 import flow.domain.extension.entity.FixedExtension;
+import flow.domain.extension.policy.ExtensionPolicyChangedEvent;
 import flow.domain.extension.repository.CustomExtensionRepository;
 import flow.domain.extension.repository.FixedExtensionRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,10 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,6 +40,12 @@ class ExtensionServiceImplTest {
     @Mock
     private CustomExtensionRepository customExtensionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ExtensionServiceImpl extensionService;
 
@@ -40,6 +54,10 @@ class ExtensionServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // 등록 한도 설정 (application.yml 기본값)
+        ReflectionTestUtils.setField(extensionService, "maxCustomExtensions", 200);
+        ReflectionTestUtils.setField(extensionService, "maxFixedExtensions", 10);
+
         sampleFixedExtension = FixedExtension.builder()
                 .extension("exe")
                 .isBlocked(false)
@@ -105,7 +123,7 @@ class ExtensionServiceImplTest {
             String extension = "pdf";
             String description = "PDF 파일";
 
-            given(fixedExtensionRepository.findAll()).willReturn(Arrays.asList(sampleFixedExtension));
+            given(fixedExtensionRepository.count()).willReturn(1L);
             given(fixedExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(customExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(fixedExtensionRepository.save(any(FixedExtension.class))).willReturn(sampleFixedExtension);
@@ -134,10 +152,7 @@ class ExtensionServiceImplTest {
         @DisplayName("최대 개수 초과 - 실패")
         void addFixedExtension_ExceedsMaxCount_ThrowsException() {
             // given
-            List<FixedExtension> maxExtensions = Arrays.asList(
-                    new FixedExtension[10] // MAX_FIXED_EXTENSIONS = 10
-            );
-            given(fixedExtensionRepository.findAll()).willReturn(maxExtensions);
+            given(fixedExtensionRepository.count()).willReturn(10L); // max-fixed-extensions = 10
 
             // when & then
             assertThatThrownBy(() -> extensionService.addFixedExtension("pdf", "설명"))
@@ -150,7 +165,7 @@ class ExtensionServiceImplTest {
         void addFixedExtension_DuplicateInFixed_ThrowsException() {
             // given
             String extension = "exe";
-            given(fixedExtensionRepository.findAll()).willReturn(Arrays.asList(sampleFixedExtension));
+            given(fixedExtensionRepository.count()).willReturn(1L);
             given(fixedExtensionRepository.existsByExtension(extension)).willReturn(true);
 
             // when & then
@@ -164,7 +179,7 @@ class ExtensionServiceImplTest {
         void addFixedExtension_DuplicateInCustom_ThrowsException() {
             // given
             String extension = "test";
-            given(fixedExtensionRepository.findAll()).willReturn(Arrays.asList(sampleFixedExtension));
+            given(fixedExtensionRepository.count()).willReturn(1L);
             given(fixedExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(customExtensionRepository.existsByExtension(extension)).willReturn(true);
 
@@ -185,7 +200,7 @@ class ExtensionServiceImplTest {
             // given
             String extension = "pdf";
 
-            given(customExtensionRepository.findAll()).willReturn(Arrays.asList(sampleCustomExtension));
+            given(customExtensionRepository.count()).willReturn(1L);
             given(fixedExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(customExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(customExtensionRepository.save(any(CustomExtension.class))).willReturn(sampleCustomExtension);
@@ -196,6 +211,7 @@ class ExtensionServiceImplTest {
             // then
             assertThat(result).isNotNull();
             verify(customExtensionRepository).save(any(CustomExtension.class));
+            verify(eventPublisher).publishEvent(any(ExtensionPolicyChangedEvent.class));
         }
 
         @Test
@@ -214,15 +230,13 @@ class ExtensionServiceImplTest {
         @DisplayName("최대 개수 초과 - 실패")
         void addCustomExtension_ExceedsMaxCount_ThrowsException() {
             // given
-            List<CustomExtension> maxExtensions = Arrays.asList(
-                    new CustomExtension[200] // MAX_CUSTOM_EXTENSIONS = 200
-            );
-            given(customExtensionRepository.findAll()).willReturn(maxExtensions);
+            given(customExtensionRepository.count()).willReturn(200L); // max-custom-extensions = 200
 
             // when & then
             assertThatThrownBy(() -> extensionService.addCustomExtension("pdf"))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("커스텀 확장자는 최대 200개까지");
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -379,4 +393,94 @@ class ExtensionServiceImplTest {
             verify(customExtensionRepository).findAllOrderByCreatedAt();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("커스텀 확장자 페이지 조회 테스트")
+    class GetCustomExtensionPageTest {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 확장자를 커서로 반환")
+        void getCustomExtensionPage_HasNext_ReturnsCursor() {
+            // given
+            given(customExtensionRepository.findPageByPrefix("do", "", PageRequest.of(0, 3)))
+                    .willReturn(Arrays.asList(
+                            new CustomExtensionResponse(1L, "doc"),
+                            new CustomExtensionResponse(2L, "docx"),
+                            new CustomExtensionResponse(3L, "dot")));
+
+            // when
+            CustomExtensionPageResponse result = extensionService.getCustomExtensionPage("DO", null, 2);
+
+            // then
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo("docx");
+        }
+
+        @Test
+        @DisplayName("특수문자가 포함된 검색어 - 실패")
+        void getCustomExtensionPage_InvalidQuery_ThrowsException() {
+            // when & then
+            assertThatThrownBy(() -> extensionService.getCustomExtensionPage("d%", null, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("영문자와 숫자만");
+        }
+    }
+
+    @Nested
+    @DisplayName("커스텀 확장자 일괄 등록 테스트")
+    class ImportCustomExtensionsTest {
+
+        @Test
+        @DisplayName("중복과 기존 확장자를 제외하고 등록")
+        void importCustomExtensions_SkipsDuplicatesAndExisting() {
+            // given
+            given(fixedExtensionRepository.findExistingExtensions(anyCollection())).willReturn(List.of("exe"));
+            given(customExtensionRepository.findExistingExtensions(anyCollection())).willReturn(List.of("sh"));
+            given(customExtensionRepository.count()).willReturn(1L);
+
+            // when
+            int result = extensionService.importCustomExtensions(Arrays.asList("EXE", "sh", "ps1", "PS1", "vbs"));
+
+            // then
+            assertThat(result).isEqualTo(2);
+            verify(customExtensionRepository).saveAll(anyList());
+            verify(eventPublisher).publishEvent(any(ExtensionPolicyChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("대량 등록은 청크 단위로 저장하고 청크마다 영속성 컨텍스트를 비움")
+        void importCustomExtensions_LargeImport_FlushesPerChunk() {
+            // given
+            ReflectionTestUtils.setField(extensionService, "maxCustomExtensions", 5_000);
+            List<String> extensions = IntStream.range(0, 2_500).mapToObj(i -> "x" + i).toList();
+            given(fixedExtensionRepository.findExistingExtensions(anyCollection())).willReturn(List.of());
+            given(customExtensionRepository.findExistingExtensions(anyCollection())).willReturn(List.of());
+            given(customExtensionRepository.count()).willReturn(0L);
+
+            // when
+            int result = extensionService.importCustomExtensions(extensions);
+
+            // then
+            assertThat(result).isEqualTo(2_500);
+            verify(customExtensionRepository, times(3)).saveAll(anyList());
+            verify(entityManager, times(3)).flush();
+            verify(entityManager, times(3)).clear();
+        }
+
+        @Test
+        @DisplayName("등록 한도 초과 - 실패")
+        void importCustomExtensions_ExceedsMaxCount_ThrowsException() {
+            // given
+            given(fixedExtensionRepository.findExistingExtensions(anyCollection())).willReturn(List.of());
+            given(customExtensionRepository.findExistingExtensions(anyCollection())).willReturn(List.of());
+            given(customExtensionRepository.count()).willReturn(199L);
+
+            // when & then
+            assertThatThrownBy(() -> extensionService.importCustomExtensions(Arrays.asList("ps1", "vbs")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("커스텀 확장자는 최대 200개까지");
+            verify(customExtensionRepository, never()).saveAll(anyList());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package flow.domain.file;
+
+import flow.domain.file.dto.FileSearchPageResponse;
+import flow.domain.file.dto.FileSearchRequest;
+import flow.domain.file.service.FileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 파일 1만 개 / 20만 개에서 검색 페이지의 지연 시간을 비교하는 벤치마크
+ * - 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ * - 접두사 검색은 일치하는 행이 전체의 10% 가 되도록 데이터를 만들어, 정렬이 인덱스 순서를 따르지 않으면 일치 건수에 비례해 느려지는지 확인
+ * - 20만 개에서의 요청당 시간이 1만 개 대비 MAX_SLOWDOWN 배를 넘으면 실패
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.flow=INFO"
+})
+@ActiveProfiles("test")
+@DisplayName("파일 검색 대량 데이터 벤치마크")
+class FileSearchBenchmarkTest {
+
+    private static final int SMALL = 10_000;
+    private static final int LARGE = 200_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int INSERT_BATCH = 5_000;
+    private static final double MAX_SLOWDOWN = 5.0;
+    private static final double FLOOR_MICROS = 200.0;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM files");
+    }
+
+    @Test
+    @DisplayName("20만 개에서도 접두사/필터 검색의 첫 페이지와 다음 페이지 시간이 유지됨")
+    void searchScalesTo200kFiles() {
+        Map<String, Double> small = measure(SMALL);
+        Map<String, Double> large = measure(LARGE);
+
+        System.out.printf("%-22s %14s %14s %8s%n", "path (us/op)", SMALL + "", LARGE + "", "ratio");
+        small.forEach((path, smallMicros) -> System.out.printf("%-22s %14.2f %14.2f %8.2f%n",
+                path, smallMicros, large.get(path), large.get(path) / smallMicros));
+
+        small.forEach((path, smallMicros) ->
+                assertThat(large.get(path))
+                        .as("%s: %d개 대비 %d개", path, SMALL, LARGE)
+                        .isLessThanOrEqualTo(Math.max(smallMicros, FLOOR_MICROS) * MAX_SLOWDOWN));
+    }
+
+    private Map<String, Double> measure(int size) {
+        jdbcTemplate.update("DELETE FROM files");
+        seed(size);
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        result.put("prefix(first)", time(200, i -> assertThat(search(prefix(i), null, null).getItems()).hasSize(PAGE_SIZE)));
+
+        FileSearchPageResponse first = search(prefix(0), null, null);
+        result.put("prefix(next)", time(200, i -> assertThat(
+                search(prefix(0), first.getNextCursor(), first.getNextCursorName()).getItems()).hasSize(PAGE_SIZE)));
+
+        result.put("extension(first)", time(200, i -> {
+            FileSearchRequest request = request();
+            request.setExtension("pdf");
+            assertThat(fileService.searchFiles(request).getItems()).hasSize(PAGE_SIZE);
+        }));
+        return result;
+    }
+
+    private FileSearchPageResponse search(FileSearchRequest request, Long cursor, String cursorName) {
+        request.setCursor(cursor);
+        request.setCursorName(cursorName);
+        return fileService.searchFiles(request);
+    }
+
+    // 접두사 r0~r9 는 각각 전체의 10%
+    private FileSearchRequest prefix(int i) {
+        FileSearchRequest request = request();
+        request.setQ("r" + (i % 10));
+        return request;
+    }
+
+    private FileSearchRequest request() {
+        FileSearchRequest request = new FileSearchRequest();
+        request.setSize(PAGE_SIZE);
+        return request;
+    }
+
+    private void seed(int size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < size; from += INSERT_BATCH) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = from; i < Math.min(from + INSERT_BATCH, size); i++) {
+                String extension = i % 2 == 0 ? "pdf" : "txt";
+                String name = "r" + (i % 10) + Integer.toString(i, 36) + "." + extension;
+                rows.add(new Object[]{name, "bench_" + name, 1024L, "application/" + extension,
+                        "/bench/" + name, name, extension, now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO files (original_filename, stored_filename, file_size, content_type, "
+                    + "file_path, search_name, extension, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static double time(int iterations, IntConsumer operation) {
+        // 워밍업
+        for (int i = 0; i < Math.min(iterations, 50); i++) {
+            operation.accept(i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.accept(i);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+}
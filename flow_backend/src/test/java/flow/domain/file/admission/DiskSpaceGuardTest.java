@@ -0,0 +1,74 @@
+package flow.domain.file.admission;
+
+import flow.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DiskSpaceGuard 테스트")
+class DiskSpaceGuardTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DiskSpaceGuard guard(DataSize minFree) {
+        return new DiskSpaceGuard(tempDir.toString(), minFree, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("워터마크를 넘는 예약은 507 로 거부하고 예약을 남기지 않음")
+    void reserve_BelowWatermark_Throws507() {
+        // given - 실제 여유 공간보다 큰 워터마크
+        DiskSpaceGuard guard = guard(DataSize.ofBytes(Long.MAX_VALUE / 4));
+        long headroomBefore = guard.headroom();
+
+        // when & then
+        assertThatThrownBy(() -> guard.reserve(1024))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus())
+                        .isEqualTo(HttpStatus.INSUFFICIENT_STORAGE));
+        assertThat(guard.headroom()).isEqualTo(headroomBefore);
+        assertThat(meterRegistry.counter("flow.storage.disk.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약한 만큼 headroom 이 줄고 해제하면 복구")
+    void reserveAndRelease_AdjustsHeadroom() {
+        // given
+        DiskSpaceGuard guard = guard(DataSize.ofBytes(0));
+        long headroomBefore = guard.headroom();
+
+        // when
+        guard.reserve(4096);
+
+        // then
+        assertThat(guard.headroom()).isEqualTo(headroomBefore - 4096);
+        assertThat(guard.hasRoomFor(headroomBefore)).isFalse();
+
+        guard.release(4096);
+        assertThat(guard.headroom()).isEqualTo(headroomBefore);
+        assertThat(guard.hasRoomFor(headroomBefore)).isTrue();
+    }
+
+    @Test
+    @DisplayName("아직 없는 업로드 디렉토리는 가장 가까운 상위 디렉토리의 볼륨으로 확인")
+    void missingUploadDir_UsesExistingAncestor() {
+        // given
+        DiskSpaceGuard guard = new DiskSpaceGuard(tempDir.resolve("not/yet/created").toString(),
+                DataSize.ofBytes(0), Duration.ofMinutes(1), meterRegistry);
+
+        // when & then
+        assertThat(guard.headroom()).isPositive();
+        assertThat(guard.hasRoomFor(1)).isTrue();
+    }
+}
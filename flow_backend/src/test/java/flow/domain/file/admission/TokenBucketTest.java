@@ -0,0 +1,67 @@
+package flow.domain.file.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("burst 만큼 즉시 허용 후 거부, 재시도 시각 안내")
+    void tryConsume_BurstThenReject() {
+        // given - 초당 2개, burst 3
+        TokenBucket bucket = new TokenBucket(2, 3);
+        long now = 1_000 * SECOND;
+
+        // when & then
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isEqualTo(SECOND / 2);
+
+        // 0.5초 후 토큰 하나 보충
+        assertThat(bucket.tryConsume(now + SECOND / 2)).isZero();
+        assertThat(bucket.tryConsume(now + SECOND / 2)).isPositive();
+    }
+
+    @Test
+    @DisplayName("충분한 시간이 지나면 유휴 상태")
+    void isIdle_AfterRefill() {
+        TokenBucket bucket = new TokenBucket(2, 3);
+        long now = 1_000 * SECOND;
+        bucket.tryConsume(now);
+
+        assertThat(bucket.isIdle(now)).isFalse();
+        assertThat(bucket.isIdle(now + SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 burst 를 넘겨 허용하지 않음")
+    void tryConsume_Concurrent_NeverExceedsBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(0.001, 50);
+        long now = 1_000 * SECOND;
+        AtomicInteger allowed = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryConsume(now) == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,189 @@
+package flow.domain.file.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UploadAdmissionFilter 테스트")
+class UploadAdmissionFilterTest {
+
+    private static final String PROXY_ADDR = "172.28.0.10";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UploadAdmissionFilter filter(int burst, DataSize maxInFlight) {
+        return filter(burst, maxInFlight, DataSize.ofBytes(0));
+    }
+
+    private UploadAdmissionFilter filter(int burst, DataSize maxInFlight, DataSize minFree) {
+        DiskSpaceGuard diskSpaceGuard = new DiskSpaceGuard(System.getProperty("java.io.tmpdir"), minFree,
+                Duration.ofSeconds(5), meterRegistry);
+        return new UploadAdmissionFilter(new ObjectMapper(), meterRegistry, diskSpaceGuard, true, 1, burst,
+                maxInFlight, Set.of("issued-key"), Set.of(PROXY_ADDR), DataSize.ofMegabytes(10));
+    }
+
+    /**
+     * nginx 를 거친 업로드 요청
+     */
+    private MockHttpServletRequest upload(String ip, int contentLength) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", UploadAdmissionFilter.UPLOAD_PATH);
+        request.setRemoteAddr(PROXY_ADDR);
+        request.addHeader(UploadAdmissionFilter.REAL_IP_HEADER, ip);
+        request.setContent(new byte[contentLength]);
+        return request;
+    }
+
+    /**
+     * 백엔드 포트로 직접 들어온 업로드 요청
+     */
+    private MockHttpServletRequest directUpload(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", UploadAdmissionFilter.UPLOAD_PATH);
+        request.setRemoteAddr(remoteAddr);
+        request.setContent(new byte[10]);
+        return request;
+    }
+
+    @Test
+    @DisplayName("클라이언트별 burst 초과 시 429 + Retry-After")
+    void rateLimit_ExceedsBurst_Returns429() throws Exception {
+        // given
+        UploadAdmissionFilter filter = filter(2, DataSize.ofMegabytes(100));
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletResponse third = new MockHttpServletResponse();
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        filter.doFilter(upload("10.0.0.1", 10), first, new MockFilterChain());
+        filter.doFilter(upload("10.0.0.1", 10), second, new MockFilterChain());
+        filter.doFilter(upload("10.0.0.1", 10), third, new MockFilterChain());
+        filter.doFilter(upload("10.0.0.2", 10), otherClient, new MockFilterChain());
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(third.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.counter("flow.upload.admission.rejected", "reason", "rate").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발급되지 않은 X-Api-Key 는 무시하고 IP 기준으로 제한")
+    void rateLimit_UnknownApiKey_KeyedByIp() throws Exception {
+        // given
+        UploadAdmissionFilter filter = filter(1, DataSize.ofMegabytes(100));
+
+        // when - 요청마다 다른 키를 보내도 같은 버킷
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletRequest firstRequest = directUpload("203.0.113.7");
+        firstRequest.addHeader(UploadAdmissionFilter.API_KEY_HEADER, "random-1");
+        MockHttpServletRequest secondRequest = directUpload("203.0.113.7");
+        secondRequest.addHeader(UploadAdmissionFilter.API_KEY_HEADER, "random-2");
+        filter.doFilter(firstRequest, first, new MockFilterChain());
+        filter.doFilter(secondRequest, second, new MockFilterChain());
+
+        // 발급된 키는 별도 버킷
+        MockHttpServletResponse issued = new MockHttpServletResponse();
+        MockHttpServletRequest issuedRequest = directUpload("203.0.113.7");
+        issuedRequest.addHeader(UploadAdmissionFilter.API_KEY_HEADER, "issued-key");
+        filter.doFilter(issuedRequest, issued, new MockFilterChain());
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(issued.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("flow.upload.admission.clients").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("프록시가 아닌 주소에서 온 X-Real-IP 는 무시")
+    void rateLimit_ForgedRealIp_KeyedByRemoteAddr() throws Exception {
+        // given
+        UploadAdmissionFilter filter = filter(1, DataSize.ofMegabytes(100));
+
+        // when - 직접 접속한 클라이언트가 매번 다른 X-Real-IP 를 보냄
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletRequest firstRequest = directUpload("203.0.113.7");
+        firstRequest.addHeader(UploadAdmissionFilter.REAL_IP_HEADER, "10.0.0.1");
+        MockHttpServletRequest secondRequest = directUpload("203.0.113.7");
+        secondRequest.addHeader(UploadAdmissionFilter.REAL_IP_HEADER, "10.0.0.2");
+        filter.doFilter(firstRequest, first, new MockFilterChain());
+        filter.doFilter(secondRequest, second, new MockFilterChain());
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("처리 중인 업로드 바이트 상한 초과 시 429, 완료 후 해제")
+    void inFlightLimit_ExceedsCap_Returns429() throws Exception {
+        // given
+        UploadAdmissionFilter filter = filter(10, DataSize.ofBytes(100));
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        // 첫 업로드 처리 도중 두 번째 업로드가 들어오는 상황
+        FilterChain slowUpload = (request, response) -> {
+            MockHttpServletResponse concurrent = new MockHttpServletResponse();
+            filter.doFilter(upload("10.0.0.2", 60), concurrent, new MockFilterChain());
+            nested.set(concurrent);
+        };
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(upload("10.0.0.1", 60), first, slowUpload);
+        MockHttpServletResponse afterRelease = new MockHttpServletResponse();
+        filter.doFilter(upload("10.0.0.3", 60), afterRelease, new MockFilterChain());
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested.get().getStatus()).isEqualTo(429);
+        assertThat(afterRelease.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("flow.upload.inflight.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("선언된 크기가 디스크 headroom 을 넘으면 507")
+    void diskHeadroom_Insufficient_Returns507() throws Exception {
+        // given - 워터마크를 실제 여유 공간보다 크게 설정
+        UploadAdmissionFilter filter = filter(10, DataSize.ofMegabytes(100), DataSize.ofBytes(Long.MAX_VALUE / 4));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(upload("10.0.0.1", 10), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(507);
+        assertThat(response.getContentAsString()).contains("INSUFFICIENT_STORAGE");
+    }
+
+    @Test
+    @DisplayName("업로드 외 요청은 제한하지 않음")
+    void otherRequests_NotLimited() throws Exception {
+        // given
+        UploadAdmissionFilter filter = filter(1, DataSize.ofBytes(1));
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/files"), response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package flow.domain.file.cache;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileMetadataCache 테스트")
+class FileMetadataCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, Optional<FileEntity>> loader = id -> {
+        loads.incrementAndGet();
+        return Optional.of(FileEntity.builder().originalFilename(id + ".txt").build());
+    };
+
+    private FileMetadataCache cache(Duration ttl, int maxEntries) {
+        return new FileMetadataCache(true, ttl, maxEntries, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("ttl 안의 반복 조회는 loader 를 호출하지 않고 hit/miss 로 집계")
+    void get_WithinTtl_ReturnsCached() {
+        // given
+        FileMetadataCache cache = cache(Duration.ofMinutes(1), 10);
+
+        // when
+        FileEntity first = cache.get(1L, loader).orElseThrow();
+        FileEntity second = cache.get(1L, loader).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter("flow.file.metadata.cache.requests", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("flow.file.metadata.cache.requests", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("만료된 항목과 없는 파일은 매번 다시 조회")
+    void get_ExpiredOrMissing_Reloads() {
+        // given
+        FileMetadataCache cache = cache(Duration.ZERO, 10);
+
+        // when
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        cache.get(2L, id -> Optional.empty());
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get(2L, id -> Optional.empty())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트를 받으면 해당 항목 무효화")
+    void onFileDeleted_InvalidatesEntries() {
+        // given
+        FileMetadataCache cache = cache(Duration.ofMinutes(1), 10);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        // when
+        cache.onFileDeleted(FileDeletedEvent.of(List.of(1L)));
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        // then
+        assertThat(loads).hasValue(3);
+
+        cache.onFileDeleted(FileDeletedEvent.allFiles());
+        cache.get(2L, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회한 값을 적재하지 않음")
+    void get_InvalidatedDuringLoad_DoesNotCache() {
+        // given
+        FileMetadataCache cache = cache(Duration.ofMinutes(1), 10);
+
+        // when - loader 실행 중 삭제 이벤트 발생
+        cache.get(1L, id -> {
+            cache.onFileDeleted(FileDeletedEvent.of(List.of(id)));
+            return loader.apply(id);
+        });
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("max-entries 를 넘지 않도록 항목 제거")
+    void get_OverMaxEntries_StaysBounded() {
+        // given
+        FileMetadataCache cache = cache(Duration.ofMinutes(1), 2);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            cache.get(id, loader);
+        }
+
+        // then
+        assertThat(meterRegistry.get("flow.file.metadata.cache.entries").gauge().value()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,96 @@
+package flow.domain.file.cache;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HotFileCache 테스트")
+class HotFileCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HotFileCache cache(long maxBytes) {
+        return new HotFileCache(true, DataSize.ofBytes(maxBytes), DataSize.ofBytes(4), 3, meterRegistry);
+    }
+
+    private static FileEntity file(long id) {
+        return file(id, "/flow/data/" + id, null);
+    }
+
+    private static FileEntity file(long id, String filePath, String contentEncoding) {
+        return FileEntity.builder().id(id).filePath(filePath).contentEncoding(contentEncoding).build();
+    }
+
+    @Test
+    @DisplayName("최근 다운로드 수와 크기 기준으로 적재 여부 판단")
+    void shouldAdmit_ChecksDownloadsAndSize() {
+        HotFileCache cache = cache(10);
+
+        assertThat(cache.shouldAdmit(3, 4)).isTrue();
+        assertThat(cache.shouldAdmit(2, 4)).isFalse();
+        assertThat(cache.shouldAdmit(3, 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+    void put_OverBudget_EvictsLeastRecentlyUsed() throws InterruptedException {
+        // given
+        HotFileCache cache = cache(8);
+        cache.put(file(1L), new byte[4]);
+        Thread.sleep(1);
+        cache.put(file(2L), new byte[4]);
+        Thread.sleep(1);
+        cache.get(file(1L));
+
+        // when
+        cache.put(file(3L), new byte[4]);
+
+        // then
+        assertThat(cache.get(file(1L))).isNotNull();
+        assertThat(cache.get(file(2L))).isNull();
+        assertThat(cache.get(file(3L))).isNotNull();
+        assertThat(meterRegistry.get("flow.download.cache.bytes").gauge().value()).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("조회 결과를 hit/miss 로 집계하고 evict 시 메모리 회수")
+    void getAndEvict_RecordsMetrics() {
+        // given
+        HotFileCache cache = cache(8);
+        cache.put(file(1L), new byte[2]);
+
+        // when
+        cache.get(file(1L));
+        cache.evict(List.of(1L));
+        cache.get(file(1L));
+
+        // then
+        assertThat(meterRegistry.counter("flow.download.cache.requests", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("flow.download.cache.requests", "result", "miss").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("flow.download.cache.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 당시와 경로/인코딩이 다르면 miss - 티어 이동 중 다시 적재된 이전 바이트를 새 인코딩으로 보내지 않음")
+    void get_StaleLocation_Misses() {
+        // given - 이동 전 경로의 원본 바이트가 evict 이후 다시 적재됨
+        HotFileCache cache = cache(8);
+        FileEntity before = file(1L, "/flow/data/a.txt", null);
+        FileEntity after = file(1L, "/flow/archive/a.txt", "gzip");
+        cache.put(before, new byte[]{1, 2});
+
+        // when & then
+        assertThat(cache.get(after)).isNull();
+
+        cache.put(after, new byte[]{3});
+        assertThat(cache.get(after)).containsExactly(3);
+        assertThat(cache.get(before)).isNull();
+        assertThat(meterRegistry.get("flow.download.cache.bytes").gauge().value()).isEqualTo(1.0);
+    }
+}
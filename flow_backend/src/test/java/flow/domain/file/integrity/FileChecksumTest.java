@@ -0,0 +1,53 @@
+package flow.domain.file.integrity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileChecksum 테스트")
+class FileChecksumTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("mmap 으로 계산한 값이 스트림으로 계산한 SHA-256 과 같음")
+    void compute_MatchesStreamingDigest() throws IOException {
+        // given
+        byte[] content = "hello flow".getBytes(StandardCharsets.UTF_8);
+        Path path = Files.write(dir.resolve("a.txt"), content);
+        var digest = FileChecksum.newDigest();
+        digest.update(content);
+
+        // when & then
+        assertThat(FileChecksum.compute(path))
+                .isEqualTo(FileChecksum.hex(digest))
+                .hasSize(64);
+    }
+
+    @Test
+    @DisplayName("window 단위로 listener 호출, 빈 파일도 계산")
+    void compute_NotifiesListenerPerWindow() throws IOException {
+        // given
+        Path path = Files.write(dir.resolve("b.bin"), new byte[1024]);
+        Path empty = Files.createFile(dir.resolve("empty.bin"));
+        List<Long> windows = new ArrayList<>();
+
+        // when
+        FileChecksum.compute(path, windows::add);
+
+        // then
+        assertThat(windows).containsExactly(1024L);
+        assertThat(FileChecksum.compute(empty))
+                .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    }
+}
@@ -0,0 +1,115 @@
+package flow.domain.file.integrity;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntegrityScrubber 단위 테스트")
+class IntegrityScrubberTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileMetadataCache fileMetadataCache;
+
+    @Mock
+    private HotFileCache hotFileCache;
+
+    @TempDir
+    Path uploadDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IntegrityScrubber scrubber;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scrubber = new IntegrityScrubber(fileRepository, fileMetadataCache, hotFileCache, meterRegistry);
+        ReflectionTestUtils.setField(scrubber, "batchSize", 10);
+        ReflectionTestUtils.setField(scrubber, "maxBytesPerSecond", DataSize.ofBytes(0));
+    }
+
+    @Test
+    @DisplayName("일치/불일치/checksum 없음/복구/파일 없음을 구분하여 처리")
+    void scrub_ClassifiesFiles() throws IOException {
+        // given
+        Path ok = Files.writeString(uploadDir.resolve("ok.txt"), "ok");
+        Path rotten = Files.writeString(uploadDir.resolve("rotten.txt"), "rotten");
+        Path legacy = Files.writeString(uploadDir.resolve("legacy.txt"), "legacy");
+        Path healed = Files.writeString(uploadDir.resolve("healed.txt"), "healed");
+        String missing = uploadDir.resolve("missing.txt").toString();
+
+        given(fileRepository.findChecksumRefsAfter(eq(0L), any())).willReturn(List.of(
+                new ChecksumRef(1L, ok.toString(), FileChecksum.compute(ok), null),
+                new ChecksumRef(2L, rotten.toString(), FileChecksum.compute(ok), null),
+                new ChecksumRef(3L, legacy.toString(), null, null),
+                new ChecksumRef(4L, healed.toString(), FileChecksum.compute(healed), LocalDateTime.now()),
+                new ChecksumRef(5L, missing, "abc", null)));
+        given(fileRepository.fillChecksum(3L, FileChecksum.compute(legacy))).willReturn(1);
+
+        // when
+        ScrubResult result = scrubber.scrub();
+
+        // then
+        assertThat(result.scannedFiles()).isEqualTo(4);
+        assertThat(result.corrupted()).isEqualTo(1);
+        assertThat(result.backfilled()).isEqualTo(1);
+        assertThat(result.unreadable()).isEqualTo(1);
+        then(fileRepository).should().markCorrupted(eq(List.of(2L)), any(LocalDateTime.class));
+        then(fileRepository).should().clearCorrupted(List.of(4L));
+        then(hotFileCache).should().evict(List.of(2L));
+        then(fileMetadataCache).should().invalidate(List.of(2L));
+        then(fileMetadataCache).should().invalidate(List.of(4L));
+        assertThat(meterRegistry.counter("flow.integrity.scrub.files", "result", "corrupted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 실행 중이면 409")
+    void scrub_AlreadyRunning_ThrowsConflict() {
+        // given
+        ((AtomicBoolean) ReflectionTestUtils.getField(scrubber, "running")).set(true);
+
+        // when & then
+        assertThatThrownBy(() -> scrubber.scrub())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("이미 실행 중");
+    }
+
+    @Test
+    @DisplayName("읽기 속도 제한 - 허용량을 앞서면 대기")
+    void throttle_SleepsWhenAhead() throws IOException {
+        // given - 초당 1MB, 100KB 읽음 → 약 100ms 대기
+        IntegrityScrubber.Throttle throttle = new IntegrityScrubber.Throttle(1024 * 1024);
+        long start = System.nanoTime();
+
+        // when
+        throttle.acquire(100 * 1024);
+
+        // then
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(50_000_000L);
+    }
+}
@@ -0,0 +1,99 @@
+package flow.domain.file.integrity;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntegrityVerifier 단위 테스트")
+class IntegrityVerifierTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileMetadataCache fileMetadataCache;
+
+    @Mock
+    private HotFileCache hotFileCache;
+
+    @TempDir
+    Path dir;
+
+    private IntegrityVerifier verifier(boolean enabled) {
+        return new IntegrityVerifier(fileRepository, fileMetadataCache, hotFileCache, new SimpleMeterRegistry(), enabled, DataSize.ofMegabytes(1));
+    }
+
+    private FileEntity file(Long id, String checksum) {
+        return FileEntity.builder().id(id).originalFilename("a.txt").checksum(checksum).build();
+    }
+
+    @Test
+    @DisplayName("checksum 이 일치하면 통과")
+    void verify_Matching_Passes() throws IOException {
+        Path path = Files.writeString(dir.resolve("a.txt"), "content");
+
+        assertThatCode(() -> verifier(true).verify(file(1L, FileChecksum.compute(path)), path, Files.size(path)))
+                .doesNotThrowAnyException();
+        then(fileRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("checksum 이 다르면 손상 표시 후 전송 거부")
+    void verify_Mismatch_MarksCorrupted() throws IOException {
+        Path path = Files.writeString(dir.resolve("a.txt"), "content");
+
+        assertThatThrownBy(() -> verifier(true).verify(file(1L, "0".repeat(64)), path, Files.size(path)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("손상");
+        then(fileRepository).should().markCorrupted(eq(List.of(1L)), any(LocalDateTime.class));
+        then(hotFileCache).should().evict(List.of(1L));
+        then(fileMetadataCache).should().invalidate(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("비활성화, checksum 없음, 크기 초과는 검증하지 않음")
+    void verify_Skipped() throws IOException {
+        Path path = Files.writeString(dir.resolve("a.txt"), "content");
+
+        verifier(false).verify(file(1L, "0".repeat(64)), path, Files.size(path));
+        verifier(true).verify(file(1L, null), path, Files.size(path));
+        verifier(true).verify(file(1L, "0".repeat(64)), path, DataSize.ofMegabytes(2).toBytes());
+
+        then(fileRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("손상 표시된 파일은 검증 설정과 관계없이 전송 거부 (DB 를 다시 조회하지 않음)")
+    void checkNotCorrupted_MarkedFile_Throws() {
+        // given
+        FileEntity marked = FileEntity.builder().id(1L).corruptedAt(LocalDateTime.now()).build();
+
+        // when & then
+        assertThatThrownBy(() -> verifier(false).checkNotCorrupted(marked))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("손상");
+        assertThatCode(() -> verifier(false).checkNotCorrupted(file(2L, null))).doesNotThrowAnyException();
+        then(fileRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,94 @@
+package flow.domain.file.link;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.dto.DownloadLinkResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DownloadLinkSigner 테스트")
+class DownloadLinkSignerTest {
+
+    private final DownloadLinkSigner signer = new DownloadLinkSigner("test-secret", Duration.ofMinutes(5), Set.of());
+
+    @Test
+    @DisplayName("발급한 링크는 검증을 통과")
+    void issue_ThenVerify_Succeeds() {
+        // given
+        DownloadLinkResponse link = signer.issue(1L);
+        UriComponents uri = UriComponentsBuilder.fromUriString(link.url()).build();
+
+        // when & then
+        assertThat(uri.getPath()).isEqualTo("/api/files/1/signed");
+        assertThatCode(() -> signer.verify(1L,
+                Long.parseLong(uri.getQueryParams().getFirst("expires")),
+                uri.getQueryParams().getFirst("signature")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 파일 ID 나 만료 시각으로 바꾼 서명은 거부")
+    void verify_TamperedLink_Throws403() {
+        // given
+        long expires = Instant.now().plusSeconds(60).getEpochSecond();
+        String signature = signer.sign(1L, expires);
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(2L, expires, signature))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("올바르지 않습니다");
+        assertThatThrownBy(() -> signer.verify(1L, expires + 3600, signature))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("올바르지 않습니다");
+        assertThatThrownBy(() -> new DownloadLinkSigner("other-secret", Duration.ofMinutes(5), Set.of()).verify(1L, expires, signature))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 링크는 거부")
+    void verify_Expired_Throws403() {
+        // given
+        long expires = Instant.now().minusSeconds(1).getEpochSecond();
+        String signature = signer.sign(1L, expires);
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(1L, expires, signature))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("만료")
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.FORBIDDEN));
+    }
+
+    @Test
+    @DisplayName("api-keys 를 설정하면 발급된 키로만 링크 발급")
+    void authorize_RequiresIssuedKey() {
+        // given
+        DownloadLinkSigner restricted = new DownloadLinkSigner("test-secret", Duration.ofMinutes(5), Set.of("issued-key"));
+
+        // when & then
+        assertThatCode(() -> restricted.authorize("issued-key")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> restricted.authorize("guessed-key"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.FORBIDDEN));
+        assertThatThrownBy(() -> restricted.authorize(null))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("api-keys 를 설정하지 않으면 링크를 발급하지 않음")
+    void authorize_NoKeysConfigured_FailsClosed() {
+        // when & then
+        assertThatThrownBy(() -> signer.authorize(null))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.FORBIDDEN));
+        assertThatThrownBy(() -> signer.authorize("any-key"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
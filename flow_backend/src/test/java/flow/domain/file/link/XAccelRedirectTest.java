@@ -0,0 +1,48 @@
+package flow.domain.file.link;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("XAccelRedirect 테스트")
+class XAccelRedirectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private XAccelRedirect redirect(boolean enabled) {
+        return new XAccelRedirect(enabled, "/flow/data", "/internal/files", meterRegistry);
+    }
+
+    private FileEntity file(String path, String contentEncoding) {
+        return FileEntity.builder()
+                .originalFilename("보고서 1.pdf")
+                .filePath(path)
+                .contentEncoding(contentEncoding)
+                .build();
+    }
+
+    @Test
+    @DisplayName("업로드 디렉토리 기준 상대 경로를 퍼센트 인코딩하여 내부 경로로 변환")
+    void resolve_EncodesRelativePath() {
+        // when
+        String uri = redirect(true).resolve(file("/flow/data/uuid_보고서 1.pdf", null));
+
+        // then
+        assertThat(uri).isEqualTo("/internal/files/uuid_%EB%B3%B4%EA%B3%A0%EC%84%9C%201.pdf");
+        assertThat(meterRegistry.counter("flow.download.accel.redirected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화, gzip 저장 파일, 업로드 디렉토리 밖 경로는 JVM 에서 전송")
+    void resolve_NotApplicable_ReturnsNull() {
+        assertThat(redirect(false).resolve(file("/flow/data/a.txt", null))).isNull();
+        assertThat(redirect(true).resolve(file("/flow/data/a.txt", "gzip"))).isNull();
+        assertThat(redirect(true).resolve(file("/flow/data/../etc/passwd", null))).isNull();
+        assertThat(redirect(true).resolve(file("/other/a.txt", null))).isNull();
+        assertThat(redirect(true).supports(file("/other/a.txt", null))).isFalse();
+        assertThat(meterRegistry.counter("flow.download.accel.redirected").count()).isZero();
+    }
+}
@@ -0,0 +1,94 @@
+package flow.domain.file.preview;
+
+import flow.domain.file.entity.FileEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ThumbnailService 테스트")
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThumbnailService thumbnailService = new ThumbnailService(true, 64, 10_000_000, 1, 4, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    private Path png(String name, int width, int height) throws IOException {
+        Path path = dir.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", path.toFile());
+        return path;
+    }
+
+    @Test
+    @DisplayName("긴 변을 썸네일 크기에 맞춰 비율 유지 축소, .thumbnails 아래에 JPEG 저장")
+    void generate_ScalesImagePreservingAspectRatio() throws IOException {
+        // given
+        Path source = png("uuid_photo.png", 400, 200);
+        Path target = ThumbnailService.thumbnailPath(source);
+
+        // when
+        boolean created = thumbnailService.generate(source, false, target);
+
+        // then
+        assertThat(created).isTrue();
+        assertThat(target).isEqualTo(dir.resolve(".thumbnails").resolve("uuid_photo.png.jpg"));
+        BufferedImage thumbnail = ImageIO.read(target.toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(64);
+        assertThat(thumbnail.getHeight()).isEqualTo(32);
+        assertThat(thumbnailService.find(FileEntity.builder().filePath(source.toString()).build())).contains(target);
+    }
+
+    @Test
+    @DisplayName("gzip 으로 저장된 이미지도 압축을 풀어 생성")
+    void generate_GzipStored_Decompresses() throws IOException {
+        // given
+        Path plain = png("plain.png", 10, 10);
+        Path source = dir.resolve("uuid_small.png");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(source))) {
+            Files.copy(plain, out);
+        }
+
+        // when & then
+        assertThat(thumbnailService.generate(source, true, ThumbnailService.thumbnailPath(source))).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 픽셀 수 한도를 넘으면 생성하지 않음")
+    void generate_UnsupportedOrTooLarge_ReturnsFalse() throws IOException {
+        // given
+        Path text = Files.writeString(dir.resolve("uuid_note.png"), "not an image");
+        Path large = png("uuid_large.png", 4000, 3000);
+
+        // when & then
+        assertThat(thumbnailService.generate(text, false, ThumbnailService.thumbnailPath(text))).isFalse();
+        assertThat(thumbnailService.generate(large, false, ThumbnailService.thumbnailPath(large))).isFalse();
+        assertThat(ThumbnailService.thumbnailPath(large)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("ImageIO 가 읽을 수 있는 이미지 Content-Type 만 지원")
+    void supports_ImageContentTypes() {
+        assertThat(thumbnailService.supports("image/png")).isTrue();
+        assertThat(thumbnailService.supports("image/jpeg")).isTrue();
+        assertThat(thumbnailService.supports("application/pdf")).isFalse();
+        assertThat(thumbnailService.supports(null)).isFalse();
+    }
+}
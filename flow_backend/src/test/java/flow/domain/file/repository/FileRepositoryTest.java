@@ -1,15 +1,27 @@
 package flow.domain.file.repository;
 
+import flow.domain.file.dto.FileResponse;
+import flow.domain.file.dto.FileStatsDelta;
 import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.ChecksumRef;
+import flow.domain.file.storage.RetentionCandidate;
+import flow.domain.file.storage.StoredFileRef;
+import flow.domain.file.storage.TierCandidate;
+import flow.domain.file.storage.TierUsage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -243,4 +255,338 @@ class FileRepositoryTest {
         assertThat(savedFile.getOriginalFilename()).isEqualTo("파일_이름-특수문자(123).txt");
         assertThat(savedFile.getStoredFilename()).isEqualTo("uuid_special_file.txt");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("PK 키셋 페이지 조회 - cursor 이후 행만 순서대로 반환")
+    void findStoredFileRefsAfter_ReturnsNextPage() {
+        // when
+        List<StoredFileRef> firstPage = fileRepository.findStoredFileRefsAfter(0L, PageRequest.of(0, 2));
+        List<StoredFileRef> secondPage = fileRepository.findStoredFileRefsAfter(
+                firstPage.get(1).id(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(StoredFileRef::id)
+                .containsExactly(firstFile.getId(), secondFile.getId());
+        assertThat(secondPage).extracting(StoredFileRef::filePath)
+                .containsExactly("/test/path/uuid3_third.jpg");
+    }
+
+    @Test
+    @DisplayName("저장 파일명으로 행이 가리키는 경로 일괄 조회")
+    void findFilePathsByStoredFilenames_ReturnsOnlyKnownPaths() {
+        // when
+        List<String> result = fileRepository.findFilePathsByStoredFilenames(
+                List.of("uuid1_first.txt", "uuid3_third.jpg", "orphan.txt"));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("/test/path/uuid1_first.txt", "/test/path/uuid3_third.jpg");
+    }
+
+    @Test
+    @DisplayName("파일 없는 행 표시 및 해제")
+    void markAndClearMissing() {
+        // when
+        int marked = fileRepository.markMissing(List.of(firstFile.getId(), secondFile.getId()), LocalDateTime.now());
+        int markedAgain = fileRepository.markMissing(List.of(firstFile.getId()), LocalDateTime.now());
+        fileRepository.clearMissing(List.of(secondFile.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(marked).isEqualTo(2);
+        assertThat(markedAgain).isZero();
+        assertThat(fileRepository.findById(firstFile.getId()).orElseThrow().getMissingAt()).isNotNull();
+        assertThat(fileRepository.findById(secondFile.getId()).orElseThrow().getMissingAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제 요청된 파일은 목록에서 제외되고 tombstone 으로 조회됨")
+    void markDeletedByIds_HidesFromListing() {
+        // when
+        int marked = fileRepository.markDeletedByIds(List.of(secondFile.getId()), LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(marked).isEqualTo(1);
+        assertThat(fileRepository.findAllOrderByCreatedAtDesc())
+                .extracting(FileEntity::getOriginalFilename)
+                .containsExactly("third.jpg", "first.txt");
+        assertThat(fileRepository.findTombstonesAfter(0L, PageRequest.of(0, 10)))
+                .extracting(StoredFileRef::id)
+                .containsExactly(secondFile.getId());
+        assertThat(fileRepository.findTombstonesAfter(secondFile.getId(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(fileRepository.findStoredFileRefsAfter(0L, PageRequest.of(0, 10)))
+                .extracting(StoredFileRef::id)
+                .doesNotContain(secondFile.getId());
+    }
+
+    @Test
+    @DisplayName("기준 일시 이전에 생성된 파일 일괄 삭제 요청")
+    void markDeletedCreatedBefore_MarksOlderFiles() {
+        // when
+        int marked = fileRepository.markDeletedCreatedBefore(LocalDateTime.now().plusMinutes(1), LocalDateTime.now());
+        int markedAgain = fileRepository.markDeletedCreatedBefore(LocalDateTime.now().plusMinutes(1), LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(marked).isEqualTo(3);
+        assertThat(markedAgain).isZero();
+        assertThat(fileRepository.findAllOrderByCreatedAtDesc()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보존 정책 - 같은 이름이 keep 개를 넘는 파일명과 최신순 후보 조회")
+    void retentionQueries_KeepLastPerName() {
+        // given
+        FileEntity newerFirst = FileEntity.builder()
+                .originalFilename("first.txt")
+                .storedFilename("uuid5_first.txt")
+                .fileSize(512L)
+                .contentType("text/plain")
+                .filePath("/test/path/uuid5_first.txt")
+                .build();
+        entityManager.persistAndFlush(newerFirst);
+
+        // when
+        List<String> slice = fileRepository.findNamesAfter("", PageRequest.of(0, 10));
+        List<String> names = fileRepository.findNamesExceedingBetween(1L, "", "third.jpg");
+        List<String> afterFirst = fileRepository.findNamesExceedingBetween(1L, "first.txt", "third.jpg");
+        List<RetentionCandidate> candidates = fileRepository.findRetentionCandidatesByName(
+                "first.txt", PageRequest.of(0, 10));
+
+        // then
+        assertThat(slice).containsExactly("first.txt", "second.pdf", "third.jpg");
+        assertThat(names).containsExactly("first.txt");
+        assertThat(afterFirst).isEmpty();
+        assertThat(candidates).extracting(RetentionCandidate::id)
+                .containsExactly(newerFirst.getId(), firstFile.getId());
+    }
+
+    @Test
+    @DisplayName("보존 정책 - 오래된 순 후보 조회 및 전체 크기 합계")
+    void retentionQueries_OldestAndTotalSize() {
+        // when
+        List<RetentionCandidate> oldest = fileRepository.findOldestRetentionCandidates(PageRequest.of(0, 2));
+        long totalSize = fileRepository.sumActiveFileSize();
+
+        // then
+        assertThat(oldest).extracting(RetentionCandidate::id)
+                .containsExactly(firstFile.getId(), secondFile.getId());
+        assertThat(totalSize).isEqualTo(1024L + 2048L + 4096L);
+    }
+
+    @Test
+    @DisplayName("저장 시 검색 컬럼(소문자 파일명, 확장자) 자동 계산")
+    void persist_ComputesSearchColumns() {
+        // given
+        FileEntity file = entityManager.persistAndFlush(FileEntity.builder()
+                .originalFilename("Quarterly Report.PDF")
+                .storedFilename("uuid4_report.PDF")
+                .fileSize(100L)
+                .contentType("application/pdf")
+                .filePath("/test/path/uuid4_report.PDF")
+                .build());
+
+        // then
+        assertThat(file.getSearchName()).isEqualTo("quarterly report.pdf");
+        assertThat(file.getExtension()).isEqualTo("pdf");
+    }
+
+    @Test
+    @DisplayName("검색 - 조건 조합과 ID 내림차순 키셋 페이지")
+    void search_CombinedConditionsWithCursor() {
+        // given
+        Specification<FileEntity> spec = FileSpecifications.notDeleted()
+                .and(FileSpecifications.sizeAtLeast(1024L))
+                .and(FileSpecifications.sizeAtMost(4096L));
+
+        // when
+        List<FileEntity> firstPage = search(spec, 2);
+        List<FileEntity> secondPage = search(spec.and(FileSpecifications.idBefore(firstPage.get(1).getId())), 2);
+
+        // then
+        assertThat(firstPage).extracting(FileEntity::getOriginalFilename).containsExactly("third.jpg", "second.pdf");
+        assertThat(secondPage).extracting(FileEntity::getOriginalFilename).containsExactly("first.txt");
+    }
+
+    @Test
+    @DisplayName("검색 - 파일명 접두사는 (search_name, id) 순 키셋 페이지")
+    void search_PrefixPagesByNameThenId() {
+        // given
+        FileEntity again = entityManager.persistAndFlush(FileEntity.builder()
+                .originalFilename("Second.pdf")
+                .storedFilename("uuid7_second.pdf")
+                .fileSize(10L)
+                .contentType("application/pdf")
+                .filePath("/test/path/uuid7_second.pdf")
+                .build());
+        Sort byName = Sort.by(Sort.Direction.ASC, "searchName").and(Sort.by(Sort.Direction.ASC, "id"));
+        Specification<FileEntity> spec = FileSpecifications.notDeleted().and(FileSpecifications.nameStartsWith("s"));
+
+        // when
+        List<FileEntity> firstPage = fileRepository.findBy(spec, query -> query.sortBy(byName).limit(1).all());
+        List<FileEntity> secondPage = fileRepository.findBy(
+                spec.and(FileSpecifications.nameAfter(firstPage.get(0).getSearchName(), firstPage.get(0).getId())),
+                query -> query.sortBy(byName).limit(10).all());
+
+        // then
+        assertThat(firstPage).extracting(FileEntity::getId).containsExactly(secondFile.getId());
+        assertThat(secondPage).extracting(FileEntity::getId).containsExactly(again.getId());
+    }
+
+    @Test
+    @DisplayName("검색 - 파일명 접두사/부분 일치, 확장자, Content-Type 유형")
+    void search_ByNameExtensionAndContentType() {
+        // when & then
+        assertThat(search(FileSpecifications.nameStartsWith("sec"), 10))
+                .extracting(FileEntity::getOriginalFilename).containsExactly("second.pdf");
+        assertThat(search(FileSpecifications.nameContains("ir"), 10))
+                .extracting(FileEntity::getOriginalFilename).containsExactly("third.jpg", "first.txt");
+        assertThat(search(FileSpecifications.extensionEquals("jpg"), 10))
+                .extracting(FileEntity::getOriginalFilename).containsExactly("third.jpg");
+        assertThat(search(FileSpecifications.contentTypeMatches("image/"), 10))
+                .extracting(FileEntity::getOriginalFilename).containsExactly("third.jpg");
+        assertThat(search(FileSpecifications.createdFrom(LocalDateTime.now().plusMinutes(1)), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - LIKE 와일드카드 문자는 그대로 검색")
+    void search_EscapesLikeWildcards() {
+        // given
+        entityManager.persistAndFlush(FileEntity.builder()
+                .originalFilename("100%_done.txt")
+                .storedFilename("uuid6_done.txt")
+                .fileSize(10L)
+                .contentType("text/plain")
+                .filePath("/test/path/uuid6_done.txt")
+                .build());
+
+        // when & then
+        assertThat(search(FileSpecifications.nameContains("%_"), 10))
+                .extracting(FileEntity::getOriginalFilename).containsExactly("100%_done.txt");
+        assertThat(search(FileSpecifications.nameStartsWith("_"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - 삭제 요청된 파일 제외")
+    void search_ExcludesTombstones() {
+        // given
+        fileRepository.markDeletedByIds(List.of(thirdFile.getId()), LocalDateTime.now());
+        entityManager.clear();
+
+        // when & then
+        assertThat(search(FileSpecifications.notDeleted().and(FileSpecifications.extensionEquals("jpg")), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("통계 - 확장자/Content-Type 별 집계")
+    void summarizeByIds_GroupsByExtensionAndContentType() {
+        // when
+        List<FileStatsDelta> deltas = fileRepository.summarizeByIds(List.of(firstFile.getId(), thirdFile.getId()));
+
+        // then
+        assertThat(deltas).extracting(FileStatsDelta::extension).containsExactlyInAnyOrder("txt", "jpg");
+        assertThat(deltas).extracting(FileStatsDelta::totalBytes).containsExactlyInAnyOrder(1024L, 4096L);
+        assertThat(fileRepository.summarizeAll()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("목록 스트리밍 - 삭제 요청된 파일 제외, 최신순 DTO projection")
+    void streamAllActive_ReturnsActiveFilesNewestFirst() {
+        // given
+        fileRepository.markDeletedByIds(List.of(secondFile.getId()), LocalDateTime.now());
+        entityManager.clear();
+
+        // when
+        List<FileResponse> result;
+        try (Stream<FileResponse> stream = fileRepository.streamAllActive()) {
+            result = stream.toList();
+        }
+
+        // then
+        assertThat(result).extracting(FileResponse::getOriginalFilename).containsExactly("third.jpg", "first.txt");
+        assertThat(result.get(0).getFileSize()).isEqualTo(4096L);
+    }
+
+    @Test
+    @DisplayName("다운로드 횟수 - 증가량만큼 더하고 마지막 접근 시각 갱신")
+    void addDownloads_IncrementsCountAndAccessTime() {
+        // given
+        LocalDateTime accessedAt = LocalDateTime.now().withNano(0);
+
+        // when
+        fileRepository.addDownloads(List.of(firstFile.getId(), secondFile.getId()), 2L, accessedAt);
+        fileRepository.addDownloads(List.of(firstFile.getId()), 3L, accessedAt);
+        entityManager.clear();
+
+        // then
+        FileEntity first = fileRepository.findById(firstFile.getId()).orElseThrow();
+        assertThat(first.getDownloadCount()).isEqualTo(5L);
+        assertThat(first.getLastAccessedAt()).isEqualTo(accessedAt);
+        assertThat(fileRepository.findById(secondFile.getId()).orElseThrow().getDownloadCount()).isEqualTo(2L);
+        assertThat(fileRepository.findById(thirdFile.getId()).orElseThrow().getDownloadCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("무결성 - checksum 채우기, 손상 표시/해제, 손상 목록 조회")
+    void checksumAndCorruption() {
+        // when
+        int filled = fileRepository.fillChecksum(firstFile.getId(), "a".repeat(64));
+        int refilled = fileRepository.fillChecksum(firstFile.getId(), "b".repeat(64));
+        fileRepository.markCorrupted(List.of(secondFile.getId(), thirdFile.getId()), LocalDateTime.now());
+        fileRepository.clearCorrupted(List.of(thirdFile.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(filled).isEqualTo(1);
+        assertThat(refilled).isZero();
+        assertThat(fileRepository.findChecksumRefsAfter(0L, PageRequest.of(0, 10)))
+                .extracting(ChecksumRef::checksum)
+                .containsExactly("a".repeat(64), null, null);
+        assertThat(fileRepository.findCorrupted(PageRequest.of(0, 10)))
+                .extracting(FileResponse::getId)
+                .containsExactly(secondFile.getId());
+    }
+
+    @Test
+    @DisplayName("저장 티어 - 콜드 후보 조회, 티어 이동 반영, 티어별 사용량")
+    void storageTiering() {
+        // given - secondFile 은 최근에 다운로드됨
+        LocalDateTime now = LocalDateTime.now();
+        fileRepository.addDownloads(List.of(secondFile.getId()), 1L, now);
+
+        // when
+        List<TierCandidate> candidates = fileRepository.findArchiveCandidatesAfter(
+                0L, now.plusMinutes(1), now.minusMinutes(1), PageRequest.of(0, 10));
+        int moved = fileRepository.moveToTier(firstFile.getId(), firstFile.getFilePath(), "/archive/uuid1_first.txt",
+                FileEntity.TIER_ARCHIVE, 300L, "gzip", "c".repeat(64), now);
+        int stale = fileRepository.moveToTier(thirdFile.getId(), "/old/path", "/archive/uuid3_third.jpg",
+                FileEntity.TIER_ARCHIVE, 4096L, null, "d".repeat(64), now);
+        entityManager.clear();
+
+        // then
+        assertThat(candidates).extracting(TierCandidate::id)
+                .containsExactly(firstFile.getId(), thirdFile.getId());
+        assertThat(moved).isEqualTo(1);
+        assertThat(stale).isZero();
+
+        FileEntity archived = fileRepository.findById(firstFile.getId()).orElseThrow();
+        assertThat(archived.isArchived()).isTrue();
+        assertThat(archived.getFilePath()).isEqualTo("/archive/uuid1_first.txt");
+        assertThat(archived.getContentEncoding()).isEqualTo("gzip");
+
+        assertThat(fileRepository.findArchiveCandidatesAfter(0L, now.plusMinutes(1), now.minusMinutes(1),
+                PageRequest.of(0, 10))).extracting(TierCandidate::id).containsExactly(thirdFile.getId());
+        assertThat(fileRepository.summarizeTiers())
+                .extracting(TierUsage::tier, TierUsage::files, TierUsage::storedBytes)
+                .containsExactlyInAnyOrder(
+                        tuple(TierUsage.HOT, 2L, 2048L + 4096L),
+                        tuple(FileEntity.TIER_ARCHIVE, 1L, 300L));
+    }
+
+    private List<FileEntity> search(Specification<FileEntity> spec, int limit) {
+        return fileRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                .limit(limit)
+                .all());
+    }
+}
@@ -0,0 +1,86 @@
+package flow.domain.file.repository;
+
+import flow.domain.file.entity.FileStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("FileStatsRepository 테스트")
+class FileStatsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FileStatsRepository fileStatsRepository;
+
+    @Test
+    @DisplayName("요약 행에 증감 누적")
+    void add_AccumulatesDeltas() {
+        // given
+        FileStats stats = entityManager.persistAndFlush(FileStats.builder()
+                .extension("txt")
+                .contentType("text/plain")
+                .build());
+
+        // when
+        int updated = fileStatsRepository.add("txt", "text/plain", 1, 100, 40);
+        fileStatsRepository.add("txt", "text/plain", 1, 50, 50);
+        fileStatsRepository.add("txt", "text/plain", -1, -100, -40);
+        int missing = fileStatsRepository.add("pdf", "application/pdf", 1, 10, 10);
+        entityManager.clear();
+
+        // then
+        FileStats result = fileStatsRepository.findById(stats.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(result.getFileCount()).isEqualTo(1);
+        assertThat(result.getTotalBytes()).isEqualTo(50);
+        assertThat(result.getStoredBytes()).isEqualTo(50);
+        assertThat(fileStatsRepository.existsByExtensionAndContentType("txt", "text/plain")).isTrue();
+    }
+
+    @Test
+    @DisplayName("집계되지 않았던 행을 차감해도 0 아래로 내려가지 않음")
+    void add_NegativeDelta_StopsAtZero() {
+        // given
+        FileStats stats = entityManager.persistAndFlush(FileStats.builder()
+                .extension("txt")
+                .contentType("text/plain")
+                .fileCount(1)
+                .totalBytes(100)
+                .storedBytes(40)
+                .build());
+
+        // when
+        fileStatsRepository.add("txt", "text/plain", -3, -500, -200);
+        entityManager.clear();
+
+        // then
+        FileStats result = fileStatsRepository.findById(stats.getId()).orElseThrow();
+        assertThat(result.getFileCount()).isZero();
+        assertThat(result.getTotalBytes()).isZero();
+        assertThat(result.getStoredBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("요약 행은 없을 때만 생성하고 이미 있으면 충돌 없이 무시")
+    void insertIfAbsent_IgnoresExisting() {
+        // when
+        fileStatsRepository.insertIfAbsent("txt", "text/plain");
+        fileStatsRepository.add("txt", "text/plain", 1, 100, 40);
+        fileStatsRepository.insertIfAbsent("txt", "text/plain");
+        entityManager.clear();
+
+        // then
+        assertThat(fileStatsRepository.findAll()).singleElement()
+                .satisfies(row -> assertThat(row.getFileCount()).isEqualTo(1));
+    }
+}
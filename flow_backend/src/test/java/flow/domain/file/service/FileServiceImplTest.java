@@ -2,25 +2,52 @@ package flow.domain.file.service;
 
 import flow.common.exception.BusinessException;
 import flow.domain.extension.service.ExtensionService;
+import flow.domain.file.admission.DiskSpaceGuard;
+import flow.domain.file.cache.FileDeletedEvent;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.dto.FileDownload;
+import flow.domain.file.dto.FileResponse;
+import flow.domain.file.dto.FileSearchPageResponse;
+import flow.domain.file.dto.FileSearchRequest;
 import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.IntegrityVerifier;
+import flow.domain.file.preview.FileUploadedEvent;
 import flow.domain.file.repository.FileRepository;
+import flow.domain.file.storage.ArchivedFileDownloadedEvent;
+import flow.domain.file.storage.DownloadCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +63,28 @@ class FileServiceImplTest {
     @Mock
     private ExtensionService extensionService;
 
+    @Mock
+    private DiskSpaceGuard diskSpaceGuard;
+
+    @Mock
+    private FileStatsService fileStatsService;
+
+    @Mock
+    private DownloadCounter downloadCounter;
+
+    @Mock
+    private HotFileCache hotFileCache;
+
+    @Spy
+    private FileMetadataCache fileMetadataCache =
+            new FileMetadataCache(true, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+    @Mock
+    private IntegrityVerifier integrityVerifier;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private MultipartFile multipartFile;
 
@@ -83,7 +132,9 @@ class FileServiceImplTest {
 
             // then
             assertThat(result).isNotNull();
-            verify(fileRepository).save(any(FileEntity.class));
+            verify(fileRepository).save(argThat(saved -> saved.getChecksum() != null && saved.getChecksum().length() == 64));
+            verify(fileStatsService).recordUpload(sampleFileEntity);
+            verify(eventPublisher).publishEvent(any(FileUploadedEvent.class));
         }
 
         @Test
@@ -156,6 +207,54 @@ class FileServiceImplTest {
                     .hasMessageContaining("차단된 확장자입니다: exe");
         }
 
+        @Test
+        @DisplayName("저장 공간 부족 - 파일을 쓰지 않고 실패")
+        void uploadFile_InsufficientStorage_ThrowsException() throws IOException {
+            // given
+            given(multipartFile.isEmpty()).willReturn(false);
+            given(multipartFile.getSize()).willReturn(1024L);
+            given(multipartFile.getOriginalFilename()).willReturn("test.txt");
+            given(extensionService.isExtensionBlocked("txt")).willReturn(false);
+            willThrow(BusinessException.insufficientStorage("저장 공간이 부족하여 업로드할 수 없습니다."))
+                    .given(diskSpaceGuard).reserve(1024L);
+
+            // when & then
+            assertThatThrownBy(() -> fileService.uploadFile(multipartFile))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("저장 공간이 부족");
+            verify(multipartFile, never()).getInputStream();
+            verify(fileRepository, never()).save(any(FileEntity.class));
+        }
+
+        @Test
+        @DisplayName("저장 중 IOException - 임시 파일 정리 및 예약 해제")
+        void uploadFile_IOException_CleansUpPartFile(@TempDir Path tempDir) throws IOException {
+            // given
+            ReflectionTestUtils.setField(fileService, "uploadPath", tempDir.toString());
+            InputStream failing = new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("connection reset");
+                }
+            };
+
+            given(multipartFile.isEmpty()).willReturn(false);
+            given(multipartFile.getSize()).willReturn(1024L);
+            given(multipartFile.getOriginalFilename()).willReturn("test.txt");
+            given(multipartFile.getContentType()).willReturn("text/plain");
+            given(multipartFile.getInputStream()).willReturn(failing);
+            given(extensionService.isExtensionBlocked("txt")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> fileService.uploadFile(multipartFile))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("파일 저장에 실패했습니다");
+            try (var files = Files.list(tempDir)) {
+                assertThat(files).isEmpty();
+            }
+            verify(diskSpaceGuard).release(1024L);
+        }
+
         @Test
         @DisplayName("IOException 발생 - 실패")
         void uploadFile_IOException_ThrowsException() throws IOException {
@@ -194,6 +293,27 @@ class FileServiceImplTest {
             verify(fileRepository).findAllOrderByCreatedAtDesc();
         }
 
+        @Test
+        @DisplayName("목록 스트리밍 - 한 건씩 전달하고 개수 반환, 스트림 닫힘")
+        void streamAllFiles_PassesEachRowAndClosesStream() {
+            // given
+            AtomicBoolean closed = new AtomicBoolean(false);
+            Stream<FileResponse> rows = Stream.of(
+                    FileResponse.builder().id(2L).originalFilename("b.txt").build(),
+                    FileResponse.builder().id(1L).originalFilename("a.txt").build())
+                    .onClose(() -> closed.set(true));
+            given(fileRepository.streamAllActive()).willReturn(rows);
+            List<Long> received = new ArrayList<>();
+
+            // when
+            long count = fileService.streamAllFiles(file -> received.add(file.getId()));
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(received).containsExactly(2L, 1L);
+            assertThat(closed).isTrue();
+        }
+
         @Test
         @DisplayName("ID로 파일 조회 - 성공")
         void getFileById_ValidId_ReturnsFile() {
@@ -209,6 +329,21 @@ class FileServiceImplTest {
             assertThat(result.getOriginalFilename()).isEqualTo("test.txt");
         }
 
+        @Test
+        @DisplayName("같은 ID 반복 조회 - 두 번째부터 캐시에서 반환")
+        void getFileById_Repeated_UsesCache() {
+            // given
+            given(fileRepository.findById(1L)).willReturn(Optional.of(sampleFileEntity));
+
+            // when
+            fileService.getFileById(1L);
+            FileEntity result = fileService.getFileById(1L);
+
+            // then
+            assertThat(result).isSameAs(sampleFileEntity);
+            then(fileRepository).should(times(1)).findById(1L);
+        }
+
         @Test
         @DisplayName("존재하지 않는 ID로 파일 조회 - 실패")
         void getFileById_InvalidId_ThrowsException() {
@@ -223,6 +358,101 @@ class FileServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("파일 검색 테스트")
+    class SearchFilesTest {
+
+        @Test
+        @DisplayName("한 건 더 조회하여 다음 페이지 커서 계산")
+        void searchFiles_HasNext_ReturnsCursor() {
+            // given
+            FileSearchRequest request = new FileSearchRequest();
+            request.setQ("Test");
+            request.setSize(2);
+            List<FileEntity> rows = List.of(fileWithId(30L), fileWithId(20L), fileWithId(10L));
+            given(fileRepository.findBy(any(Specification.class), any())).willReturn(rows);
+
+            // when
+            FileSearchPageResponse result = fileService.searchFiles(request);
+
+            // then
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(20L);
+        }
+
+        @Test
+        @DisplayName("접두사 검색은 파일명 순 커서를 함께 반환하고, 다음 페이지는 파일명 커서 없이 조회 불가")
+        void searchFiles_Prefix_ReturnsNameCursor() {
+            // given
+            FileSearchRequest request = new FileSearchRequest();
+            request.setQ("test");
+            request.setSize(1);
+            FileEntity first = FileEntity.builder().id(30L).originalFilename("test-a.txt").searchName("test-a.txt").build();
+            FileEntity second = FileEntity.builder().id(10L).originalFilename("test-b.txt").searchName("test-b.txt").build();
+            given(fileRepository.findBy(any(Specification.class), any())).willReturn(List.of(first, second));
+
+            FileSearchRequest nextWithoutName = new FileSearchRequest();
+            nextWithoutName.setQ("test");
+            nextWithoutName.setCursor(30L);
+
+            // when
+            FileSearchPageResponse result = fileService.searchFiles(request);
+
+            // then
+            assertThat(result.getNextCursor()).isEqualTo(30L);
+            assertThat(result.getNextCursorName()).isEqualTo("test-a.txt");
+            assertThatThrownBy(() -> fileService.searchFiles(nextWithoutName))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("cursorName");
+        }
+
+        @Test
+        @DisplayName("잘못된 조건은 조회 없이 실패")
+        void searchFiles_InvalidConditions_ThrowsException() {
+            FileSearchRequest badSize = new FileSearchRequest();
+            badSize.setSize(0);
+
+            FileSearchRequest badRange = new FileSearchRequest();
+            badRange.setMinSize(100L);
+            badRange.setMaxSize(10L);
+
+            FileSearchRequest shortContains = new FileSearchRequest();
+            shortContains.setQ("a");
+            shortContains.setMatch(FileSearchRequest.MATCH_CONTAINS);
+
+            FileSearchRequest badMatch = new FileSearchRequest();
+            badMatch.setQ("abc");
+            badMatch.setMatch("regex");
+
+            // when & then
+            assertThatThrownBy(() -> fileService.searchFiles(badSize))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("페이지 크기");
+            assertThatThrownBy(() -> fileService.searchFiles(badRange))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("파일 크기 범위");
+            assertThatThrownBy(() -> fileService.searchFiles(shortContains))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("부분 일치");
+            assertThatThrownBy(() -> fileService.searchFiles(badMatch))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("검색 방식");
+            verify(fileRepository, never()).findBy(any(Specification.class), any());
+        }
+
+        private FileEntity fileWithId(Long id) {
+            return FileEntity.builder()
+                    .id(id)
+                    .originalFilename("test" + id + ".txt")
+                    .storedFilename("uuid_test" + id + ".txt")
+                    .fileSize(1024L)
+                    .contentType("text/plain")
+                    .filePath("/test/upload/uuid_test" + id + ".txt")
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("파일 다운로드 테스트")
     class DownloadFileTest {
@@ -243,6 +473,263 @@ class FileServiceImplTest {
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("파일을 찾을 수 없거나 읽을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("손상 표시된 파일 - 캐시/디스크를 읽기 전에 거부")
+        void openDownload_Corrupted_ThrowsBeforeServing() {
+            // given
+            FileEntity fileEntity = FileEntity.builder()
+                    .id(1L)
+                    .filePath("/nonexistent/path/file.txt")
+                    .contentEncoding("gzip")
+                    .build();
+            given(fileRepository.findById(1L)).willReturn(Optional.of(fileEntity));
+            willThrow(BusinessException.internalServerError("파일이 손상되어 다운로드할 수 없습니다."))
+                    .given(integrityVerifier).checkNotCorrupted(fileEntity);
+
+            // when & then
+            assertThatThrownBy(() -> fileService.openDownload(1L, false))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("손상");
+            then(hotFileCache).should(never()).get(any());
+            then(downloadCounter).should(never()).record(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 저장 파일 다운로드 테스트")
+    class CompressedDownloadTest {
+
+        @TempDir
+        Path dir;
+
+        private FileEntity gzipFile(byte[] content) throws IOException {
+            Path path = dir.resolve("uuid_log.txt");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+                out.write(content);
+            }
+            return FileEntity.builder()
+                    .originalFilename("log.txt")
+                    .fileSize((long) content.length)
+                    .storedSize(Files.size(path))
+                    .contentEncoding("gzip")
+                    .filePath(path.toString())
+                    .build();
+        }
+
+        @Test
+        @DisplayName("gzip 허용 클라이언트 - 저장된 gzip 그대로 전송")
+        void openDownload_AcceptGzip_SendsStoredBytes() throws IOException {
+            // given
+            FileEntity fileEntity = gzipFile("hello hello hello".getBytes());
+            given(fileRepository.findById(1L)).willReturn(Optional.of(fileEntity));
+
+            // when
+            FileDownload download = fileService.openDownload(1L, true);
+
+            // then
+            assertThat(download.contentEncoding()).isEqualTo("gzip");
+            assertThat(download.contentLength()).isEqualTo(fileEntity.getStoredSize());
+        }
+
+        @Test
+        @DisplayName("gzip 미지원 클라이언트 - 압축을 풀면서 전송")
+        void openDownload_NoGzip_Decompresses() throws IOException {
+            // given
+            byte[] content = "hello hello hello".getBytes();
+            given(fileRepository.findById(1L)).willReturn(Optional.of(gzipFile(content)));
+
+            // when
+            FileDownload download = fileService.openDownload(1L, false);
+
+            // then
+            assertThat(download.contentEncoding()).isNull();
+            assertThat(download.contentLength()).isEqualTo(content.length);
+            try (InputStream in = download.resource().getInputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+        }
+
+        @Test
+        @DisplayName("gzip 으로 표시됐지만 헤더가 잘못된 저장 파일 - 서버 오류")
+        void openDownload_BrokenGzipHeader_Fails() throws IOException {
+            // given
+            Path path = Files.writeString(dir.resolve("uuid_plain.txt"), "not gzip");
+            FileEntity fileEntity = FileEntity.builder()
+                    .originalFilename("plain.txt")
+                    .fileSize(8L)
+                    .contentEncoding("gzip")
+                    .filePath(path.toString())
+                    .build();
+            given(fileRepository.findById(1L)).willReturn(Optional.of(fileEntity));
+
+            // when & then
+            assertThatThrownBy(() -> fileService.openDownload(1L, false))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("파일 다운로드에 실패했습니다");
+        }
+
+        @Test
+        @DisplayName("아카이브 티어로 옮겨진 직후 - 캐시된 이전 경로 대신 다시 조회한 경로에서 전송")
+        void openDownload_MovedAfterCached_ReloadsMetadata() throws IOException {
+            // given - 첫 조회는 기본 티어 경로, 이동 후 조회는 아카이브 경로 (gzip)
+            byte[] content = "hello hello hello".getBytes();
+            FileEntity before = FileEntity.builder()
+                    .originalFilename("log.txt")
+                    .fileSize((long) content.length)
+                    .filePath(dir.resolve("moved_log.txt").toString())
+                    .build();
+            given(fileRepository.findById(1L))
+                    .willReturn(Optional.of(before))
+                    .willReturn(Optional.of(gzipFile(content)));
+            fileService.getFileById(1L);
+
+            // when
+            FileDownload download = fileService.openDownload(1L, false);
+
+            // then
+            try (InputStream in = download.resource().getInputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+            then(fileRepository).should(times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("아카이브된 파일 - 아카이브 경로에서 전송하고 기본 티어 복원 요청 발행")
+        void openDownload_Archived_PublishesRehydrateRequest() throws IOException {
+            // given
+            byte[] content = "hello hello hello".getBytes();
+            Path path = dir.resolve("archived_log.txt");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+                out.write(content);
+            }
+            FileEntity fileEntity = FileEntity.builder()
+                    .originalFilename("log.txt")
+                    .fileSize((long) content.length)
+                    .contentEncoding("gzip")
+                    .storageTier(FileEntity.TIER_ARCHIVE)
+                    .filePath(path.toString())
+                    .build();
+            given(fileRepository.findById(1L)).willReturn(Optional.of(fileEntity));
+
+            // when
+            FileDownload download = fileService.openDownload(1L, false);
+
+            // then
+            try (InputStream in = download.resource().getInputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+            then(eventPublisher).should().publishEvent(new ArchivedFileDownloadedEvent(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("X-Accel-Redirect 전송 전 검사 테스트")
+    class RedirectCheckTest {
+
+        @TempDir
+        Path dir;
+
+        @Test
+        @DisplayName("손상 표시된 파일은 nginx 로 넘기지 않고 거부")
+        void verifyBeforeRedirect_Corrupted_Throws() throws IOException {
+            // given
+            Path path = Files.writeString(dir.resolve("uuid_a.txt"), "a");
+            FileEntity fileEntity = FileEntity.builder().id(1L).filePath(path.toString()).build();
+            willThrow(BusinessException.internalServerError("파일이 손상되어 다운로드할 수 없습니다."))
+                    .given(integrityVerifier).checkNotCorrupted(fileEntity);
+
+            // when & then
+            assertThatThrownBy(() -> fileService.verifyBeforeRedirect(fileEntity))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("손상");
+            then(integrityVerifier).should(never()).verify(any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("정상 파일은 JVM 전송과 같은 기준으로 checksum 검증")
+        void verifyBeforeRedirect_RunsDownloadVerification() throws IOException {
+            // given
+            Path path = Files.writeString(dir.resolve("uuid_b.txt"), "bb");
+            FileEntity fileEntity = FileEntity.builder().id(2L).filePath(path.toString()).build();
+
+            // when
+            FileEntity verified = fileService.verifyBeforeRedirect(fileEntity);
+
+            // then
+            assertThat(verified).isSameAs(fileEntity);
+            then(integrityVerifier).should().verify(fileEntity, path, 2L);
+        }
+
+        @Test
+        @DisplayName("디스크에 없는 파일은 nginx 404 대신 조회 실패로 응답")
+        void verifyBeforeRedirect_Missing_Throws() {
+            // given
+            FileEntity fileEntity = FileEntity.builder().id(3L).filePath(dir.resolve("gone.txt").toString()).build();
+            given(fileRepository.findById(3L)).willReturn(Optional.of(fileEntity));
+
+            // when & then
+            assertThatThrownBy(() -> fileService.verifyBeforeRedirect(fileEntity))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("찾을 수 없거나");
+        }
+    }
+
+    @Nested
+    @DisplayName("핫 파일 캐시 다운로드 테스트")
+    class HotFileCacheDownloadTest {
+
+        @TempDir
+        Path dir;
+
+        @Test
+        @DisplayName("캐시 적중 - 디스크를 읽지 않고 메모리에서 전송")
+        void openDownload_CacheHit_ServesFromMemory() throws IOException {
+            // given - 디스크에는 파일이 없음
+            byte[] content = "cached".getBytes();
+            FileEntity fileEntity = FileEntity.builder()
+                    .originalFilename("hot.txt")
+                    .fileSize((long) content.length)
+                    .filePath(dir.resolve("missing.txt").toString())
+                    .build();
+            given(fileRepository.findById(1L)).willReturn(Optional.of(fileEntity));
+            given(hotFileCache.get(fileEntity)).willReturn(content);
+
+            // when
+            FileDownload download = fileService.openDownload(1L, true);
+
+            // then
+            assertThat(download.contentLength()).isEqualTo(content.length);
+            try (InputStream in = download.resource().getInputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+            then(downloadCounter).should().record(1L);
+            then(hotFileCache).should(never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("자주 받는 작은 파일 - 디스크에서 읽어 캐시에 적재")
+        void openDownload_HotFile_AdmitsToCache() throws IOException {
+            // given
+            Path path = Files.writeString(dir.resolve("uuid_hot.txt"), "hot file");
+            FileEntity fileEntity = FileEntity.builder()
+                    .originalFilename("hot.txt")
+                    .fileSize(Files.size(path))
+                    .filePath(path.toString())
+                    .build();
+            given(fileRepository.findById(1L)).willReturn(Optional.of(fileEntity));
+            given(downloadCounter.recentCount(1L)).willReturn(5L);
+            given(hotFileCache.shouldAdmit(5L, Files.size(path))).willReturn(true);
+
+            // when
+            FileDownload download = fileService.openDownload(1L, true);
+
+            // then
+            then(hotFileCache).should().put(fileEntity, "hot file".getBytes());
+            try (InputStream in = download.resource().getInputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo("hot file".getBytes());
+            }
+        }
     }
 
     @Nested
@@ -261,6 +748,60 @@ class FileServiceImplTest {
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("파일을 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("파일 삭제 - tombstone 만 기록하고 실제 파일/행은 유지")
+        void deleteFile_MarksTombstone() {
+            // given
+            Long fileId = 1L;
+            given(fileRepository.findById(fileId)).willReturn(Optional.of(sampleFileEntity));
+
+            // when
+            fileService.deleteFile(fileId);
+
+            // then
+            assertThat(sampleFileEntity.isDeleted()).isTrue();
+            then(fileRepository).should(never()).delete(any(FileEntity.class));
+            then(eventPublisher).should().publishEvent(any(FileDeletedEvent.class));
+        }
+
+        @Test
+        @DisplayName("삭제 요청된 파일 조회 - 실패")
+        void getFileById_DeletedFile_ThrowsException() {
+            // given
+            Long fileId = 1L;
+            sampleFileEntity.markDeleted();
+            given(fileRepository.findById(fileId)).willReturn(Optional.of(sampleFileEntity));
+
+            // when & then
+            assertThatThrownBy(() -> fileService.getFileById(fileId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("파일을 찾을 수 없습니다");
+        }
+
+        @Test
+        @DisplayName("일괄 삭제 - ID 목록과 기준 일시 모두 적용")
+        void deleteFiles_IdsAndCreatedBefore() {
+            // given
+            LocalDateTime createdBefore = LocalDateTime.now().minusDays(30);
+            given(fileRepository.markDeletedByIds(eq(List.of(1L, 2L)), any(LocalDateTime.class))).willReturn(2);
+            given(fileRepository.markDeletedCreatedBefore(eq(createdBefore), any(LocalDateTime.class))).willReturn(5);
+
+            // when
+            int result = fileService.deleteFiles(List.of(1L, 2L, 2L), createdBefore);
+
+            // then
+            assertThat(result).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("일괄 삭제 - 조건 없음 실패")
+        void deleteFiles_NoCondition_ThrowsException() {
+            // when & then
+            assertThatThrownBy(() -> fileService.deleteFiles(List.of(), null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("삭제할 파일 ID 목록 또는 기준 일시");
+        }
     }
 
     @Nested
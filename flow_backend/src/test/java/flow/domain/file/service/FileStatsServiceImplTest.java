@@ -0,0 +1,218 @@
+package flow.domain.file.service;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.dto.FileStatsDelta;
+import flow.domain.file.dto.FileStatsResponse;
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.entity.FileStats;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.repository.FileStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileStatsService 단위 테스트")
+class FileStatsServiceImplTest {
+
+    @Mock
+    private FileStatsRepository fileStatsRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private FileStatsServiceImpl fileStatsService;
+
+    @BeforeEach
+    void setUp() {
+        fileStatsService = new FileStatsServiceImpl(fileStatsRepository, fileRepository);
+    }
+
+    @Test
+    @DisplayName("요약 행이 없을 때만 같은 트랜잭션에서 생성하고 이후에는 증가만 수행")
+    void recordUpload_CreatesBucketOnceThenAdds() {
+        // given
+        FileEntity file = FileEntity.builder()
+                .originalFilename("a.txt")
+                .fileSize(1000L)
+                .storedSize(400L)
+                .contentType("text/plain")
+                .extension("txt")
+                .build();
+        given(fileStatsRepository.add("txt", "text/plain", 1L, 1000L, 400L)).willReturn(0, 1);
+
+        // when
+        fileStatsService.recordUpload(file);
+        fileStatsService.recordUpload(file);
+
+        // then
+        then(fileStatsRepository).should(times(1)).insertIfAbsent("txt", "text/plain");
+        then(fileStatsRepository).should(times(3)).add("txt", "text/plain", 1L, 1000L, 400L);
+    }
+
+    @Test
+    @DisplayName("행 삭제 전에 집계한 값을 차감")
+    void purgeRows_SubtractsSummarizedValues() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L);
+        given(fileRepository.summarizeByIds(ids)).willReturn(List.of(
+                new FileStatsDelta("pdf", "application/pdf", 2L, 3000L, 3000L),
+                new FileStatsDelta("txt", null, 1L, 100L, 40L)));
+        given(fileStatsRepository.add(anyString(), anyString(), anyLong(), anyLong(), anyLong())).willReturn(1);
+
+        // when
+        fileStatsService.purgeRows(ids);
+
+        // then
+        then(fileRepository).should().deleteAllByIdInBatch(ids);
+        then(fileStatsRepository).should().add("pdf", "application/pdf", -2L, -3000L, -3000L);
+        then(fileStatsRepository).should().add("txt", "", -1L, -100L, -40L);
+        then(fileStatsRepository).should(never()).insertIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("저장 크기만 바뀐 경우 저장 크기만 증감, 변화가 없으면 무시")
+    void recordStoredSizeChange_AdjustsStoredBytesOnly() {
+        // given
+        given(fileStatsRepository.add("csv", "text/csv", 0L, 0L, -600L)).willReturn(1);
+
+        // when
+        fileStatsService.recordStoredSizeChange("csv", "text/csv", -600L);
+        fileStatsService.recordStoredSizeChange("csv", "text/csv", 0L);
+
+        // then
+        then(fileStatsRepository).should(times(1)).add("csv", "text/csv", 0L, 0L, -600L);
+    }
+
+    @Test
+    @DisplayName("확장자 / Content-Type 별 합계를 크기 내림차순으로 반환")
+    void getStats_GroupsByExtensionAndContentType() {
+        // given
+        given(fileStatsRepository.findAll()).willReturn(List.of(
+                stats("jpg", "image/jpeg", 2, 5000),
+                stats("jpeg", "image/jpeg", 1, 1000),
+                stats("txt", "text/plain", 3, 300),
+                stats("exe", "application/octet-stream", 0, 0)));
+
+        // when
+        FileStatsResponse result = fileStatsService.getStats();
+
+        // then
+        assertThat(result.getTotalFiles()).isEqualTo(6);
+        assertThat(result.getTotalBytes()).isEqualTo(6300);
+        assertThat(result.getByExtension()).extracting(FileStatsResponse.Group::getKey)
+                .containsExactly("jpg", "jpeg", "txt");
+        assertThat(result.getByContentType()).extracting(FileStatsResponse.Group::getKey)
+                .containsExactly("image/jpeg", "text/plain");
+        assertThat(result.getByContentType().get(0).getFileCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검색 컬럼 backfill 전에는 재계산 불가")
+    void rebuild_BeforeBackfill_ThrowsConflict() {
+        // given
+        given(fileRepository.existsBySearchNameIsNull()).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> fileStatsService.rebuild())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("backfill");
+        then(fileStatsRepository).should(never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("재계산은 요약 테이블을 잠근 뒤 기존 행을 덮어쓰고 없는 행만 추가 (행 삭제 없음)")
+    void rebuild_LocksAndOverwritesInPlace() {
+        // given
+        FileStats txt = stats("txt", "text/plain", 10, 1000);
+        FileStats stale = stats("exe", "application/octet-stream", 2, 200);
+        given(fileStatsRepository.findAllForUpdate()).willReturn(List.of(txt, stale));
+        given(fileRepository.existsBySearchNameIsNull()).willReturn(false);
+        given(fileRepository.summarizeAll()).willReturn(List.of(
+                new FileStatsDelta("txt", "text/plain", 3L, 300L, 120L),
+                new FileStatsDelta("pdf", null, 1L, 50L, 50L),
+                new FileStatsDelta("pdf", "", 1L, 70L, 70L)));
+
+        // when
+        fileStatsService.rebuild();
+
+        // then
+        assertThat(txt.getFileCount()).isEqualTo(3);
+        assertThat(txt.getStoredBytes()).isEqualTo(120);
+        assertThat(stale.getFileCount()).isZero();
+        ArgumentCaptor<List<FileStats>> created = ArgumentCaptor.captor();
+        then(fileStatsRepository).should().saveAll(created.capture());
+        assertThat(created.getValue()).hasSize(2);
+        assertThat(created.getValue().get(0)).satisfies(row -> {
+            assertThat(row.getExtension()).isEqualTo("pdf");
+            assertThat(row.getContentType()).isEmpty();
+            assertThat(row.getFileCount()).isEqualTo(2);
+            assertThat(row.getTotalBytes()).isEqualTo(120);
+        });
+        // 재계산했다는 표시 행도 함께 생성 (파일 수 0)
+        assertThat(created.getValue().get(1)).satisfies(row -> {
+            assertThat(row.getContentType()).isEqualTo(FileStatsServiceImpl.SEED_MARKER_CONTENT_TYPE);
+            assertThat(row.getFileCount()).isZero();
+        });
+        then(fileStatsRepository).should(never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("재계산 표시 행이 없을 때만 files 테이블에서 한 번 채움")
+    void seedIfMissing_RebuildsOnlyWithoutMarker() {
+        // given - 표시 행 생성 전 업로드로 일부 요약 행만 있는 상태
+        FileStats partial = stats("txt", "text/plain", 1, 100);
+        given(fileStatsRepository.existsByExtensionAndContentType("", FileStatsServiceImpl.SEED_MARKER_CONTENT_TYPE))
+                .willReturn(false, true);
+        given(fileStatsRepository.findAllForUpdate()).willReturn(List.of(partial));
+        given(fileRepository.existsBySearchNameIsNull()).willReturn(false);
+        given(fileRepository.summarizeAll()).willReturn(List.of(
+                new FileStatsDelta("txt", "text/plain", 5L, 500L, 500L)));
+
+        // when
+        boolean seeded = fileStatsService.seedIfMissing();
+        boolean seededAgain = fileStatsService.seedIfMissing();
+
+        // then
+        assertThat(seeded).isTrue();
+        assertThat(seededAgain).isFalse();
+        assertThat(partial.getFileCount()).isEqualTo(5);
+        then(fileRepository).should(times(1)).summarizeAll();
+    }
+
+    @Test
+    @DisplayName("통계가 files 행 수와 달라도 자동으로 재계산하지 않음")
+    void reportIfOutOfSync_DoesNotRebuild() {
+        // given
+        given(fileStatsRepository.findAll()).willReturn(List.of(stats("txt", "text/plain", 2, 200)));
+        given(fileRepository.count()).willReturn(5L);
+
+        // when
+        boolean inSync = fileStatsService.reportIfOutOfSync();
+
+        // then
+        assertThat(inSync).isFalse();
+        then(fileStatsRepository).should(never()).findAllForUpdate();
+        then(fileRepository).should(never()).summarizeAll();
+    }
+
+    private FileStats stats(String extension, String contentType, long count, long bytes) {
+        return FileStats.builder()
+                .extension(extension)
+                .contentType(contentType)
+                .fileCount(count)
+                .totalBytes(bytes)
+                .storedBytes(bytes)
+                .build();
+    }
+}
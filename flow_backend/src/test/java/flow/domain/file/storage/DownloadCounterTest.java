@@ -0,0 +1,103 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DownloadCounter 단위 테스트")
+class DownloadCounterTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DownloadCounter downloadCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        downloadCounter = new DownloadCounter(fileRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("쌓인 횟수를 같은 증가량끼리 묶어 한 번에 반영")
+    void flush_GroupsIdsByDelta() {
+        // given
+        downloadCounter.record(1L);
+        downloadCounter.record(2L);
+        downloadCounter.record(3L);
+        downloadCounter.record(3L);
+
+        // when
+        downloadCounter.flush();
+
+        // then
+        then(fileRepository).should().addDownloads(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2),
+                eq(1L), any());
+        then(fileRepository).should().addDownloads(eq(List.of(3L)), eq(2L), any());
+        assertThat(meterRegistry.counter("flow.download.counter.flushed").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("최근 다운로드 수는 flush 마다 절반으로 감소하고 0 이 되면 추적 중단")
+    void recentCount_DecaysAndDrops() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            downloadCounter.record(1L);
+        }
+        assertThat(downloadCounter.recentCount(1L)).isEqualTo(4);
+
+        // when & then
+        downloadCounter.flush();
+        assertThat(downloadCounter.recentCount(1L)).isEqualTo(4);
+        downloadCounter.flush();
+        assertThat(downloadCounter.recentCount(1L)).isEqualTo(2);
+        downloadCounter.flush();
+        downloadCounter.flush();
+        downloadCounter.flush();
+        assertThat(downloadCounter.recentCount(1L)).isZero();
+        assertThat(meterRegistry.get("flow.download.counter.tracked").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 아직 반영되지 않은 횟수를 반영")
+    void shutdown_FlushesPending() {
+        // given
+        downloadCounter.record(1L);
+        downloadCounter.record(1L);
+
+        // when
+        downloadCounter.shutdown();
+
+        // then
+        then(fileRepository).should().addDownloads(eq(List.of(1L)), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 횟수를 되돌려 다음 주기에 재시도")
+    void flush_Failure_RetriesNextCycle() {
+        // given
+        downloadCounter.record(1L);
+        willThrow(new RuntimeException("db down")).willReturn(1)
+                .given(fileRepository).addDownloads(anyList(), anyLong(), any());
+
+        // when
+        downloadCounter.flush();
+        downloadCounter.flush();
+
+        // then
+        then(fileRepository).should(times(2)).addDownloads(eq(List.of(1L)), eq(1L), any());
+    }
+}
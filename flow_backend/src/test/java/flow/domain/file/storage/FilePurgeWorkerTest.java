@@ -0,0 +1,145 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.preview.ThumbnailService;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.service.FileStatsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FilePurgeWorker 단위 테스트")
+class FilePurgeWorkerTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileStatsService fileStatsService;
+
+    @Mock
+    private HotFileCache hotFileCache;
+
+    @TempDir
+    Path uploadDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FilePurgeWorker purgeWorker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purgeWorker = new FilePurgeWorker(fileRepository, fileStatsService, hotFileCache, meterRegistry);
+        ReflectionTestUtils.setField(purgeWorker, "batchSize", 2);
+        ReflectionTestUtils.setField(purgeWorker, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(purgeWorker, "maxAttempts", 2);
+    }
+
+    @Test
+    @DisplayName("tombstone 파일과 행을 배치 단위로 삭제")
+    void purge_DeletesFilesAndRowsInBatches() throws IOException {
+        // given
+        Path first = Files.writeString(uploadDir.resolve("uuid1_a.txt"), "a");
+        Path firstThumbnail = ThumbnailService.thumbnailPath(first);
+        Files.createDirectories(firstThumbnail.getParent());
+        Files.writeString(firstThumbnail, "thumbnail");
+        Path second = Files.writeString(uploadDir.resolve("uuid2_b.txt"), "b");
+        String alreadyGone = uploadDir.resolve("uuid3_c.txt").toString();
+
+        given(fileRepository.findTombstonesAfter(anyLong(), any()))
+                .willReturn(List.of(
+                        new StoredFileRef(1L, first.toString(), null),
+                        new StoredFileRef(2L, second.toString(), null)))
+                .willReturn(List.of(new StoredFileRef(3L, alreadyGone, null)));
+
+        // when
+        purgeWorker.purge();
+
+        // then
+        assertThat(first).doesNotExist();
+        assertThat(firstThumbnail).doesNotExist();
+        assertThat(second).doesNotExist();
+        then(fileStatsService).should().purgeRows(List.of(1L, 2L));
+        then(fileStatsService).should().purgeRows(List.of(3L));
+        then(hotFileCache).should().evict(List.of(1L, 2L));
+        assertThat(meterRegistry.counter("flow.storage.purge.deleted").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("flow.storage.purge.bytes.reclaimed").count())
+                .isEqualTo((double) "a".length() + "thumbnail".length() + "b".length());
+    }
+
+    @Test
+    @DisplayName("파일 삭제 실패 시 행을 남겨 다음 주기에 재시도")
+    void purge_KeepsRowWhenUnlinkFails() throws IOException {
+        // given - 비어있지 않은 디렉토리는 삭제 실패
+        Path directory = Files.createDirectories(uploadDir.resolve("not-empty"));
+        Files.writeString(directory.resolve("child.txt"), "child");
+        given(fileRepository.findTombstonesAfter(anyLong(), any()))
+                .willReturn(List.of(new StoredFileRef(1L, directory.toString(), null)));
+
+        // when
+        purgeWorker.purge();
+
+        // then
+        then(fileStatsService).should(never()).purgeRows(anyList());
+        assertThat(meterRegistry.counter("flow.storage.purge.failed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("flow.storage.purge.bytes.reclaimed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 배치가 있어도 cursor 로 뒤쪽 tombstone 을 계속 정리")
+    void purge_FailedBatchDoesNotBlockLaterRows() throws IOException {
+        // given - 첫 배치는 전부 삭제 실패
+        Path directory = Files.createDirectories(uploadDir.resolve("not-empty"));
+        Files.writeString(directory.resolve("child.txt"), "child");
+        Path later = Files.writeString(uploadDir.resolve("uuid9_z.txt"), "z");
+        given(fileRepository.findTombstonesAfter(eq(0L), any()))
+                .willReturn(List.of(
+                        new StoredFileRef(1L, directory.toString(), null),
+                        new StoredFileRef(2L, directory.toString(), null)));
+        given(fileRepository.findTombstonesAfter(eq(2L), any()))
+                .willReturn(List.of(new StoredFileRef(9L, later.toString(), null)));
+
+        // when
+        purgeWorker.purge();
+
+        // then
+        assertThat(later).doesNotExist();
+        then(fileStatsService).should().purgeRows(List.of(9L));
+    }
+
+    @Test
+    @DisplayName("max-attempts 번 실패한 행은 격리하여 더 이상 시도하지 않음")
+    void purge_QuarantinesRepeatedlyFailingRow() throws IOException {
+        // given
+        Path directory = Files.createDirectories(uploadDir.resolve("not-empty"));
+        Files.writeString(directory.resolve("child.txt"), "child");
+        given(fileRepository.findTombstonesAfter(anyLong(), any()))
+                .willReturn(List.of(new StoredFileRef(1L, directory.toString(), null)));
+
+        // when
+        purgeWorker.purge();
+        purgeWorker.purge();
+        purgeWorker.purge();
+
+        // then - 세 번째 실행에서는 시도하지 않음
+        assertThat(meterRegistry.counter("flow.storage.purge.failed").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("flow.storage.purge.quarantined").gauge().value()).isEqualTo(1.0);
+        then(fileStatsService).should(never()).purgeRows(anyList());
+    }
+}
@@ -0,0 +1,229 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.cache.FileDeletedEvent;
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetentionPolicyJob 단위 테스트")
+class RetentionPolicyJobTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionPolicyJob retentionPolicyJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionPolicyJob = new RetentionPolicyJob(fileRepository, meterRegistry, eventPublisher);
+        ReflectionTestUtils.setField(retentionPolicyJob, "maxAge", Duration.ZERO);
+        ReflectionTestUtils.setField(retentionPolicyJob, "keepLastPerName", 0);
+        ReflectionTestUtils.setField(retentionPolicyJob, "maxTotalSize", DataSize.ofBytes(0));
+        ReflectionTestUtils.setField(retentionPolicyJob, "batchSize", 2);
+        ReflectionTestUtils.setField(retentionPolicyJob, "maxBatchesPerRun", 10);
+    }
+
+    private double expired(String rule) {
+        return meterRegistry.counter("flow.storage.retention.bytes.expired", "rule", rule).count();
+    }
+
+    @Test
+    @DisplayName("모든 규칙이 꺼져 있으면 스케줄 실행 시 아무것도 하지 않음")
+    void scheduledRun_Disabled_DoesNothing() {
+        // when
+        retentionPolicyJob.scheduledRun();
+
+        // then
+        then(fileRepository).shouldHaveNoInteractions();
+    }
+
+    @Nested
+    @DisplayName("기간 만료 규칙")
+    class MaxAgeTest {
+
+        @Test
+        @DisplayName("기준 기간보다 오래된 파일을 배치 단위로 만료")
+        void run_ExpiresOldFilesInBatches() {
+            // given
+            ReflectionTestUtils.setField(retentionPolicyJob, "maxAge", Duration.ofDays(30));
+            given(fileRepository.findRetentionCandidatesCreatedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(1L, 100L), new RetentionCandidate(2L, 200L)))
+                    .willReturn(List.of(new RetentionCandidate(3L, 300L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class)))
+                    .willReturn(2)
+                    .willReturn(1);
+
+            // when
+            RetentionResult result = retentionPolicyJob.run();
+
+            // then
+            assertThat(result.expiredFiles()).isEqualTo(3);
+            assertThat(result.expiredBytes()).isEqualTo(600);
+            assertThat(expired(RetentionPolicyJob.RULE_MAX_AGE)).isEqualTo(600.0);
+        }
+
+        @Test
+        @DisplayName("실행당 배치 수 한도를 넘지 않음")
+        void run_RespectsBatchBudget() {
+            // given
+            ReflectionTestUtils.setField(retentionPolicyJob, "maxAge", Duration.ofDays(30));
+            ReflectionTestUtils.setField(retentionPolicyJob, "maxBatchesPerRun", 1);
+            given(fileRepository.findRetentionCandidatesCreatedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(1L, 100L), new RetentionCandidate(2L, 200L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class))).willReturn(2);
+
+            // when
+            retentionPolicyJob.run();
+
+            // then
+            then(fileRepository).should(times(1))
+                    .findRetentionCandidatesCreatedBefore(any(LocalDateTime.class), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("이름별 최신 N개 유지 규칙")
+    class KeepLastPerNameTest {
+
+        @Test
+        @DisplayName("최신 N개를 제외한 파일만 만료")
+        void run_KeepsNewestFiles() {
+            // given
+            ReflectionTestUtils.setField(retentionPolicyJob, "keepLastPerName", 1);
+            given(fileRepository.findNamesAfter(eq(""), any(Pageable.class))).willReturn(List.of("report.csv"));
+            given(fileRepository.findNamesExceedingBetween(1L, "", "report.csv")).willReturn(List.of("report.csv"));
+            given(fileRepository.findRetentionCandidatesByName(eq("report.csv"), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(3L, 30L), new RetentionCandidate(2L, 20L),
+                            new RetentionCandidate(1L, 10L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class))).willReturn(2);
+
+            // when
+            RetentionResult result = retentionPolicyJob.run();
+
+            // then
+            then(fileRepository).should().markDeletedByIds(eq(List.of(2L, 1L)), any(LocalDateTime.class));
+            then(eventPublisher).should().publishEvent(any(FileDeletedEvent.class));
+            assertThat(result.expiredBytes()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("이름 페이지가 아니라 tombstone 배치마다 예산을 차감하고 남은 후보는 모아서 만료")
+        void run_ChargesBudgetPerTombstoneBatch() {
+            // given - 이름 2개가 각각 keep 을 넘는 파일 2개씩, 배치 크기 2, 예산 1
+            ReflectionTestUtils.setField(retentionPolicyJob, "keepLastPerName", 1);
+            ReflectionTestUtils.setField(retentionPolicyJob, "maxBatchesPerRun", 1);
+            given(fileRepository.findNamesAfter(eq(""), any(Pageable.class))).willReturn(List.of("a.csv", "b.csv"));
+            given(fileRepository.findNamesExceedingBetween(1L, "", "b.csv")).willReturn(List.of("a.csv", "b.csv"));
+            given(fileRepository.findRetentionCandidatesByName(eq("a.csv"), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(13L, 1L), new RetentionCandidate(12L, 1L),
+                            new RetentionCandidate(11L, 1L)));
+            given(fileRepository.findRetentionCandidatesByName(eq("b.csv"), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(23L, 1L), new RetentionCandidate(22L, 1L),
+                            new RetentionCandidate(21L, 1L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class))).willReturn(2);
+
+            // when
+            RetentionResult result = retentionPolicyJob.run();
+
+            // then - 예산 1 = tombstone 배치 1개 (batch-size 행)
+            then(fileRepository).should(times(1)).markDeletedByIds(anyCollection(), any(LocalDateTime.class));
+            then(fileRepository).should().markDeletedByIds(eq(List.of(12L, 11L)), any(LocalDateTime.class));
+            assertThat(result.expiredFiles()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("배치 크기보다 적게 남은 후보도 마지막에 한 배치로 만료")
+        void run_FlushesRemainingCandidates() {
+            // given
+            ReflectionTestUtils.setField(retentionPolicyJob, "keepLastPerName", 1);
+            ReflectionTestUtils.setField(retentionPolicyJob, "batchSize", 3);
+            given(fileRepository.findNamesAfter(eq(""), any(Pageable.class))).willReturn(List.of("a.csv", "b.csv"));
+            given(fileRepository.findNamesExceedingBetween(1L, "", "b.csv")).willReturn(List.of("a.csv", "b.csv"));
+            given(fileRepository.findRetentionCandidatesByName(eq("a.csv"), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(12L, 1L), new RetentionCandidate(11L, 1L)));
+            given(fileRepository.findRetentionCandidatesByName(eq("b.csv"), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(22L, 1L), new RetentionCandidate(21L, 1L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class))).willReturn(2);
+
+            // when
+            retentionPolicyJob.run();
+
+            // then
+            then(fileRepository).should().markDeletedByIds(eq(List.of(11L, 21L)), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("예산이 떨어지면 다음 실행은 멈춘 이름 구간부터 이어서 훑고, 끝까지 훑으면 처음부터")
+        void run_ResumesFromLastSlice() {
+            // given - 배치 크기 2, 예산 1
+            ReflectionTestUtils.setField(retentionPolicyJob, "keepLastPerName", 1);
+            ReflectionTestUtils.setField(retentionPolicyJob, "maxBatchesPerRun", 1);
+            given(fileRepository.findNamesAfter(eq(""), any(Pageable.class))).willReturn(List.of("a.csv", "b.csv"));
+            given(fileRepository.findNamesExceedingBetween(1L, "", "b.csv")).willReturn(List.of("a.csv"));
+            given(fileRepository.findRetentionCandidatesByName(eq("a.csv"), any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(13L, 1L), new RetentionCandidate(12L, 1L),
+                            new RetentionCandidate(11L, 1L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class))).willReturn(2);
+            given(fileRepository.findNamesAfter(eq("b.csv"), any(Pageable.class))).willReturn(List.of("c.csv"));
+            given(fileRepository.findNamesExceedingBetween(1L, "b.csv", "c.csv")).willReturn(List.of());
+
+            // when
+            retentionPolicyJob.run();
+            retentionPolicyJob.run();
+            retentionPolicyJob.run();
+
+            // then - 두 번째 실행은 b.csv 다음 구간부터, 세 번째 실행은 다시 처음부터
+            then(fileRepository).should(times(2)).findNamesAfter(eq(""), any(Pageable.class));
+            then(fileRepository).should(times(1)).findNamesAfter(eq("b.csv"), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 크기 한도 규칙")
+    class MaxTotalSizeTest {
+
+        @Test
+        @DisplayName("초과분을 넘길 때까지만 오래된 파일부터 만료")
+        void run_ExpiresOldestUntilUnderLimit() {
+            // given
+            ReflectionTestUtils.setField(retentionPolicyJob, "maxTotalSize", DataSize.ofBytes(1000));
+            given(fileRepository.sumActiveFileSize()).willReturn(1250L);
+            given(fileRepository.findOldestRetentionCandidates(any(Pageable.class)))
+                    .willReturn(List.of(new RetentionCandidate(1L, 200L), new RetentionCandidate(2L, 100L)));
+            given(fileRepository.markDeletedByIds(anyCollection(), any(LocalDateTime.class))).willReturn(2);
+
+            // when
+            RetentionResult result = retentionPolicyJob.run();
+
+            // then
+            then(fileRepository).should().markDeletedByIds(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+            then(fileRepository).should(times(1)).findOldestRetentionCandidates(any(Pageable.class));
+            assertThat(result.expiredBytes()).isEqualTo(300);
+            assertThat(expired(RetentionPolicyJob.RULE_MAX_TOTAL_SIZE)).isEqualTo(300.0);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.integrity.FileChecksum;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StorageCompression 테스트")
+class StorageCompressionTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] csv(int rows) {
+        StringBuilder sb = new StringBuilder("id,name,amount\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append(i).append(",user").append(i % 50).append(',').append(i * 10).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Nested
+    @DisplayName("압축 대상 판단")
+    class DecisionTest {
+
+        @Test
+        @DisplayName("텍스트 계열 Content-Type 은 압축 대상")
+        void isCompressibleType() {
+            assertThat(StorageCompression.isCompressibleType("text/csv")).isTrue();
+            assertThat(StorageCompression.isCompressibleType("application/json; charset=UTF-8")).isTrue();
+            assertThat(StorageCompression.isCompressibleType("image/png")).isFalse();
+            assertThat(StorageCompression.isCompressibleType(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("엔트로피 - 텍스트는 낮고 난수는 8에 가까움")
+        void entropy() {
+            byte[] text = csv(200);
+            byte[] noise = random(4096);
+
+            assertThat(StorageCompression.entropy(text, text.length)).isLessThan(StorageCompression.MAX_ENTROPY);
+            assertThat(StorageCompression.entropy(noise, noise.length)).isGreaterThan(7.9);
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding 파싱")
+        void acceptsGzip() {
+            assertThat(StorageCompression.acceptsGzip("gzip, deflate, br")).isTrue();
+            assertThat(StorageCompression.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+            assertThat(StorageCompression.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(StorageCompression.acceptsGzip("identity")).isFalse();
+            assertThat(StorageCompression.acceptsGzip(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 저장")
+    class StoreTest {
+
+        @Test
+        @DisplayName("CSV 는 gzip 으로 저장되고 복원 가능")
+        void store_Csv_Compressed() throws IOException {
+            // given
+            byte[] content = csv(5_000);
+            Path target = dir.resolve("data.csv");
+
+            // when
+            String encoding = StorageCompression.store(
+                    () -> new ByteArrayInputStream(content), "text/csv", content.length, target);
+
+            // then
+            assertThat(encoding).isEqualTo(StorageCompression.GZIP);
+            assertThat(Files.size(target)).isLessThan(content.length / 3);
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(target))) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+        }
+
+        @Test
+        @DisplayName("Content-Type 이 없어도 저엔트로피면 압축")
+        void store_UnknownTypeLowEntropy_Compressed() throws IOException {
+            byte[] content = csv(5_000);
+            Path target = dir.resolve("data.bin");
+
+            String encoding = StorageCompression.store(
+                    () -> new ByteArrayInputStream(content), "application/octet-stream", content.length, target);
+
+            assertThat(encoding).isEqualTo(StorageCompression.GZIP);
+        }
+
+        @Test
+        @DisplayName("고엔트로피 파일은 원본 그대로 저장")
+        void store_HighEntropy_Raw() throws IOException {
+            byte[] content = random(64 * 1024);
+            Path target = dir.resolve("image.png");
+
+            String encoding = StorageCompression.store(
+                    () -> new ByteArrayInputStream(content), "image/png", content.length, target);
+
+            assertThat(encoding).isNull();
+            assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        }
+
+        @Test
+        @DisplayName("텍스트 타입이라도 압축 효과가 없으면 원본으로 다시 저장")
+        void store_NoGain_FallsBackToRaw() throws IOException {
+            byte[] content = random(8 * 1024);
+            Path target = dir.resolve("fake.txt");
+
+            String encoding = StorageCompression.store(
+                    () -> new ByteArrayInputStream(content), "text/plain", content.length, target);
+
+            assertThat(encoding).isNull();
+            assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        }
+
+        @Test
+        @DisplayName("digest 는 실제로 저장된 바이트 기준 (압축 / 원본으로 다시 저장)")
+        void store_DigestMatchesStoredBytes() throws IOException {
+            byte[] text = csv(500);
+            byte[] noisy = random(8 * 1024);
+            Path compressed = dir.resolve("data.csv");
+            Path fallback = dir.resolve("fake.txt");
+            MessageDigest compressedDigest = FileChecksum.newDigest();
+            MessageDigest fallbackDigest = FileChecksum.newDigest();
+
+            StorageCompression.store(() -> new ByteArrayInputStream(text), "text/csv", text.length, compressed, compressedDigest);
+            StorageCompression.store(() -> new ByteArrayInputStream(noisy), "text/plain", noisy.length, fallback, fallbackDigest);
+
+            assertThat(FileChecksum.hex(compressedDigest)).isEqualTo(FileChecksum.compute(compressed));
+            assertThat(FileChecksum.hex(fallbackDigest)).isEqualTo(FileChecksum.compute(fallback));
+        }
+
+        @Test
+        @DisplayName("압축 지표는 업로드 저장(store)만 기록하고 티어 이동용 write 는 기록하지 않음")
+        void write_DoesNotRecordCompressionMetrics() throws IOException {
+            byte[] text = csv(500);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            Metrics.addRegistry(registry);
+            try {
+                String encoding = StorageCompression.write(
+                        () -> new ByteArrayInputStream(text), "text/csv", text.length, dir.resolve("moved.csv"), null);
+                assertThat(encoding).isEqualTo(StorageCompression.GZIP);
+                // 다른 테스트에서 만든 전역 카운터가 함께 등록될 수 있으므로 값으로 확인
+                assertThat(registry.find("flow.storage.compression.bytes.original").counters())
+                        .allSatisfy(counter -> assertThat(counter.count()).isZero());
+
+                StorageCompression.store(() -> new ByteArrayInputStream(text), "text/csv", text.length, dir.resolve("uploaded.csv"));
+                assertThat(registry.get("flow.storage.compression.bytes.original").tag("encoding", "gzip").counter().count())
+                        .isEqualTo(text.length);
+            } finally {
+                Metrics.removeRegistry(registry);
+            }
+        }
+    }
+}
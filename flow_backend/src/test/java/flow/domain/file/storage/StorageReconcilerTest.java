@@ -0,0 +1,197 @@
+package flow.domain.file.storage;
+
+import flow.domain.file.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageReconciler 단위 테스트")
+class StorageReconcilerTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @TempDir
+    Path uploadDir;
+
+    @TempDir
+    Path archiveDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StorageReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new StorageReconciler(fileRepository, meterRegistry);
+        ReflectionTestUtils.setField(reconciler, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(reconciler, "archivePath", archiveDir.toString());
+        ReflectionTestUtils.setField(reconciler, "batchSize", 2);
+        ReflectionTestUtils.setField(reconciler, "batchPause", Duration.ZERO);
+        ReflectionTestUtils.setField(reconciler, "orphanGracePeriod", Duration.ofMinutes(10));
+    }
+
+    private Path createFile(String name, Duration age) throws IOException {
+        return createFile(uploadDir, name, age);
+    }
+
+    private Path createFile(Path dir, String name, Duration age) throws IOException {
+        Path path = Files.writeString(dir.resolve(name), "content");
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)));
+        return path;
+    }
+
+    @Nested
+    @DisplayName("디스크 → 행 검사")
+    class OrphanFileTest {
+
+        @Test
+        @DisplayName("행이 없고 유예 기간이 지난 파일만 삭제")
+        void reconcile_DeletesOldOrphansOnly() throws IOException {
+            // given
+            Path known = createFile("uuid1_known.txt", Duration.ofHours(1));
+            Path orphan = createFile("uuid2_orphan.txt", Duration.ofHours(1));
+            Path uploading = createFile("uuid3_uploading.txt", Duration.ofSeconds(5));
+
+            given(fileRepository.findStoredFileRefsAfter(anyLong(), any())).willReturn(List.of());
+            given(fileRepository.findFilePathsByStoredFilenames(anyCollection()))
+                    .willAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                            .filter("uuid1_known.txt"::equals)
+                            .map(name -> known.toString())
+                            .toList());
+
+            // when
+            StorageReconcileResult result = reconciler.reconcile();
+
+            // then
+            assertThat(known).exists();
+            assertThat(orphan).doesNotExist();
+            assertThat(uploading).exists();
+            assertThat(result.scannedFiles()).isEqualTo(3);
+            assertThat(result.orphansDeleted()).isEqualTo(1);
+            assertThat(meterRegistry.counter("flow.storage.reconcile.orphans.deleted").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("하위 디렉토리는 검사하지 않음")
+        void reconcile_SkipsDirectories() throws IOException {
+            // given
+            Files.createDirectories(uploadDir.resolve("archive"));
+            given(fileRepository.findStoredFileRefsAfter(anyLong(), any())).willReturn(List.of());
+
+            // when
+            StorageReconcileResult result = reconciler.reconcile();
+
+            // then
+            assertThat(uploadDir.resolve("archive")).isDirectory();
+            assertThat(result.scannedFiles()).isZero();
+            then(fileRepository).should(never()).findFilePathsByStoredFilenames(anyCollection());
+        }
+
+        @Test
+        @DisplayName("아카이브 디렉토리의 중단된 .part 파일과 티어 이동 중 남은 사본을 삭제")
+        void reconcile_CleansArchiveDirectory() throws IOException {
+            // given
+            Path archived = createFile(archiveDir, "uuid1_archived.txt", Duration.ofHours(1));
+            Path part = createFile(archiveDir, "uuid2_moving.txt.part", Duration.ofHours(1));
+            // 행은 업로드 디렉토리를 가리키는데 아카이브에 남은 사본 (삭제 전에 중단된 이동)
+            Path hot = createFile("uuid3_moved.txt", Duration.ofHours(1));
+            Path leftover = createFile(archiveDir, "uuid3_moved.txt", Duration.ofHours(1));
+
+            given(fileRepository.findStoredFileRefsAfter(anyLong(), any())).willReturn(List.of());
+            given(fileRepository.findFilePathsByStoredFilenames(anyCollection()))
+                    .willAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                            .flatMap(name -> switch (name) {
+                                case "uuid1_archived.txt" -> Stream.of(archived.toString());
+                                case "uuid3_moved.txt" -> Stream.of(hot.toString());
+                                default -> Stream.<String>empty();
+                            })
+                            .toList());
+
+            // when
+            StorageReconcileResult result = reconciler.reconcile();
+
+            // then
+            assertThat(archived).exists();
+            assertThat(hot).exists();
+            assertThat(part).doesNotExist();
+            assertThat(leftover).doesNotExist();
+            assertThat(result.scannedFiles()).isEqualTo(4);
+            assertThat(result.orphansDeleted()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("행이 가리키는 파일이 없으면 다른 위치의 사본을 유지")
+        void reconcile_KeepsOnlyCopyWhenRowTargetMissing() throws IOException {
+            // given
+            Path onlyCopy = createFile(archiveDir, "uuid1_moved.txt", Duration.ofHours(1));
+            String rowPath = uploadDir.resolve("uuid1_moved.txt").toString();
+
+            given(fileRepository.findStoredFileRefsAfter(anyLong(), any())).willReturn(List.of());
+            given(fileRepository.findFilePathsByStoredFilenames(anyCollection())).willReturn(List.of(rowPath));
+
+            // when
+            StorageReconcileResult result = reconciler.reconcile();
+
+            // then
+            assertThat(onlyCopy).exists();
+            assertThat(result.orphansDeleted()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("행 → 디스크 검사")
+    class DanglingRowTest {
+
+        @Test
+        @DisplayName("파일이 없는 행은 표시하고, 다시 확인된 행은 해제")
+        void reconcile_FlagsDanglingRows() throws IOException {
+            // given
+            Path present = createFile("uuid1_present.txt", Duration.ofHours(1));
+            Path recovered = createFile("uuid2_recovered.txt", Duration.ofHours(1));
+            String missing = uploadDir.resolve("uuid3_missing.txt").toString();
+
+            given(fileRepository.findStoredFileRefsAfter(anyLong(), any()))
+                    .willReturn(List.of(
+                            new StoredFileRef(1L, present.toString(), null),
+                            new StoredFileRef(2L, recovered.toString(), LocalDateTime.now().minusDays(1))))
+                    .willReturn(List.of(new StoredFileRef(3L, missing, null)));
+            given(fileRepository.findFilePathsByStoredFilenames(anyCollection()))
+                    .willReturn(List.of(present.toString(), recovered.toString()));
+            given(fileRepository.markMissing(anyCollection(), any())).willReturn(1);
+
+            // when
+            StorageReconcileResult result = reconciler.reconcile();
+
+            // then
+            assertThat(result.scannedRows()).isEqualTo(3);
+            assertThat(result.danglingRows()).isEqualTo(1);
+            then(fileRepository).should().markMissing(eq(List.of(3L)), any(LocalDateTime.class));
+            then(fileRepository).should().clearMissing(List.of(2L));
+            then(fileRepository).should(times(2)).findStoredFileRefsAfter(anyLong(), any());
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package flow.domain.file.storage;
+
+import flow.common.exception.BusinessException;
+import flow.domain.file.cache.FileMetadataCache;
+import flow.domain.file.cache.HotFileCache;
+import flow.domain.file.entity.FileEntity;
+import flow.domain.file.integrity.FileChecksum;
+import flow.domain.file.preview.ThumbnailService;
+import flow.domain.file.repository.FileRepository;
+import flow.domain.file.service.FileStatsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageTieringJob 단위 테스트")
+class StorageTieringJobTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileStatsService fileStatsService;
+
+    @Mock
+    private FileMetadataCache fileMetadataCache;
+
+    @Mock
+    private HotFileCache hotFileCache;
+
+    @Mock
+    private TaskScheduler maintenanceScheduler;
+
+    @TempDir
+    Path dir;
+
+    private Path uploadDir;
+    private Path archiveDir;
+    private SimpleMeterRegistry meterRegistry;
+    private StorageTieringJob tieringJob;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadDir = Files.createDirectories(dir.resolve("data"));
+        archiveDir = dir.resolve("archive");
+        meterRegistry = new SimpleMeterRegistry();
+        tieringJob = new StorageTieringJob(fileRepository, fileStatsService, fileMetadataCache, hotFileCache, meterRegistry,
+                maintenanceScheduler);
+        ReflectionTestUtils.setField(tieringJob, "enabled", true);
+        ReflectionTestUtils.setField(tieringJob, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(tieringJob, "archivePath", archiveDir.toString());
+        ReflectionTestUtils.setField(tieringJob, "minAge", Duration.ofDays(7));
+        ReflectionTestUtils.setField(tieringJob, "idle", Duration.ofDays(7));
+        ReflectionTestUtils.setField(tieringJob, "batchSize", 10);
+        ReflectionTestUtils.setField(tieringJob, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(tieringJob, "rehydrateDelay", Duration.ofSeconds(30));
+    }
+
+    private static byte[] csv(int rows) {
+        StringBuilder sb = new StringBuilder("id,name,amount\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append(i).append(",item-").append(i % 17).append(',').append(i * 3).append('\n');
+        }
+        return sb.toString().getBytes();
+    }
+
+    private static TierCandidate candidate(Path path, String contentEncoding, long fileSize) throws IOException {
+        return new TierCandidate(1L, path.toString(), "csv", "text/csv", contentEncoding,
+                fileSize, Files.size(path), FileChecksum.compute(path));
+    }
+
+    private void givenMoved() {
+        given(fileRepository.moveToTier(anyLong(), anyString(), anyString(), any(), anyLong(), any(), anyString(), any()))
+                .willReturn(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서 즉시 실행 - 400")
+    void run_Disabled_ThrowsBadRequest() {
+        // given
+        ReflectionTestUtils.setField(tieringJob, "enabled", false);
+
+        // when & then
+        assertThatThrownBy(() -> tieringJob.run())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("비활성화");
+        then(fileRepository).shouldHaveNoInteractions();
+    }
+
+    @Nested
+    @DisplayName("아카이브")
+    class ArchiveTest {
+
+        @Test
+        @DisplayName("콜드 파일을 gzip 으로 아카이브 디렉토리에 옮기고 행/캐시/썸네일 갱신")
+        void run_ArchivesColdFile() throws IOException {
+            // given
+            byte[] content = csv(2_000);
+            Path source = Files.write(uploadDir.resolve("uuid1_report.csv"), content);
+            Path thumbnail = ThumbnailService.thumbnailPath(source);
+            Files.createDirectories(thumbnail.getParent());
+            Files.writeString(thumbnail, "thumbnail");
+            TierCandidate file = candidate(source, null, content.length);
+            given(fileRepository.findArchiveCandidatesAfter(eq(0L), any(LocalDateTime.class), any(LocalDateTime.class),
+                    any(Pageable.class))).willReturn(List.of(file));
+            givenMoved();
+
+            // when
+            TieringResult result = tieringJob.run();
+
+            // then
+            Path archived = archiveDir.resolve("uuid1_report.csv");
+            assertThat(source).doesNotExist();
+            assertThat(thumbnail).doesNotExist();
+            assertThat(ThumbnailService.thumbnailPath(archived)).exists();
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(archived))) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+
+            long archivedSize = Files.size(archived);
+            then(fileRepository).should().moveToTier(eq(1L), eq(source.toString()), eq(archived.toString()),
+                    eq(FileEntity.TIER_ARCHIVE), eq(archivedSize), eq(StorageCompression.GZIP),
+                    eq(FileChecksum.compute(archived)), any(LocalDateTime.class));
+            then(fileStatsService).should().recordStoredSizeChange("csv", "text/csv", archivedSize - content.length);
+            then(hotFileCache).should().evict(List.of(1L));
+            then(fileMetadataCache).should().invalidate(List.of(1L));
+
+            assertThat(result.archivedFiles()).isEqualTo(1);
+            assertThat(result.reclaimedBytes()).isEqualTo(content.length);
+            assertThat(result.archivedBytes()).isEqualTo(archivedSize);
+            assertThat(meterRegistry.counter("flow.storage.tier.bytes.reclaimed").count()).isEqualTo((double) content.length);
+        }
+
+        @Test
+        @DisplayName("저장된 checksum 과 다르면 옮기지 않고 손상 표시")
+        void run_ChecksumMismatch_MarksCorrupted() throws IOException {
+            // given
+            Path source = Files.write(uploadDir.resolve("uuid1_report.csv"), csv(100));
+            TierCandidate file = new TierCandidate(1L, source.toString(), "csv", "text/csv", null,
+                    Files.size(source), Files.size(source), "0".repeat(64));
+            given(fileRepository.findArchiveCandidatesAfter(eq(0L), any(LocalDateTime.class), any(LocalDateTime.class),
+                    any(Pageable.class))).willReturn(List.of(file));
+
+            // when
+            TieringResult result = tieringJob.run();
+
+            // then
+            assertThat(source).exists();
+            assertThat(archiveDir.resolve("uuid1_report.csv")).doesNotExist();
+            then(fileRepository).should().markCorrupted(eq(List.of(1L)), any(LocalDateTime.class));
+            then(hotFileCache).should().evict(List.of(1L));
+            then(fileRepository).should(never())
+                    .moveToTier(anyLong(), anyString(), anyString(), any(), anyLong(), any(), anyString(), any());
+            assertThat(result.archivedFiles()).isZero();
+            assertThat(result.failedFiles()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("조회 이후 삭제 요청된 행 - 아카이브 복사본을 지우고 원본 유지")
+        void run_RowChanged_DiscardsCopy() throws IOException {
+            // given
+            Path source = Files.write(uploadDir.resolve("uuid1_report.csv"), csv(100));
+            given(fileRepository.findArchiveCandidatesAfter(eq(0L), any(LocalDateTime.class), any(LocalDateTime.class),
+                    any(Pageable.class))).willReturn(List.of(candidate(source, null, Files.size(source))));
+            given(fileRepository.moveToTier(anyLong(), anyString(), anyString(), any(), anyLong(), any(), anyString(), any()))
+                    .willReturn(0);
+
+            // when
+            tieringJob.run();
+
+            // then
+            assertThat(source).exists();
+            assertThat(archiveDir.resolve("uuid1_report.csv")).doesNotExist();
+            then(fileMetadataCache).shouldHaveNoInteractions();
+            then(fileStatsService).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("복원")
+    class RehydrateTest {
+
+        @Test
+        @DisplayName("아카이브 이후 다운로드된 파일을 기본 티어로 그대로 되돌림")
+        void run_RehydratesAccessedFile() throws IOException {
+            // given
+            byte[] content = csv(500);
+            Files.createDirectories(archiveDir);
+            Path archived = archiveDir.resolve("uuid1_report.csv");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(archived))) {
+                out.write(content);
+            }
+            byte[] archivedBytes = Files.readAllBytes(archived);
+            given(fileRepository.findRehydrateCandidatesAfter(eq(0L), any(Pageable.class)))
+                    .willReturn(List.of(candidate(archived, StorageCompression.GZIP, content.length)));
+            givenMoved();
+
+            // when
+            TieringResult result = tieringJob.run();
+
+            // then
+            Path restored = uploadDir.resolve("uuid1_report.csv");
+            assertThat(archived).doesNotExist();
+            assertThat(Files.readAllBytes(restored)).isEqualTo(archivedBytes);
+            then(fileRepository).should().moveToTier(eq(1L), eq(archived.toString()), eq(restored.toString()),
+                    isNull(), eq((long) archivedBytes.length), eq(StorageCompression.GZIP),
+                    eq(FileChecksum.compute(restored)), isNull());
+            assertThat(result.rehydratedFiles()).isEqualTo(1);
+            assertThat(result.rehydratedBytes()).isEqualTo(archivedBytes.length);
+        }
+
+        @Test
+        @DisplayName("아카이브 파일 다운로드 - 정기 실행을 기다리지 않고 한 번만 예약")
+        void onArchivedFileDownloaded_SchedulesOnce() {
+            // when
+            tieringJob.onArchivedFileDownloaded(new ArchivedFileDownloadedEvent(1L));
+            tieringJob.onArchivedFileDownloaded(new ArchivedFileDownloadedEvent(1L));
+
+            // then
+            then(maintenanceScheduler).should(times(1)).schedule(any(Runnable.class), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("예약된 복원 - 해당 파일만 기본 티어로 옮기고 캐시 무효화")
+        void rehydrateNow_MovesSingleFile() throws IOException {
+            // given
+            byte[] content = csv(100);
+            Files.createDirectories(archiveDir);
+            Path archived = Files.write(archiveDir.resolve("uuid1_report.csv"), content);
+            given(fileRepository.findArchivedTierCandidate(1L))
+                    .willReturn(Optional.of(candidate(archived, null, content.length)));
+            givenMoved();
+
+            // when
+            tieringJob.rehydrateNow(1L);
+
+            // then
+            assertThat(archived).doesNotExist();
+            assertThat(uploadDir.resolve("uuid1_report.csv")).hasBinaryContent(content);
+            then(hotFileCache).should().evict(List.of(1L));
+            then(fileMetadataCache).should().invalidate(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("전체 실행 중이면 예약된 복원은 건너뜀 (같은 파일을 동시에 옮기지 않음)")
+        void rehydrateNow_WhileRunning_Skips() {
+            // given
+            ((AtomicBoolean) ReflectionTestUtils.getField(tieringJob, "running")).set(true);
+
+            // when
+            tieringJob.rehydrateNow(1L);
+
+            // then
+            then(fileRepository).shouldHaveNoInteractions();
+        }
+    }
+}
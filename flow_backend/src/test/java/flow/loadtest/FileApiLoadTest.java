@@ -0,0 +1,95 @@
+package flow.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 확장자 확인 / 업로드 / 다운로드 혼합 부하 테스트
+ * - 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행
+ * - 기본은 H2 프로파일로 띄운 서버 대상, -Dloadtest.baseUrl=http://localhost 로 docker-compose 스택 대상
+ * - 에러율/p99 한도 또는 기준선(-Dloadtest.baseline) 대비 회귀가 있으면 실패
+ *
+ * 설정 (시스템 프로퍼티)
+ * - loadtest.mix: check,upload,download 가중치 (기본 70,20,10)
+ * - loadtest.concurrency / warmupSeconds / durationSeconds / uploadSize / seedFiles
+ * - loadtest.apiKey: 다운로드 링크 발급용 X-Api-Key (지정하면 서명된 링크로, 없으면 /download 로 다운로드)
+ * - loadtest.maxErrorRate (기본 0.01), loadtest.maxP99Ms (기본 0 = 미사용)
+ * - loadtest.baseline: 이전 결과 파일 경로, loadtest.tolerance: 허용 비율 (기본 0.2)
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.upload.path=${java.io.tmpdir}/flow-loadtest",
+        // 단일 클라이언트로 부하를 만들므로 클라이언트별 업로드 제한은 끔 (외부 스택 대상이면 해당 서버 설정을 따름)
+        "app.upload.admission.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.flow=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("파일 API 부하 테스트")
+class FileApiLoadTest {
+
+    private static final Path REPORT_PATH = Path.of("build/reports/load-test/summary.properties");
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("혼합 부하에서 에러율/지연 시간이 한도 및 기준선 이내")
+    void mixedLoad() throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:" + port);
+        int[] weights = Arrays.stream(System.getProperty("loadtest.mix", "70,20,10").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        LoadTestRunner runner = new LoadTestRunner(
+                baseUrl,
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30)),
+                weights,
+                Integer.getInteger("loadtest.uploadSize", 4096),
+                System.getProperty("loadtest.apiKey"));
+
+        runner.seed(Integer.getInteger("loadtest.seedFiles", 20));
+        LoadTestReport report = runner.run();
+        report.writeTo(REPORT_PATH);
+
+        System.out.printf("부하 테스트 결과 (%s, mix %s)%n%s", baseUrl, Arrays.toString(weights), report.format());
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+        assertThat(report.total().errorRate())
+                .as("전체 에러율")
+                .isLessThanOrEqualTo(maxErrorRate);
+
+        double maxP99Ms = Double.parseDouble(System.getProperty("loadtest.maxP99Ms", "0"));
+        if (maxP99Ms > 0) {
+            assertThat(report.total().p99Ms())
+                    .as("전체 p99 (ms)")
+                    .isLessThanOrEqualTo(maxP99Ms);
+        }
+
+        String baseline = System.getProperty("loadtest.baseline");
+        if (baseline != null && Files.exists(Path.of(baseline))) {
+            double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+            List<String> regressions = report.regressionsAgainst(Path.of(baseline), tolerance);
+            assertThat(regressions)
+                    .as("기준선 대비 회귀")
+                    .isEmpty();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package flow.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 결과 (요청 종류별 + 전체)
+ * - properties 형식으로 저장하여 다음 실행의 기준선(baseline)으로 사용
+ * - GC 횟수/시간은 테스트 JVM 기준 (내장 서버 대상일 때만 서버 GC 를 포함, 외부 서버 대상이면 클라이언트 GC 만)
+ */
+record LoadTestReport(Map<String, Stats> stats, Gc gc) {
+
+    record Gc(long collections, long timeMs) {
+
+        static Gc snapshot() {
+            long collections = 0L;
+            long timeMs = 0L;
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                collections += Math.max(bean.getCollectionCount(), 0);
+                timeMs += Math.max(bean.getCollectionTime(), 0);
+            }
+            return new Gc(collections, timeMs);
+        }
+
+        Gc minus(Gc start) {
+            return new Gc(collections - start.collections, timeMs - start.timeMs);
+        }
+    }
+
+    record Stats(long requests, long errors, double p50Ms, double p99Ms, double rps) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    static LoadTestReport of(Map<LoadTestRunner.Operation, LoadTestRunner.Recorder> recorders, Duration duration, Gc gc) {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        LoadTestRunner.Recorder total = new LoadTestRunner.Recorder();
+
+        recorders.forEach((operation, recorder) -> {
+            stats.put(operation.name().toLowerCase(Locale.ROOT), toStats(recorder, seconds));
+            total.merge(recorder);
+        });
+        stats.put("total", toStats(total, seconds));
+        return new LoadTestReport(stats, gc);
+    }
+
+    private static Stats toStats(LoadTestRunner.Recorder recorder, double seconds) {
+        long[] sorted = recorder.sortedLatencies();
+        return new Stats(sorted.length, recorder.errors(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.length / seconds);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    Stats total() {
+        return stats.get("total");
+    }
+
+    String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-10s %10s %8s %10s %10s %10s%n", "operation", "requests", "errors", "p50(ms)", "p99(ms)", "rps"));
+        stats.forEach((name, s) -> sb.append(String.format(Locale.ROOT, "%-10s %10d %7.2f%% %10.2f %10.2f %10.1f%n",
+                name, s.requests(), s.errorRate() * 100, s.p50Ms(), s.p99Ms(), s.rps())));
+        sb.append(String.format("GC %d회, %dms%n", gc.collections(), gc.timeMs()));
+        return sb.toString();
+    }
+
+    void writeTo(Path path) throws IOException {
+        Properties properties = new Properties();
+        stats.forEach((name, s) -> {
+            properties.setProperty(name + ".p50", String.valueOf(s.p50Ms()));
+            properties.setProperty(name + ".p99", String.valueOf(s.p99Ms()));
+            properties.setProperty(name + ".rps", String.valueOf(s.rps()));
+            properties.setProperty(name + ".errorRate", String.valueOf(s.errorRate()));
+        });
+        properties.setProperty("gc.collections", String.valueOf(gc.collections()));
+        properties.setProperty("gc.timeMs", String.valueOf(gc.timeMs()));
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "flow load test");
+        }
+    }
+
+    /**
+     * 기준선 대비 p99 증가 / RPS 감소가 허용 비율(tolerance)을 넘은 항목 목록
+     */
+    List<String> regressionsAgainst(Path baselinePath, double tolerance) throws IOException {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(baselinePath)) {
+            baseline.load(reader);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        stats.forEach((name, s) -> {
+            String p99 = baseline.getProperty(name + ".p99");
+            if (p99 != null && s.p99Ms() > Double.parseDouble(p99) * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 %.2fms > 기준 %sms", name, s.p99Ms(), p99));
+            }
+            String rps = baseline.getProperty(name + ".rps");
+            if (rps != null && s.rps() < Double.parseDouble(rps) * (1 - tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s rps %.1f < 기준 %s", name, s.rps(), rps));
+            }
+        });
+        return regressions;
+    }
+}
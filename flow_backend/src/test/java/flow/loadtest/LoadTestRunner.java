@@ -0,0 +1,249 @@
+package flow.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 확장자 확인 / 업로드 / 다운로드 API 부하 발생기
+ * - 고정 동시성(closed model)으로 각 워커가 가중치에 따라 요청을 골라 반복 호출
+ * - 워밍업 구간은 집계에서 제외하고, 요청 종류별 p50/p99, RPS, 에러율을 계산
+ */
+class LoadTestRunner {
+
+    enum Operation { CHECK, UPLOAD, DOWNLOAD }
+
+    private static final String[] CHECK_EXTENSIONS = {"txt", "pdf", "exe", "sh", "jpg", "bat", "zip", "js"};
+    private static final String[] UPLOAD_EXTENSIONS = {"txt", "pdf", "png", "csv"};
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern URL_PATTERN = Pattern.compile("\"url\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int MAX_TRACKED_IDS = 1_000;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int[] weights;
+    private final int uploadSize;
+    private final String apiKey;
+
+    private final List<Long> uploadedIds = new CopyOnWriteArrayList<>();
+
+    LoadTestRunner(String baseUrl, int concurrency, Duration warmup, Duration duration, int[] weights, int uploadSize,
+                   String apiKey) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.weights = weights;
+        this.uploadSize = uploadSize;
+        this.apiKey = apiKey;
+    }
+
+    /**
+     * 다운로드 대상 파일을 미리 업로드
+     */
+    void seed(int files) throws Exception {
+        for (int i = 0; i < files; i++) {
+            if (upload() / 100 != 2) {
+                throw new IllegalStateException("시드 파일 업로드 실패");
+            }
+        }
+    }
+
+    LoadTestReport run() throws Exception {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        List<Future<Map<Operation, Recorder>>> futures = new ArrayList<>();
+        LoadTestReport.Gc gcStart;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> work(warmupEnd, end)));
+            }
+            // 워밍업 이후 구간의 GC 만 집계
+            Thread.sleep(warmup.toMillis());
+            gcStart = LoadTestReport.Gc.snapshot();
+        }
+        LoadTestReport.Gc gc = LoadTestReport.Gc.snapshot().minus(gcStart);
+
+        Map<Operation, Recorder> merged = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            merged.put(operation, new Recorder());
+        }
+        for (Future<Map<Operation, Recorder>> future : futures) {
+            future.get().forEach((operation, recorder) -> merged.get(operation).merge(recorder));
+        }
+        return LoadTestReport.of(merged, duration, gc);
+    }
+
+    private Map<Operation, Recorder> work(long warmupEnd, long end) {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = pick();
+            int status;
+            try {
+                status = execute(operation);
+            } catch (Exception e) {
+                status = -1;
+            }
+            long elapsed = System.nanoTime() - now;
+            if (now >= warmupEnd) {
+                recorders.get(operation).record(elapsed, status / 100 == 2);
+            }
+        }
+        return recorders;
+    }
+
+    private Operation pick() {
+        int total = Arrays.stream(weights).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return Operation.values()[i];
+            }
+        }
+        return Operation.CHECK;
+    }
+
+    private int execute(Operation operation) throws Exception {
+        return switch (operation) {
+            case CHECK -> check();
+            case UPLOAD -> upload();
+            case DOWNLOAD -> download();
+        };
+    }
+
+    private int check() throws Exception {
+        String extension = CHECK_EXTENSIONS[ThreadLocalRandom.current().nextInt(CHECK_EXTENSIONS.length)];
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/extensions/check/" + extension))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int upload() throws Exception {
+        String boundary = "----flow-load-" + UUID.randomUUID();
+        String extension = UPLOAD_EXTENSIONS[ThreadLocalRandom.current().nextInt(UPLOAD_EXTENSIONS.length)];
+        byte[] content = new byte[uploadSize];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(uploadSize + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load." + extension + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/files/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        Matcher matcher = ID_PATTERN.matcher(response.body());
+        if (response.statusCode() / 100 == 2 && uploadedIds.size() < MAX_TRACKED_IDS && matcher.find()) {
+            uploadedIds.add(Long.parseLong(matcher.group(1)));
+        }
+        return response.statusCode();
+    }
+
+    private int download() throws Exception {
+        if (uploadedIds.isEmpty()) {
+            return upload();
+        }
+        Long id = uploadedIds.get(ThreadLocalRandom.current().nextInt(uploadedIds.size()));
+
+        // API 키가 없으면 브라우저와 같은 일반 다운로드 경로
+        if (apiKey == null) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/files/" + id + "/download"))
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+
+        // 발급된 키가 있으면 링크를 발급받아 서명된 경로로 내려받음 (두 번의 요청)
+        HttpRequest linkRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/files/" + id + "/link"))
+                .header("X-Api-Key", apiKey)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> link = client.send(linkRequest, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = URL_PATTERN.matcher(link.body());
+        if (link.statusCode() / 100 != 2 || !matcher.find()) {
+            return link.statusCode();
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + matcher.group(1)))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 워커별 지연 시간 기록 (워커 간 공유하지 않으므로 동기화 불필요)
+     */
+    static class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        int count() {
+            return count;
+        }
+
+        long errors() {
+            return errors;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import ApiAxios from '@/api/ApiAxios.js'
  * - 고정 확장자와 커스텀 확장자의 CRUD 작업 처리
  * - 확장자 테스트 및 차단 해제 기능 제공
  * - 모든 API 호출과 상태 관리를 중앙화
+ * - SSE 스트림 구독 시 서버가 보내는 변경분으로 목록을 갱신 (재조회 없음)
+ * - 커스텀 확장자는 수만 개까지 등록될 수 있으므로 확장자명 순 페이지(GET /api/extensions/custom/page)로 조회
  */
 export const useExtensionStore = defineStore('extension', () => {
   // ===== 상태 (State) =====
@@ -14,6 +16,17 @@ export const useExtensionStore = defineStore('extension', () => {
   const customExtensions = ref([])       // 커스텀 확장자 목록
   const isLoadingFixed = ref(false)      // 고정 확장자 로딩 상태
   const isLoadingCustom = ref(false)     // 커스텀 확장자 로딩 상태
+  const isLive = ref(false)              // 정책 변경 스트림 연결 상태
+  const maxCustomExtensions = ref(200)   // 커스텀 확장자 등록 한도 (서버 설정)
+  const customExtensionCount = ref(0)    // 등록된 커스텀 확장자 전체 개수 (서버 기준)
+  const customQuery = ref('')            // 커스텀 확장자 접두사 검색어
+  const customNextCursor = ref(null)     // 다음 페이지 커서 (마지막으로 받은 확장자명)
+  const customHasNext = ref(false)       // 다음 페이지 존재 여부
+
+  let eventSource = null                 // 정책 변경 스트림 (EventSource)
+  let lastPolicyVersion = null           // 마지막으로 반영한 정책 버전
+
+  const CUSTOM_PAGE_SIZE = 50            // 커스텀 확장자 페이지 크기
 
   // ===== 고정 확장자 관련 액션 =====
 
@@ -65,7 +78,7 @@ export const useExtensionStore = defineStore('extension', () => {
       })
       console.log('🔄 고정확장자 토글 응답:', response.data)
       if (response.data.success) {
-        await loadFixedExtensions()
+        if (!isLive.value) await loadFixedExtensions()
         return { success: true, data: response.data.data }
       }
       return { success: false, error: '고정 확장자 토글 실패' }
@@ -88,7 +101,7 @@ export const useExtensionStore = defineStore('extension', () => {
     try {
       const response = await ApiAxios.post('/api/extensions/fixed', { extension })
       if (response.data.success) {
-        await loadFixedExtensions()
+        if (!isLive.value) await loadFixedExtensions()
         return { success: true, data: response.data.data }
       }
       return { success: false, error: '고정 확장자 추가 실패' }
@@ -118,7 +131,7 @@ export const useExtensionStore = defineStore('extension', () => {
     try {
       const response = await ApiAxios.delete(`/api/extensions/fixed/${id}`)
       if (response.data.success) {
-        await loadFixedExtensions()
+        if (!isLive.value) await loadFixedExtensions()
         return { success: true }
       }
       return { success: false, error: '고정 확장자 삭제 실패' }
@@ -140,7 +153,7 @@ export const useExtensionStore = defineStore('extension', () => {
     try {
       const response = await ApiAxios.post('/api/extensions/fixed/reset')
       if (response.data.success) {
-        await loadFixedExtensions()
+        if (!isLive.value) await loadFixedExtensions()
         return { success: true }
       }
       return { success: false, error: '고정 확장자 초기화 실패' }
@@ -153,21 +166,70 @@ export const useExtensionStore = defineStore('extension', () => {
   // ===== 커스텀 확장자 관련 액션 =====
 
   /**
-   * 커스텀 확장자 목록을 서버에서 조회
-   * - GET /api/extensions/custom 호출
-   * - 사용자가 직접 추가한 확장자들의 목록 조회
+   * 커스텀 확장자 한 페이지를 서버에서 조회
+   * - GET /api/extensions/custom/page?q=&cursor=&size= 호출 (확장자명 순 키셋 페이지)
+   * @param {string|null} cursor - 이 확장자명 다음부터 조회 (첫 페이지는 null)
+   * @returns {Object} 서버 응답 본문
+   */
+  const fetchCustomExtensionPage = async (cursor) => {
+    const params = { size: CUSTOM_PAGE_SIZE }
+    if (customQuery.value) params.q = customQuery.value
+    if (cursor) params.cursor = cursor
+    const response = await ApiAxios.get('/api/extensions/custom/page', { params })
+    return response.data
+  }
+
+  /**
+   * 커스텀 확장자 목록의 첫 페이지를 서버에서 조회
+   * - 사용자가 직접 추가한 확장자들의 목록 조회 (전체를 한 번에 받지 않음)
    * - 고정 확장자와 달리 항상 차단 상태 (토글 불가)
+   * @param {Object} [options]
+   * @param {string} [options.query] - 접두사 검색어 (생략 시 현재 검색어 유지)
    * @returns {Object} { success: boolean, data?: Array, error?: string }
    */
-  const loadCustomExtensions = async () => {
+  const loadCustomExtensions = async ({ query } = {}) => {
+    if (query !== undefined) {
+      customQuery.value = query.trim().toLowerCase()
+    }
     isLoadingCustom.value = true
     try {
-      const response = await ApiAxios.get('/api/extensions/custom')
-      console.log('🔍 loadCustomExtensions 응답:', response.data)
-      if (response.data.success) {
-        customExtensions.value = response.data.data
-        console.log('🔍 커스텀 확장자 데이터:', response.data.data)
-        return { success: true, data: response.data.data }
+      const body = await fetchCustomExtensionPage(null)
+      if (body.success) {
+        customExtensions.value = body.data.items
+        customNextCursor.value = body.data.nextCursor
+        customHasNext.value = body.data.hasNext
+        return { success: true, data: body.data.items }
+      }
+      return { success: false, error: '커스텀 확장자 조회 실패' }
+    } catch (error) {
+      console.error('커스텀 확장자 조회 실패:', error)
+      return { success: false, error: error.message }
+    } finally {
+      isLoadingCustom.value = false
+    }
+  }
+
+  /**
+   * 커스텀 확장자 다음 페이지를 조회하여 목록 뒤에 이어 붙임
+   * @returns {Object} { success: boolean, data?: Array, error?: string }
+   */
+  const loadMoreCustomExtensions = async () => {
+    if (!customHasNext.value || isLoadingCustom.value) {
+      return { success: true, data: [] }
+    }
+    isLoadingCustom.value = true
+    try {
+      const body = await fetchCustomExtensionPage(customNextCursor.value)
+      if (body.success) {
+        // 스트림으로 먼저 반영된 항목과 겹치지 않도록 중복 제거
+        const loadedIds = new Set(customExtensions.value.map(ext => ext.id))
+        customExtensions.value = [
+          ...customExtensions.value,
+          ...body.data.items.filter(ext => !loadedIds.has(ext.id))
+        ]
+        customNextCursor.value = body.data.nextCursor
+        customHasNext.value = body.data.hasNext
+        return { success: true, data: body.data.items }
       }
       return { success: false, error: '커스텀 확장자 조회 실패' }
     } catch (error) {
@@ -182,7 +244,7 @@ export const useExtensionStore = defineStore('extension', () => {
    * 새로운 커스텀 확장자를 추가
    * - POST /api/extensions/custom 호출
    * - 사용자가 입력한 확장자를 커스텀 확장자 목록에 추가
-   * - 최대 200개까지 제한 (유효성 검증은 컴포넌트에서 처리)
+   * - 등록 한도는 서버 설정(maxCustomExtensions)을 따름 (유효성 검증은 컴포넌트에서 처리)
    * - 추가된 확장자는 즉시 차단 상태가 됨
    * - 성공 시 목록을 새로고침하여 추가된 항목 반영
    * @param {string} extension - 추가할 확장자명
@@ -192,7 +254,7 @@ export const useExtensionStore = defineStore('extension', () => {
     try {
       const response = await ApiAxios.post('/api/extensions/custom', { extension })
       if (response.data.success) {
-        await loadCustomExtensions()
+        if (!isLive.value) await Promise.all([loadCustomExtensions(), loadExtensionLimits()])
         return { success: true, data: response.data.data }
       }
       return { success: false, error: '커스텀 확장자 추가 실패' }
@@ -222,7 +284,7 @@ export const useExtensionStore = defineStore('extension', () => {
     try {
       const response = await ApiAxios.delete(`/api/extensions/custom/${id}`)
       if (response.data.success) {
-        await loadCustomExtensions()
+        if (!isLive.value) await Promise.all([loadCustomExtensions(), loadExtensionLimits()])
         return { success: true }
       }
       return { success: false, error: '커스텀 확장자 삭제 실패' }
@@ -244,7 +306,7 @@ export const useExtensionStore = defineStore('extension', () => {
     try {
       const response = await ApiAxios.delete('/api/extensions/custom/all')
       if (response.data.success) {
-        await loadCustomExtensions()
+        if (!isLive.value) await Promise.all([loadCustomExtensions(), loadExtensionLimits()])
         return { success: true }
       }
       return { success: false, error: '커스텀 확장자 전체 삭제 실패' }
@@ -254,6 +316,28 @@ export const useExtensionStore = defineStore('extension', () => {
     }
   }
 
+  /**
+   * 서버에 설정된 확장자 등록 한도를 조회
+   * - GET /api/extensions/limits 호출
+   * - 등록된 커스텀 확장자 개수도 함께 받음 (목록은 페이지 단위라 길이로 셀 수 없음)
+   * - 실패 시 기본값(200)을 유지
+   * @returns {Object} { success: boolean, error?: string }
+   */
+  const loadExtensionLimits = async () => {
+    try {
+      const response = await ApiAxios.get('/api/extensions/limits')
+      if (response.data.success) {
+        maxCustomExtensions.value = response.data.data.maxCustomExtensions
+        customExtensionCount.value = response.data.data.customExtensionCount ?? customExtensionCount.value
+        return { success: true }
+      }
+      return { success: false, error: '확장자 한도 조회 실패' }
+    } catch (error) {
+      console.error('확장자 한도 조회 실패:', error)
+      return { success: false, error: error.message }
+    }
+  }
+
   // ===== 확장자 테스트 관련 액션 =====
 
   /**
@@ -316,9 +400,10 @@ export const useExtensionStore = defineStore('extension', () => {
 
       if (response.data.success) {
         // 해당 타입의 확장자 목록 새로고침
-        if (type === 'custom') {
-          await loadCustomExtensions()
-        } else if (type === 'fixed') {
+        // 스트림 연결 중에는 변경분이 전달되므로 재조회하지 않음
+        if (type === 'custom' && !isLive.value) {
+          await Promise.all([loadCustomExtensions(), loadExtensionLimits()])
+        } else if (type === 'fixed' && !isLive.value) {
           await loadFixedExtensions()
         }
         return { success: true, type }
@@ -330,6 +415,117 @@ export const useExtensionStore = defineStore('extension', () => {
     }
   }
 
+  // ===== 정책 변경 스트림 (SSE) =====
+
+  /**
+   * 서버에서 받은 정책 변경분을 로컬 목록에 반영
+   * - ADDED/UPDATED/DELETED: 해당 항목만 갱신
+   * - RESET: 전체 삭제/초기화 등 항목 단위로 표현할 수 없는 변경이므로 해당 목록을 재조회
+   * - 버전이 마지막 반영 버전 + 1 이 아니면 놓쳤거나 순서가 바뀐 변경이 있으므로 두 목록을 모두 재조회
+   * @param {Object} diff - { version, scope, type, id, extension, blocked, description }
+   */
+  const applyPolicyDiff = async (diff) => {
+    const inOrder = lastPolicyVersion !== null && diff.version === lastPolicyVersion + 1
+    lastPolicyVersion = lastPolicyVersion === null ? diff.version : Math.max(lastPolicyVersion, diff.version)
+
+    if (!inOrder) {
+      await Promise.all([loadFixedExtensions(), loadCustomExtensions(), loadExtensionLimits()])
+      return
+    }
+
+    if (diff.scope === 'fixed') {
+      if (diff.type === 'RESET') {
+        await loadFixedExtensions()
+        return
+      }
+      const others = fixedExtensions.value.filter(ext => ext.id !== diff.id)
+      if (diff.type === 'DELETED') {
+        fixedExtensions.value = others
+        return
+      }
+      const item = {
+        id: diff.id,
+        extension: diff.extension,
+        description: diff.description,
+        blocked: diff.blocked,
+        isBlocked: diff.blocked
+      }
+      // 서버와 동일하게 확장자명 순으로 정렬
+      fixedExtensions.value = [...others, item].sort((a, b) => a.extension.localeCompare(b.extension))
+    } else if (diff.scope === 'custom') {
+      if (diff.type === 'RESET') {
+        await Promise.all([loadCustomExtensions(), loadExtensionLimits()])
+        return
+      }
+      if (diff.type === 'DELETED') {
+        customExtensions.value = customExtensions.value.filter(ext => ext.id !== diff.id)
+        customExtensionCount.value = Math.max(0, customExtensionCount.value - 1)
+        return
+      }
+      const exists = customExtensions.value.some(ext => ext.id === diff.id)
+      if (exists) {
+        customExtensions.value = customExtensions.value.map(ext => ext.id === diff.id ? { ...ext, blocked: diff.blocked } : ext)
+        return
+      }
+      if (diff.type === 'ADDED') {
+        customExtensionCount.value += 1
+      }
+      // 검색어에 맞고 이미 받은 범위 안에 들어가는 항목만 확장자명 순으로 끼워 넣음 (범위 밖은 다음 페이지에서 받음)
+      const lastLoaded = customExtensions.value[customExtensions.value.length - 1]
+      const inLoadedRange = !customHasNext.value || (lastLoaded && diff.extension < lastLoaded.extension)
+      if (diff.extension.startsWith(customQuery.value) && inLoadedRange) {
+        customExtensions.value = [...customExtensions.value, { id: diff.id, extension: diff.extension, blocked: diff.blocked }]
+          .sort((a, b) => (a.extension < b.extension ? -1 : a.extension > b.extension ? 1 : 0))
+      }
+    }
+  }
+
+  /**
+   * 정책 변경 스트림 구독 시작
+   * - GET /api/extensions/stream (Server-Sent Events)
+   * - 연결 중에는 추가/삭제/토글 후 목록을 재조회하지 않고 서버가 보내는 변경분만 반영
+   * - 재연결 시 정책 버전이 달라졌으면 놓친 변경이 있으므로 전체 목록을 다시 조회
+   */
+  const subscribePolicyChanges = () => {
+    if (eventSource || typeof EventSource === 'undefined') {
+      return
+    }
+
+    const baseURL = import.meta.env.VITE_API_BASE_URL || ''
+    eventSource = new EventSource(`${baseURL}/api/extensions/stream`)
+
+    eventSource.addEventListener('connected', async (event) => {
+      const { version } = JSON.parse(event.data)
+      const missedChanges = lastPolicyVersion !== null && lastPolicyVersion !== version
+      lastPolicyVersion = version
+      isLive.value = true
+
+      if (missedChanges) {
+        await Promise.all([loadFixedExtensions(), loadCustomExtensions(), loadExtensionLimits()])
+      }
+    })
+
+    eventSource.addEventListener('policy', (event) => {
+      applyPolicyDiff(JSON.parse(event.data))
+    })
+
+    // 연결이 끊기면 EventSource 가 자동 재연결하며, 그 사이에는 기존 방식(재조회)으로 동작
+    eventSource.onerror = () => {
+      isLive.value = false
+    }
+  }
+
+  /**
+   * 정책 변경 스트림 구독 해제
+   */
+  const unsubscribePolicyChanges = () => {
+    if (eventSource) {
+      eventSource.close()
+      eventSource = null
+    }
+    isLive.value = false
+  }
+
   // ===== Getters (계산된 속성) =====
 
   /**
@@ -372,22 +568,31 @@ export const useExtensionStore = defineStore('extension', () => {
     fixedExtensions.value.filter(ext => !ext.isBlocked)
   )
 
+  /**
+   * 등록된 커스텀 확장자 개수 (서버 기준, 받지 않은 페이지 포함)
+   * - 한도 조회 전에는 받은 목록 길이로 대신함
+   */
+  const getCustomExtensionCount = computed(() =>
+    Math.max(customExtensionCount.value, customQuery.value ? 0 : customExtensions.value.length)
+  )
+
   /**
    * 전체 확장자 개수 (고정 + 커스텀)
    */
   const getTotalExtensionCount = computed(() =>
-    fixedExtensions.value.length + customExtensions.value.length
+    fixedExtensions.value.length + getCustomExtensionCount.value
   )
 
   /**
    * 차단된 전체 확장자 개수
    */
   const getBlockedExtensionCount = computed(() =>
-    getBlockedFixedExtensions.value.length + customExtensions.value.length
+    getBlockedFixedExtensions.value.length + getCustomExtensionCount.value
   )
 
   /**
    * 특정 확장자가 차단되어 있는지 확인
+   * - 커스텀 확장자는 받은 페이지 범위 안에서만 판단하므로 정확한 결과는 checkExtension 사용
    * @param {string} extension - 확인할 확장자명
    * @returns {boolean} 차단 여부
    */
@@ -414,6 +619,11 @@ export const useExtensionStore = defineStore('extension', () => {
     customExtensions,
     isLoadingFixed,
     isLoadingCustom,
+    isLive,
+    maxCustomExtensions,
+    customExtensionCount,
+    customQuery,
+    customHasNext,
 
     // Getters (계산된 속성) - 권장 접근 방법
     getFixedExtensions,
@@ -422,6 +632,7 @@ export const useExtensionStore = defineStore('extension', () => {
     isCustomLoading,
     getBlockedFixedExtensions,
     getAllowedFixedExtensions,
+    getCustomExtensionCount,
     getTotalExtensionCount,
     getBlockedExtensionCount,
     isExtensionBlocked,
@@ -434,14 +645,21 @@ export const useExtensionStore = defineStore('extension', () => {
     resetFixedExtensions,   // 고정 확장자 초기화
 
     // 커스텀 확장자 액션들
-    loadCustomExtensions,     // 커스텀 확장자 목록 조회
+    loadCustomExtensions,     // 커스텀 확장자 첫 페이지 조회 (검색어 지정 가능)
+    loadMoreCustomExtensions, // 커스텀 확장자 다음 페이지 조회
     addCustomExtension,       // 커스텀 확장자 추가
     deleteCustomExtension,    // 커스텀 확장자 삭제
     deleteAllCustomExtensions, // 커스텀 확장자 전체 삭제
+    loadExtensionLimits,       // 확장자 등록 한도 조회
 
     // 확장자 테스트 액션들
     checkExtension,         // 확장자 차단 상태 확인
     getExtensionType,       // 확장자 타입 확인 (fixed/custom)
-    unblockExtension        // 확장자 차단 해제
+    unblockExtension,       // 확장자 차단 해제
+
+    // 정책 변경 스트림 액션들
+    subscribePolicyChanges,   // SSE 구독 시작
+    unsubscribePolicyChanges, // SSE 구독 해제
+    applyPolicyDiff           // 변경분 반영
   }
 })
\ No newline at end of file
@@ -5,35 +5,116 @@ import ApiAxios from '@/api/ApiAxios.js'
 /**
  * 파일 관리를 위한 Pinia 스토어
  * - 파일 업로드, 다운로드, 삭제, 목록 조회 기능 제공
+ * - 목록은 검색 API 로 페이지 단위 조회 (전체 목록을 한 번에 받지 않음)
  * - 업로드 진행 상황 관리
- * - 확장자 차단 여부 확인
+ * - 확장자 차단 여부 확인 (차단 목록 번들로 업로드 전 브라우저에서 사전 검사)
  */
 export const useFileStore = defineStore('file', () => {
   // ===== 상태 (State) =====
-  const files = ref([])              // 업로드된 파일 목록
+  const files = ref([])              // 업로드된 파일 목록 (불러온 페이지까지)
   const isLoadingFiles = ref(false)  // 파일 목록 로딩 상태
+  const fileQuery = ref('')          // 파일명 접두사 검색어
+  const filesNextCursor = ref(null)  // 다음 페이지 커서 (마지막 파일 ID)
+  const filesNextCursorName = ref(null) // 접두사 검색의 다음 페이지 커서 (마지막 파일명)
+  const filesHasNext = ref(false)    // 다음 페이지 존재 여부
   const uploadingFiles = ref([])     // 업로드 진행 중인 파일들
+  const blockedExtensions = ref(null) // 차단 확장자 Set (번들 미수신 시 null)
 
-  // 파일 목록 조회
-  const loadFiles = async () => {
+  const FILE_PAGE_SIZE = 50
+
+  // 현재 검색어로 한 페이지 검색 (cursor 가 없으면 첫 페이지)
+  const fetchFilePage = (cursor, cursorName) => {
+    const params = { size: FILE_PAGE_SIZE }
+    if (fileQuery.value) params.q = fileQuery.value
+    if (cursor != null) params.cursor = cursor
+    if (cursorName != null) params.cursorName = cursorName
+    return searchFiles(params)
+  }
+
+  const applyFilePage = (page) => {
+    filesNextCursor.value = page.nextCursor
+    filesNextCursorName.value = page.nextCursorName ?? null
+    filesHasNext.value = page.hasNext
+  }
+
+  // 파일 목록 첫 페이지 조회
+  // - 검색어가 없으면 최신 업로드 순, 있으면 파일명 순
+  // - query 를 생략하면 현재 검색어 유지
+  const loadFiles = async ({ query } = {}) => {
+    if (query !== undefined) {
+      fileQuery.value = query.trim()
+    }
+    isLoadingFiles.value = true
+    try {
+      const result = await fetchFilePage(null, null)
+      if (result.success) {
+        files.value = result.data.items
+        applyFilePage(result.data)
+        return { success: true, data: result.data.items }
+      }
+      return { success: false, error: result.error || '파일 목록 조회 실패' }
+    } finally {
+      isLoadingFiles.value = false
+    }
+  }
+
+  // 파일 목록 다음 페이지를 조회하여 뒤에 이어 붙임
+  const loadMoreFiles = async () => {
+    if (!filesHasNext.value || isLoadingFiles.value) {
+      return { success: true, data: [] }
+    }
     isLoadingFiles.value = true
     try {
-      const response = await ApiAxios.get('/api/files')
+      const result = await fetchFilePage(filesNextCursor.value, filesNextCursorName.value)
+      if (result.success) {
+        files.value = [...files.value, ...result.data.items]
+        applyFilePage(result.data)
+        return { success: true, data: result.data.items }
+      }
+      return { success: false, error: result.error || '파일 목록 조회 실패' }
+    } finally {
+      isLoadingFiles.value = false
+    }
+  }
+
+  // 서버 측 파일 검색
+  // - GET /api/files/search (q, match, extension, contentType, minSize, maxSize, createdFrom, createdTo, cursor, cursorName, size)
+  // - 다음 페이지는 응답의 nextCursor (접두사 검색이면 nextCursorName 도 함께) 를 cursor / cursorName 으로 넘겨 조회
+  const searchFiles = async (params = {}) => {
+    try {
+      const response = await ApiAxios.get('/api/files/search', { params })
       if (response.data.success) {
-        files.value = response.data.data
         return { success: true, data: response.data.data }
       }
-      return { success: false, error: '파일 목록 조회 실패' }
+      return { success: false, error: response.data.message || '파일 검색 실패' }
     } catch (error) {
-      console.error('파일 목록 조회 실패:', error)
+      console.error('파일 검색 실패:', error)
+      return { success: false, error: error.message }
+    }
+  }
+
+  // 차단 목록 번들 조회
+  // - GET /api/extensions/blocklist (정렬된 확장자, 한 줄에 하나)
+  // - 브라우저 HTTP 캐시가 ETag 로 재검증하므로 변경이 없으면 304 로 본문 없이 끝남
+  const loadBlocklist = async () => {
+    try {
+      const response = await ApiAxios.get('/api/extensions/blocklist', { responseType: 'text' })
+      const lines = response.data ? response.data.split('\n') : []
+      blockedExtensions.value = new Set(lines.filter(line => line.length > 0))
+      return { success: true }
+    } catch (error) {
+      console.error('차단 목록 조회 실패:', error)
       return { success: false, error: error.message }
-    } finally {
-      isLoadingFiles.value = false
     }
   }
 
   // 확장자 차단 여부 확인
+  // - 번들이 있으면 네트워크 요청 없이 판단 (최종 차단 여부는 업로드 시 서버가 다시 검사)
   const checkFileExtension = async (extension) => {
+    if (blockedExtensions.value) {
+      return { success: true, isBlocked: blockedExtensions.value.has(extension.toLowerCase()) }
+    }
+
     try {
       const response = await ApiAxios.get(`/api/extensions/check/${extension}`)
       return { success: true, isBlocked: response.data.data }
@@ -93,23 +174,16 @@ export const useFileStore = defineStore('file', () => {
     }
   }
 
-  // 파일 다운로드
+  // 파일 다운로드 (브라우저가 직접 내려받음 - 메모리에 Blob 으로 쌓지 않음)
+  // 서명된 링크 발급은 API 키가 필요한 서버 간 클라이언트 전용이므로 브라우저는 일반 다운로드 경로 사용
   const downloadFile = async (file) => {
     try {
-      const response = await ApiAxios.get(`/api/files/${file.id}/download`, {
-        responseType: 'blob'
-      })
-
-      // Blob URL 생성 및 다운로드
-      const blob = new Blob([response.data])
-      const url = window.URL.createObjectURL(blob)
       const link = document.createElement('a')
-      link.href = url
+      link.href = `${ApiAxios.defaults.baseURL || ''}/api/files/${file.id}/download`
       link.download = file.originalFilename
       document.body.appendChild(link)
       link.click()
       document.body.removeChild(link)
-      window.URL.revokeObjectURL(url)
 
       return { success: true }
     } catch (error) {
@@ -118,6 +192,9 @@ export const useFileStore = defineStore('file', () => {
     }
   }
 
+  // 썸네일 경로 (이미지 업로드 후 백엔드에서 생성, 다운로드와 같은 권한 확인 후 브라우저에만 1시간 캐시)
+  const thumbnailUrl = (file) => `${ApiAxios.defaults.baseURL || ''}/api/files/${file.id}/thumbnail`
+
   // 파일 삭제
   const deleteFile = async (file) => {
     try {
@@ -152,7 +229,7 @@ export const useFileStore = defineStore('file', () => {
   const getUploadingFiles = computed(() => uploadingFiles.value)
 
   /**
-   * 전체 파일 개수
+   * 불러온 파일 개수
    */
   const getTotalFileCount = computed(() => files.value.length)
 
@@ -176,7 +253,7 @@ export const useFileStore = defineStore('file', () => {
   )
 
   /**
-   * 전체 파일 크기 합계 (바이트)
+   * 불러온 파일 크기 합계 (바이트)
    */
   const getTotalFileSize = computed(() =>
     files.value.reduce((total, file) => total + (file.fileSize || 0), 0)
@@ -198,7 +275,10 @@ export const useFileStore = defineStore('file', () => {
     // 상태 (State) - 직접 접근용 (storeToRefs 사용 시)
     files,
     isLoadingFiles,
+    fileQuery,
+    filesHasNext,
     uploadingFiles,
+    blockedExtensions,
 
     // Getters (계산된 속성) - 권장 접근 방법
     getFiles,
@@ -213,9 +293,13 @@ export const useFileStore = defineStore('file', () => {
 
     // Actions (액션들)
     loadFiles,
+    loadMoreFiles,
+    searchFiles,
+    loadBlocklist,
     checkFileExtension,
     uploadFile,
     downloadFile,
+    thumbnailUrl,
     deleteFile
   }
 })
\ No newline at end of file
@@ -182,21 +182,50 @@ describe('Extension Store', () => {
 
   describe('커스텀 확장자 관련 기능', () => {
     describe('loadCustomExtensions', () => {
-      it('커스텀 확장자 조회 성공', async () => {
+      it('커스텀 확장자 첫 페이지 조회 성공', async () => {
         const mockData = [
           { id: 1, extension: 'custom1' },
           { id: 2, extension: 'custom2' }
         ]
 
         ApiAxios.get.mockResolvedValue({
-          data: { success: true, data: mockData }
+          data: { success: true, data: { items: mockData, nextCursor: 'custom2', hasNext: true } }
         })
 
         const result = await store.loadCustomExtensions()
 
-        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom')
+        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50 } })
         expect(result.success).toBe(true)
         expect(store.customExtensions).toEqual(mockData)
+        expect(store.customHasNext).toBe(true)
+      })
+
+      it('검색어를 지정하면 접두사 검색으로 조회', async () => {
+        ApiAxios.get.mockResolvedValue({
+          data: { success: true, data: { items: [], nextCursor: null, hasNext: false } }
+        })
+
+        await store.loadCustomExtensions({ query: ' PS ' })
+
+        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50, q: 'ps' } })
+        expect(store.customQuery).toBe('ps')
+      })
+
+      it('다음 페이지는 커서로 조회하여 이어 붙임', async () => {
+        ApiAxios.get
+          .mockResolvedValueOnce({
+            data: { success: true, data: { items: [{ id: 1, extension: 'a' }], nextCursor: 'a', hasNext: true } }
+          })
+          .mockResolvedValueOnce({
+            data: { success: true, data: { items: [{ id: 2, extension: 'b' }], nextCursor: null, hasNext: false } }
+          })
+
+        await store.loadCustomExtensions()
+        await store.loadMoreCustomExtensions()
+
+        expect(ApiAxios.get).toHaveBeenLastCalledWith('/api/extensions/custom/page', { params: { size: 50, cursor: 'a' } })
+        expect(store.customExtensions.map(ext => ext.extension)).toEqual(['a', 'b'])
+        expect(store.customHasNext).toBe(false)
       })
 
       it('커스텀 확장자 조회 실패', async () => {
@@ -218,14 +247,14 @@ describe('Extension Store', () => {
 
         ApiAxios.post.mockResolvedValue(mockResponse)
         ApiAxios.get.mockResolvedValue({
-          data: { success: true, data: [] }
+          data: { success: true, data: { items: [], nextCursor: null, hasNext: false } }
         })
 
         const result = await store.addCustomExtension('mycustom')
 
         expect(ApiAxios.post).toHaveBeenCalledWith('/api/extensions/custom', { extension: 'mycustom' })
         expect(result.success).toBe(true)
-        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom')
+        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50 } })
       })
     })
 
@@ -235,14 +264,14 @@ describe('Extension Store', () => {
           data: { success: true }
         })
         ApiAxios.get.mockResolvedValue({
-          data: { success: true, data: [] }
+          data: { success: true, data: { items: [], nextCursor: null, hasNext: false } }
         })
 
         const result = await store.deleteCustomExtension(1)
 
         expect(ApiAxios.delete).toHaveBeenCalledWith('/api/extensions/custom/1')
         expect(result.success).toBe(true)
-        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom')
+        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50 } })
       })
     })
 
@@ -252,14 +281,14 @@ describe('Extension Store', () => {
           data: { success: true }
         })
         ApiAxios.get.mockResolvedValue({
-          data: { success: true, data: [] }
+          data: { success: true, data: { items: [], nextCursor: null, hasNext: false } }
         })
 
         const result = await store.deleteAllCustomExtensions()
 
         expect(ApiAxios.delete).toHaveBeenCalledWith('/api/extensions/custom/all')
         expect(result.success).toBe(true)
-        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom')
+        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50 } })
       })
     })
   })
@@ -322,7 +351,7 @@ describe('Extension Store', () => {
           data: { success: true }
         })
         ApiAxios.get.mockResolvedValue({
-          data: { success: true, data: [] }
+          data: { success: true, data: { items: [], nextCursor: null, hasNext: false } }
         })
 
         const result = await store.unblockExtension('mycustom', 'custom')
@@ -330,7 +359,7 @@ describe('Extension Store', () => {
         expect(ApiAxios.delete).toHaveBeenCalledWith('/api/extensions/custom/extension/mycustom')
         expect(result.success).toBe(true)
         expect(result.type).toBe('custom')
-        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom')
+        expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50 } })
       })
 
       it('고정 확장자 차단 해제 (토글)', async () => {
@@ -394,4 +423,44 @@ describe('Extension Store', () => {
       expect(store.isExtensionBlocked('EXE')).toBe(true) // 대소문자 구분 없음
     })
   })
-})
\ No newline at end of file
+
+  describe('정책 변경 스트림', () => {
+    beforeEach(() => {
+      store.fixedExtensions = [
+        { id: 1, extension: 'bat', blocked: false, isBlocked: false },
+        { id: 2, extension: 'exe', blocked: false, isBlocked: false }
+      ]
+      store.customExtensions = [
+        { id: 10, extension: 'sh', blocked: true }
+      ]
+    })
+
+    it('고정 확장자 변경분이 재조회 없이 반영됨', async () => {
+      await store.applyPolicyDiff({ version: 3, scope: 'fixed', type: 'UPDATED', id: 2, extension: 'exe', blocked: true })
+      await store.applyPolicyDiff({ version: 4, scope: 'fixed', type: 'ADDED', id: 3, extension: 'cmd', blocked: false })
+
+      expect(ApiAxios.get).not.toHaveBeenCalled()
+      expect(store.fixedExtensions.map(ext => ext.extension)).toEqual(['bat', 'cmd', 'exe'])
+      expect(store.fixedExtensions.find(ext => ext.id === 2).isBlocked).toBe(true)
+    })
+
+    it('커스텀 확장자 추가/삭제 변경분이 반영됨', async () => {
+      await store.applyPolicyDiff({ version: 5, scope: 'custom', type: 'ADDED', id: 11, extension: 'ps1', blocked: true })
+      await store.applyPolicyDiff({ version: 6, scope: 'custom', type: 'DELETED', id: 10, extension: 'sh', blocked: true })
+
+      expect(store.customExtensions.map(ext => ext.extension)).toEqual(['ps1'])
+    })
+
+    it('RESET 변경분은 해당 목록을 재조회함', async () => {
+      ApiAxios.get.mockImplementation((url) => Promise.resolve(url === '/api/extensions/limits'
+        ? { data: { success: true, data: { maxCustomExtensions: 200, customExtensionCount: 0 } } }
+        : { data: { success: true, data: { items: [], nextCursor: null, hasNext: false } } }))
+
+      await store.applyPolicyDiff({ version: 7, scope: 'custom', type: 'RESET' })
+
+      expect(ApiAxios.get).toHaveBeenCalledWith('/api/extensions/custom/page', { params: { size: 50 } })
+      expect(store.customExtensions).toEqual([])
+      expect(store.customExtensionCount).toBe(0)
+    })
+  })
+})
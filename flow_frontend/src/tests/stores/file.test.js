@@ -0,0 +1,78 @@
+import { describe, it, expect, beforeEach, vi } from 'vitest'
+import { setActivePinia, createPinia } from 'pinia'
+import { useFileStore } from '@/stores/file'
+import ApiAxios from '@/api/ApiAxios.js'
+
+// Mock ApiAxios
+vi.mock('@/api/ApiAxios.js', () => ({
+  default: {
+    get: vi.fn(),
+    post: vi.fn(),
+    put: vi.fn(),
+    delete: vi.fn(),
+    defaults: {}
+  }
+}))
+
+describe('File Store', () => {
+  let store
+
+  beforeEach(() => {
+    setActivePinia(createPinia())
+    store = useFileStore()
+    vi.clearAllMocks()
+  })
+
+  describe('loadFiles', () => {
+    it('전체 목록 대신 검색 API 의 첫 페이지 조회', async () => {
+      ApiAxios.get.mockResolvedValue({
+        data: { success: true, data: { items: [{ id: 3 }, { id: 2 }], nextCursor: 2, nextCursorName: null, hasNext: true } }
+      })
+
+      const result = await store.loadFiles()
+
+      expect(ApiAxios.get).toHaveBeenCalledWith('/api/files/search', { params: { size: 50 } })
+      expect(ApiAxios.get).not.toHaveBeenCalledWith('/api/files')
+      expect(result.success).toBe(true)
+      expect(store.files).toHaveLength(2)
+      expect(store.filesHasNext).toBe(true)
+    })
+
+    it('검색어가 있으면 파일명 커서로 다음 페이지 조회', async () => {
+      ApiAxios.get
+        .mockResolvedValueOnce({
+          data: { success: true, data: { items: [{ id: 9 }], nextCursor: 9, nextCursorName: 'report-a.pdf', hasNext: true } }
+        })
+        .mockResolvedValueOnce({
+          data: { success: true, data: { items: [{ id: 4 }], nextCursor: null, nextCursorName: null, hasNext: false } }
+        })
+
+      await store.loadFiles({ query: ' report ' })
+      await store.loadMoreFiles()
+
+      expect(ApiAxios.get).toHaveBeenNthCalledWith(1, '/api/files/search', { params: { size: 50, q: 'report' } })
+      expect(ApiAxios.get).toHaveBeenNthCalledWith(2, '/api/files/search', {
+        params: { size: 50, q: 'report', cursor: 9, cursorName: 'report-a.pdf' }
+      })
+      expect(store.files.map(file => file.id)).toEqual([9, 4])
+      expect(store.filesHasNext).toBe(false)
+    })
+
+    it('마지막 페이지 이후에는 더 조회하지 않음', async () => {
+      const result = await store.loadMoreFiles()
+
+      expect(result.success).toBe(true)
+      expect(ApiAxios.get).not.toHaveBeenCalled()
+    })
+
+    it('조회 실패 시 기존 목록 유지', async () => {
+      ApiAxios.get.mockRejectedValue(new Error('Network Error'))
+
+      const result = await store.loadFiles()
+
+      expect(result.success).toBe(false)
+      expect(store.files).toEqual([])
+      expect(store.isLoadingFiles).toBe(false)
+    })
+  })
+})